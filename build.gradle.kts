@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,9 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.webflux)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -31,13 +35,29 @@ dependencies {
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(property("app.javaVersion").toString()))
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// benchmark tasks
+// ./gradlew jmh -Pjmh.includes=PointServiceBenchmark 처럼 특정 벤치마크만 실행할 수 있습니다.
+jmh {
+    jmhVersion.set(libs.versions.jmh.core.get())
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+    // 가상 스레드 비교는 -Papp.javaVersion=21 로 Java 21 툴체인을 사용할 때만 실행합니다.
+    if (property("app.javaVersion").toString().toInt() < 21) {
+        excludes.add("PointVirtualThreadBenchmark")
+    }
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 내역 수에 따른 한 유저의 내역 조회 비용을 측정합니다.
+ * 조회 대상 유저의 내역 수(TARGET_ROWS)는 고정하고 다른 유저의 내역만 늘립니다.
+ * storage 로 힙 저장소와 off-heap 저장소를 비교합니다. (GC 비용은 -prof gc 로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryTableBenchmark {
+
+    private static final long TARGET_USER_ID = 0L;
+    private static final int TARGET_ROWS = 100;
+    private static final int OTHER_USERS = 1_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int tableSize;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    public PointHistoryStorage storage;
+
+    private PointHistoryTable pointHistoryTable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointHistoryTable = new PointHistoryTable(false, storage);
+        for(int i = 0; i < tableSize; i++) {
+            long userId = i < TARGET_ROWS ? TARGET_USER_ID : 1 + i % OTHER_USERS;
+            pointHistoryTable.insert(userId, 10L, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId() {
+        return pointHistoryTable.selectAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public long sumByUserId() {
+        long[] balance = new long[1];
+        pointHistoryTable.forEachByUserId(TARGET_USER_ID, (id, userId, amount, type, updateMillis) ->
+                balance[0] += type == TransactionType.CHARGE ? amount : -amount);
+        return balance[0];
+    }
+
+    @Benchmark
+    public PointHistoryPage selectFirstPageByUserId() {
+        return pointHistoryTable.selectPageByUserId(TARGET_USER_ID, PointHistoryCondition.of(null, 20, null, null, null));
+    }
+}
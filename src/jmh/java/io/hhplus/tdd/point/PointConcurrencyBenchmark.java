@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LOCK 모드와 OPTIMISTIC 모드의 충전/사용 처리량을 경합 정도별로 비교합니다.
+ * - users 가 1 이면 모든 스레드가 한 유저에 몰리고(높은 경합), 10000 이면 거의 겹치지 않습니다(낮은 경합).
+ * - 잔액 테이블 호출마다 tableDelayMicros 만큼 고정 지연을 넣어, 락을 잡은 채 테이블을 기다리는 비용을 드러냅니다.
+ * - OPTIMISTIC 모드에서 최대 시도 횟수를 넘겨 거절된 요청 수는 rejected 로 함께 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointConcurrencyBenchmark {
+
+    @Param({"LOCK", "OPTIMISTIC"})
+    public PointConcurrencyMode mode;
+
+    @Param({"1", "10000"})
+    public int users;
+
+    @Param({"0", "100"})
+    public long tableDelayMicros;
+
+    private PointService pointService;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, 10_000, 500, PointHistoryAckPolicy.ENQUEUE);
+        pointService = PointServiceBuilder.pointService(new DelayedUserPointTable(tableDelayMicros), pointHistoryTable, pointHistoryWriter, pointMetrics)
+                .userPointCache(new UserPointCache(users))
+                .pointConcurrencyControl(mode == PointConcurrencyMode.OPTIMISTIC ? PointConcurrencyControl.optimistic(32, 10L, 1_000L) : PointConcurrencyControl.locking())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointHistoryWriter.shutdown();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long rejected;
+    }
+
+    @Benchmark
+    @Threads(16)
+    public UserPoint chargeAndUse_16Threads(Outcome outcome) {
+        long userId = ThreadLocalRandom.current().nextInt(users);
+        try {
+            pointService.chargeUserPoint(userId, 10L);
+            return pointService.useUserPoint(userId, 10L);
+        } catch (RuntimeException e) {
+            outcome.rejected++;
+            return null;
+        }
+    }
+
+    /**
+     * 지연 없는 테이블의 잔액 조회/저장 호출마다 고정 지연을 더합니다.
+     */
+    private static class DelayedUserPointTable extends UserPointTable {
+        private final long delayNanos;
+
+        DelayedUserPointTable(long delayMicros) {
+            super(false);
+            this.delayNanos = TimeUnit.MICROSECONDS.toNanos(delayMicros);
+        }
+
+        @Override
+        public UserPoint selectById(Long id) {
+            delay();
+            return super.selectById(id);
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            delay();
+            return super.insertOrUpdate(id, amount);
+        }
+
+        @Override
+        public VersionedUserPoint selectVersionedById(long id) {
+            delay();
+            return super.selectVersionedById(id);
+        }
+
+        @Override
+        public UserPoint compareAndSet(long id, long expectedVersion, long amount) {
+            delay();
+            return super.compareAndSet(id, expectedVersion, amount);
+        }
+
+        private void delay() {
+            if(delayNanos > 0) {
+                LockSupport.parkNanos(delayNanos);
+            }
+        }
+    }
+}
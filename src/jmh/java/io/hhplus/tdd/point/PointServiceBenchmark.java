@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.lock.UserLockConfig;
+import io.hhplus.tdd.point.lock.UserLockType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전/사용 처리량을 스레드 수와 유저 분포별로 측정합니다.
+ * 테이블 지연은 끄고 PointService 자체 비용(검증, 그룹 커밋, 캐시, 락)만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointServiceBenchmark {
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public UserKeyDistribution distribution;
+
+    @Param({"10000"})
+    public int userCount;
+
+    @Param({"REF_COUNTED"})
+    public UserLockType lockType;
+
+    private PointService pointService;
+    private PointHistoryWriter pointHistoryWriter;
+    private UserKeyDistribution.UserKeyGenerator keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, 10_000, 500, PointHistoryAckPolicy.ENQUEUE);
+        pointService = PointServiceBuilder.pointService(new UserPointTable(false), pointHistoryTable, pointHistoryWriter, pointMetrics)
+                .userPointCache(new UserPointCache(userCount))
+                .userLockStrategy(new UserLockConfig().userLockStrategy(lockType, 1024, false))
+                .build();
+        keys = distribution.generator(userCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserPoint chargeAndUse_1Thread() {
+        return chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint chargeAndUse_8Threads() {
+        return chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UserPoint chargeAndUse_32Threads() {
+        return chargeAndUse();
+    }
+
+    private UserPoint chargeAndUse() {
+        long userId = keys.next();
+        pointService.chargeUserPoint(userId, 10L);
+        return pointService.useUserPoint(userId, 10L);
+    }
+}
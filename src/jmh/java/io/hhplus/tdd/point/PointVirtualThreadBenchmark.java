@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 톰캣 기본 스레드 풀(200개)과 가상 스레드에서 동시 요청 묶음을 처리하는 시간을 비교합니다.
+ * - 한 번의 측정은 서로 다른 유저 2000명의 충전 요청을 한꺼번에 보내고 모두 끝날 때까지의 시간입니다.
+ * - 테이블 지연은 고정값으로 바꿔 결과가 흔들리지 않도록 했습니다.
+ * - 가상 스레드는 Java 21 이상에서만 동작하므로 ./gradlew jmh -Papp.javaVersion=21 로 실행할 때만 포함됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PointVirtualThreadBenchmark {
+
+    private static final int CONCURRENT_USERS = 2_000;
+    private static final int PLATFORM_MAX_THREADS = 200;
+    private static final long TABLE_LATENCY_MILLIS = 20L;
+
+    public enum ExecutorType {
+        PLATFORM, VIRTUAL
+    }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutorType executorType;
+
+    private AsyncTaskExecutor executor;
+    private ThreadPoolTaskExecutor platformExecutor;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if(executorType == ExecutorType.PLATFORM) {
+            platformExecutor = new ThreadPoolTaskExecutor();
+            platformExecutor.setCorePoolSize(PLATFORM_MAX_THREADS);
+            platformExecutor.setMaxPoolSize(PLATFORM_MAX_THREADS);
+            platformExecutor.initialize();
+            executor = platformExecutor;
+        } else {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("point-virtual-");
+            virtualExecutor.setVirtualThreads(true);
+            executor = virtualExecutor;
+        }
+
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        SleepingPointHistoryTable pointHistoryTable = new SleepingPointHistoryTable();
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, CONCURRENT_USERS, 500, PointHistoryAckPolicy.ENQUEUE);
+        pointService = PointServiceBuilder.pointService(new SleepingUserPointTable(), pointHistoryTable, pointHistoryWriter, pointMetrics)
+                .userPointCache(new UserPointCache(CONCURRENT_USERS))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if(platformExecutor != null) {
+            platformExecutor.shutdown();
+        }
+        pointHistoryWriter.shutdown();
+    }
+
+    @Benchmark
+    public long chargeConcurrentUsers() throws ExecutionException, InterruptedException {
+        List<Future<UserPoint>> results = new ArrayList<>(CONCURRENT_USERS);
+        for(int i = 0; i < CONCURRENT_USERS; i++) {
+            long userId = i;
+            results.add(executor.submit(() -> pointService.chargeUserPoint(userId, 100L)));
+        }
+        long total = 0L;
+        for(Future<UserPoint> result : results) {
+            total += result.get().point();
+        }
+        return total;
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(TABLE_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class SleepingUserPointTable extends UserPointTable {
+        private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            sleep();
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            sleep();
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    private static class SleepingPointHistoryTable extends PointHistoryTable {
+        @Override
+        public List<PointHistory> insertAll(List<PointHistoryInsert> inserts) {
+            sleep();
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크에서 요청 대상 유저를 고르는 분포
+ * - UNIFORM : 모든 유저가 같은 확률
+ * - ZIPFIAN : 일부 인기 유저에 요청이 몰리는 분포 (s = 1.0)
+ */
+public enum UserKeyDistribution {
+    UNIFORM, ZIPFIAN;
+
+    public UserKeyGenerator generator(int userCount) {
+        return switch (this) {
+            case UNIFORM -> () -> ThreadLocalRandom.current().nextLong(userCount);
+            case ZIPFIAN -> new ZipfianGenerator(userCount, 1.0);
+        };
+    }
+
+    @FunctionalInterface
+    public interface UserKeyGenerator {
+        long next();
+    }
+
+    /**
+     * 누적 분포를 미리 계산해 두고 이분 탐색으로 순위를 뽑습니다.
+     */
+    private static class ZipfianGenerator implements UserKeyGenerator {
+        private final double[] cumulative;
+
+        ZipfianGenerator(int userCount, double exponent) {
+            cumulative = new double[userCount];
+            double sum = 0;
+            for(int rank = 1; rank <= userCount; rank++) {
+                sum += 1.0 / Math.pow(rank, exponent);
+                cumulative[rank - 1] = sum;
+            }
+            for(int i = 0; i < userCount; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        @Override
+        public long next() {
+            double target = ThreadLocalRandom.current().nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while(low < high) {
+                int mid = (low + high) >>> 1;
+                if(cumulative[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
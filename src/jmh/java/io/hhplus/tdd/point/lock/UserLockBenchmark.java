@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.lock;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시성 제어 전략별 락 획득/해제 비용을 측정합니다.
+ * users 가 1 이면 모든 스레드가 한 유저에 경합하고, 클수록 경합이 줄어듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserLockBenchmark {
+
+    @Param({"STRIPED", "REF_COUNTED", "SERIAL"})
+    public UserLockType lockType;
+
+    @Param({"true", "false"})
+    public boolean fair;
+
+    @Param({"1", "1024"})
+    public int users;
+
+    private UserLockStrategy userLockStrategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userLockStrategy = new UserLockConfig().userLockStrategy(lockType, 1024, fair);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long executeWithLock_1Thread() {
+        return execute();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long executeWithLock_8Threads() {
+        return execute();
+    }
+
+    private long execute() {
+        long userId = ThreadLocalRandom.current().nextInt(users);
+        return userLockStrategy.executeWithLock(userId, () -> userId);
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistoryAckPolicy;
+import io.hhplus.tdd.point.PointHistoryWriter;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceBuilder;
+import io.hhplus.tdd.point.PointTransfer;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시성 제어 전략별 충전/사용, 송금 처리량을 PointService 를 거쳐 비교합니다.
+ * - 테이블 지연을 끄고 락 경합 비용만 드러냅니다.
+ * - chargeAndUse: 인기 유저 소수에 몰리는 경우(users=4)와 여러 유저에 흩어지는 경우(users=1000)를 비교합니다.
+ * - hotTransfer: 인기 유저 몇 명끼리 양방향으로 송금하므로 두 락을 서로 반대 순서로 요청하는 경우가 계속 생깁니다.
+ *   잔액이 모자라거나 최대 잔액을 넘겨 거절된 송금 수는 rejected 로 함께 출력합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserLockContentionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ChargeAndUse {
+
+        @Param({"STRIPED", "REF_COUNTED", "SERIAL"})
+        public UserLockType lockType;
+
+        @Param({"4", "1000"})
+        public int users;
+
+        private PointHistoryWriter pointHistoryWriter;
+        private PointService pointService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+            PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+            pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, 10_000, 500, PointHistoryAckPolicy.ENQUEUE);
+            pointService = pointService(lockType, pointHistoryTable, pointHistoryWriter, pointMetrics);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws InterruptedException {
+            pointHistoryWriter.shutdown();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class HotTransfer {
+
+        private static final long INITIAL_POINT = 500_000L;
+
+        @Param({"STRIPED", "REF_COUNTED", "SERIAL"})
+        public UserLockType lockType;
+
+        @Param({"2", "8"})
+        public int users;
+
+        private PointHistoryWriter pointHistoryWriter;
+        private PointService pointService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+            PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+            pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, 10_000, 500, PointHistoryAckPolicy.ENQUEUE);
+            pointService = pointService(lockType, pointHistoryTable, pointHistoryWriter, pointMetrics);
+            for(long userId = 0; userId < users; userId++) {
+                pointService.chargeUserPoint(userId, INITIAL_POINT);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws InterruptedException {
+            pointHistoryWriter.shutdown();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long rejected;
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UserPoint chargeAndUse_32Threads(ChargeAndUse state) {
+        long userId = ThreadLocalRandom.current().nextInt(state.users);
+        state.pointService.chargeUserPoint(userId, 10L);
+        return state.pointService.useUserPoint(userId, 10L);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public PointTransfer hotTransfer_32Threads(HotTransfer state, Outcome outcome) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long fromId = random.nextInt(state.users);
+        long toId = (fromId + 1 + random.nextInt(state.users - 1)) % state.users;
+        try {
+            return state.pointService.transferUserPoint(fromId, toId, 10L);
+        } catch (RuntimeException e) {
+            outcome.rejected++;
+            return null;
+        }
+    }
+
+    private static PointService pointService(
+            UserLockType lockType,
+            PointHistoryTable pointHistoryTable,
+            PointHistoryWriter pointHistoryWriter,
+            PointMetrics pointMetrics
+    ) {
+        return PointServiceBuilder.pointService(new UserPointTable(false), pointHistoryTable, pointHistoryWriter, pointMetrics)
+                .userPointCache(new UserPointCache(10_000))
+                .userLockStrategy(new UserLockConfig().userLockStrategy(lockType, 1024, false))
+                .build();
+    }
+}
@@ -4,4 +4,9 @@ public record ErrorResponse(
         String code,
         String message
 ) {
+
+    /**
+     * 거절 사유(PointRejectReason, PointAdmissionRejectReason 의 이름)를 담는 응답 헤더. 피어 노드가 같은 예외로 되돌릴 때 사용합니다.
+     */
+    public static final String REJECT_REASON_HEADER = "X-Point-Reject-Reason";
 }
@@ -0,0 +1,40 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointAdmissionException;
+import io.hhplus.tdd.point.PointChangeOffsetExpiredException;
+import io.hhplus.tdd.point.PointRejectException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+class ReactiveApiControllerAdvice {
+    @ExceptionHandler(value = PointAdmissionException.class)
+    public ResponseEntity<ErrorResponse> handlePointAdmissionException(PointAdmissionException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, (e.retryAfterMillis() + 999L) / 1000L)))
+                .header(ErrorResponse.REJECT_REASON_HEADER, e.reason().name())
+                .body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = PointRejectException.class)
+    public ResponseEntity<ErrorResponse> handlePointRejectException(PointRejectException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .header(ErrorResponse.REJECT_REASON_HEADER, e.reason().name())
+                .body(new ErrorResponse("400", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = PointChangeOffsetExpiredException.class)
+    public ResponseEntity<ErrorResponse> handlePointChangeOffsetExpiredException(PointChangeOffsetExpiredException e) {
+        return ResponseEntity.status(HttpStatus.GONE).body(new ErrorResponse("410", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+    }
+}
@@ -0,0 +1,146 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유저별 세그먼트에 PointHistory 객체를 그대로 보관하는 저장소
+ */
+class HeapPointHistoryStore implements PointHistoryStore {
+
+    private final ConcurrentHashMap<Long, UserHistorySegment> table = new ConcurrentHashMap<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        UserHistorySegment segment = table.computeIfAbsent(userId, id -> new UserHistorySegment());
+        return segment.append(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistorySegment segment = table.get(userId);
+        if(segment == null) {
+            return List.of();
+        }
+        return segment.snapshot();
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+        UserHistorySegment segment = table.get(userId);
+        if(segment == null) {
+            return new PointHistoryPage(List.of(), null);
+        }
+        return segment.page(condition);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryRowVisitor visitor) {
+        UserHistorySegment segment = table.get(userId);
+        if(segment != null) {
+            segment.forEach(visitor);
+        }
+    }
+
+    @Override
+    public Set<Long> userIds() {
+        return Set.copyOf(table.keySet());
+    }
+
+    @Override
+    public List<PointHistory> removeAllByUserId(long userId) {
+        UserHistorySegment segment = table.remove(userId);
+        if(segment == null) {
+            return List.of();
+        }
+        return segment.snapshot();
+    }
+
+    /**
+     * 유저별 내역 세그먼트
+     * - 추가만 가능하며, id 는 세그먼트 락 안에서 발급하여 유저 내에서 id 순서를 보장합니다.
+     */
+    private class UserHistorySegment {
+        private final List<PointHistory> rows = new ArrayList<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+            lock.writeLock().lock();
+            try {
+                PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+                rows.add(pointHistory);
+                return pointHistory;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<PointHistory> snapshot() {
+            lock.readLock().lock();
+            try {
+                return List.copyOf(rows);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void forEach(PointHistoryRowVisitor visitor) {
+            lock.readLock().lock();
+            try {
+                for(PointHistory pointHistory : rows) {
+                    visitor.visit(pointHistory.id(), pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        PointHistoryPage page(PointHistoryCondition condition) {
+            lock.readLock().lock();
+            try {
+                List<PointHistory> histories = new ArrayList<>(condition.limit());
+                int index = condition.cursor() == null ? 0 : indexAfter(condition.cursor());
+                for(; index < rows.size(); index++) {
+                    PointHistory pointHistory = rows.get(index);
+                    if(!condition.matches(pointHistory)) {
+                        continue;
+                    }
+                    if(histories.size() == condition.limit()) {
+                        return new PointHistoryPage(histories, histories.get(histories.size() - 1).id());
+                    }
+                    histories.add(pointHistory);
+                }
+                return new PointHistoryPage(histories, null);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * rows 는 id 오름차순이므로 이분 탐색으로 cursor 다음 위치를 찾습니다.
+         */
+        private int indexAfter(long cursor) {
+            int low = 0;
+            int high = rows.size();
+            while(low < high) {
+                int mid = (low + high) >>> 1;
+                if(rows.get(mid).id() <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
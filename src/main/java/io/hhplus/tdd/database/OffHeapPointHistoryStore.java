@@ -0,0 +1,211 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내역을 고정 길이 행으로 힙 밖(direct buffer)의 청크에 보관하는 저장소
+ * - 행: id(8) + userId(8) + amount(8) + type(1) + updateMillis(8)
+ * - 유저별로 행 번호 목록(int[])만 힙에 두므로, 내역 수가 늘어도 힙 객체 수는 유저 수에 비례합니다.
+ * - 추가는 하나의 락으로 직렬화하고, 조회는 락 없이 이미 공개된 행만 읽습니다.
+ * - PointHistory 객체는 조회 결과로 반환할 행에 대해서만 만듭니다.
+ */
+class OffHeapPointHistoryStore implements PointHistoryStore {
+
+    static final int ROW_BYTES = 33;
+    static final int DEFAULT_ROWS_PER_CHUNK = 1 << 20;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final int rowsPerChunk;
+    private final ConcurrentHashMap<Long, UserRowIndex> indexes = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private int rowCount;
+    private long nextId = 1;
+
+    OffHeapPointHistoryStore() {
+        this(DEFAULT_ROWS_PER_CHUNK);
+    }
+
+    OffHeapPointHistoryStore(int rowsPerChunk) {
+        this.rowsPerChunk = rowsPerChunk;
+    }
+
+    @Override
+    public PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        appendLock.lock();
+        try {
+            if(rowCount == Integer.MAX_VALUE) {
+                throw new IllegalStateException("내역 저장소의 최대 행 수를 초과했습니다.");
+            }
+            int row = rowCount++;
+            long id = nextId++;
+            ByteBuffer chunk = chunkForAppend(row);
+            int offset = (row % rowsPerChunk) * ROW_BYTES;
+            chunk.putLong(offset, id);
+            chunk.putLong(offset + 8, userId);
+            chunk.putLong(offset + 16, amount);
+            chunk.put(offset + 24, (byte) type.ordinal());
+            chunk.putLong(offset + 25, updateMillis);
+
+            indexes.computeIfAbsent(userId, key -> new UserRowIndex()).add(row);
+            return new PointHistory(id, userId, amount, type, updateMillis);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserRowIndex index = indexes.get(userId);
+        if(index == null) {
+            return List.of();
+        }
+        int size = index.size;
+        int[] rows = index.rows;
+        List<PointHistory> histories = new ArrayList<>(size);
+        for(int i = 0; i < size; i++) {
+            histories.add(read(rows[i]));
+        }
+        return histories;
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+        UserRowIndex index = indexes.get(userId);
+        if(index == null) {
+            return new PointHistoryPage(List.of(), null);
+        }
+        int size = index.size;
+        int[] rows = index.rows;
+
+        List<PointHistory> histories = new ArrayList<>(condition.limit());
+        int position = condition.cursor() == null ? 0 : indexAfter(rows, size, condition.cursor());
+        for(; position < size; position++) {
+            int row = rows[position];
+            ByteBuffer chunk = chunk(row);
+            int offset = (row % rowsPerChunk) * ROW_BYTES;
+            if(!condition.matches(chunk.getLong(offset + 25), TYPES[chunk.get(offset + 24)])) {
+                continue;
+            }
+            if(histories.size() == condition.limit()) {
+                return new PointHistoryPage(histories, histories.get(histories.size() - 1).id());
+            }
+            histories.add(read(row));
+        }
+        return new PointHistoryPage(histories, null);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, PointHistoryRowVisitor visitor) {
+        UserRowIndex index = indexes.get(userId);
+        if(index == null) {
+            return;
+        }
+        int size = index.size;
+        int[] rows = index.rows;
+        for(int i = 0; i < size; i++) {
+            int row = rows[i];
+            ByteBuffer chunk = chunk(row);
+            int offset = (row % rowsPerChunk) * ROW_BYTES;
+            visitor.visit(chunk.getLong(offset), chunk.getLong(offset + 8), chunk.getLong(offset + 16), TYPES[chunk.get(offset + 24)], chunk.getLong(offset + 25));
+        }
+    }
+
+    @Override
+    public Set<Long> userIds() {
+        return Set.copyOf(indexes.keySet());
+    }
+
+    /**
+     * 유저의 행 번호 목록만 제거하며, 청크의 행 공간은 재사용하지 않습니다.
+     */
+    @Override
+    public List<PointHistory> removeAllByUserId(long userId) {
+        appendLock.lock();
+        try {
+            List<PointHistory> histories = selectAllByUserId(userId);
+            indexes.remove(userId);
+            return histories;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private PointHistory read(int row) {
+        ByteBuffer chunk = chunk(row);
+        int offset = (row % rowsPerChunk) * ROW_BYTES;
+        return new PointHistory(chunk.getLong(offset), chunk.getLong(offset + 8), chunk.getLong(offset + 16), TYPES[chunk.get(offset + 24)], chunk.getLong(offset + 25));
+    }
+
+    private ByteBuffer chunk(int row) {
+        return chunks[row / rowsPerChunk];
+    }
+
+    /**
+     * 새 청크는 행을 공개(유저 행 번호 목록의 size 갱신)하기 전에 chunks 에 반영됩니다.
+     */
+    private ByteBuffer chunkForAppend(int row) {
+        int chunkIndex = row / rowsPerChunk;
+        ByteBuffer[] current = chunks;
+        if(chunkIndex == current.length) {
+            ByteBuffer[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[chunkIndex] = ByteBuffer.allocateDirect(rowsPerChunk * ROW_BYTES);
+            chunks = grown;
+            return grown[chunkIndex];
+        }
+        return current[chunkIndex];
+    }
+
+    /**
+     * 행 번호는 id 오름차순이므로 이분 탐색으로 cursor 다음 위치를 찾습니다.
+     */
+    private int indexAfter(int[] rows, int size, long cursor) {
+        int low = 0;
+        int high = size;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            int row = rows[mid];
+            if(chunk(row).getLong((row % rowsPerChunk) * ROW_BYTES) <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 유저별 행 번호 목록
+     * - appendLock 안에서만 추가하며, 배열을 먼저 교체하고 size 를 나중에 갱신해
+     *   size 를 읽은 조회는 그만큼의 행 번호가 담긴 배열을 읽습니다.
+     */
+    private static class UserRowIndex {
+        private volatile int[] rows = new int[8];
+        private volatile int size;
+
+        void add(int row) {
+            int[] current = rows;
+            if(size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+                current[size] = row;
+                rows = current;
+            } else {
+                current[size] = row;
+            }
+            size = size + 1;
+        }
+    }
+}
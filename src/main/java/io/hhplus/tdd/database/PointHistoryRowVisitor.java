@@ -0,0 +1,12 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 내역 행을 객체로 만들지 않고 값으로 순회합니다.
+ */
+@FunctionalInterface
+public interface PointHistoryRowVisitor {
+
+    void visit(long id, long userId, long amount, TransactionType type, long updateMillis);
+}
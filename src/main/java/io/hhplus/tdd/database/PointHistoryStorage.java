@@ -0,0 +1,10 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 포인트 내역 저장 방식 (point.history.storage)
+ * - HEAP : 내역마다 PointHistory 객체를 힙에 보관
+ * - OFF_HEAP : 고정 길이 행으로 힙 밖(direct buffer)에 보관하고, 조회 시점에만 PointHistory 로 변환
+ */
+public enum PointHistoryStorage {
+    HEAP, OFF_HEAP
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PointHistoryTable 의 저장소
+ * - id 는 저장소가 발급하며, 한 유저의 내역은 id 오름차순으로 저장됩니다.
+ */
+interface PointHistoryStore {
+
+    PointHistory append(long userId, long amount, TransactionType type, long updateMillis);
+
+    List<PointHistory> selectAllByUserId(long userId);
+
+    PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition);
+
+    void forEachByUserId(long userId, PointHistoryRowVisitor visitor);
+
+    Set<Long> userIds();
+
+    List<PointHistory> removeAllByUserId(long userId);
+}
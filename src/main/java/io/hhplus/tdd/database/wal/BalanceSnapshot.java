@@ -0,0 +1,136 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 특정 로그 순번(seq)까지 반영된 유저별 잔액 스냅샷
+ * - 임시 파일에 쓴 뒤 이름을 바꿔 저장하므로, 쓰는 도중 종료되어도 이전 스냅샷이 남습니다.
+ */
+public record BalanceSnapshot(
+        long seq,
+        List<UserPoint> userPoints
+) {
+
+    private static final int MAGIC = 0x50545331;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    public static BalanceSnapshot empty() {
+        return new BalanceSnapshot(0L, List.of());
+    }
+
+    /**
+     * 스냅샷을 저장하고, 이전 스냅샷 파일은 삭제합니다.
+     */
+    public static void write(Path directory, long seq, Collection<UserPoint> userPoints) {
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, seq, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try(FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream file = new BufferedOutputStream(Channels.newOutputStream(channel));
+                CRC32 crc32 = new CRC32();
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, crc32));
+                out.writeInt(MAGIC);
+                out.writeLong(seq);
+                out.writeInt(userPoints.size());
+                for(UserPoint userPoint : userPoints) {
+                    out.writeLong(userPoint.id());
+                    out.writeLong(userPoint.point());
+                    out.writeLong(userPoint.updateMillis());
+                }
+                out.flush();
+                new DataOutputStream(file).writeInt((int) crc32.getValue());
+                file.flush();
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            for(Path old : snapshots(directory)) {
+                if(!old.equals(target)) {
+                    Files.deleteIfExists(old);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 가장 최근의 온전한 스냅샷을 읽습니다. 없으면 빈 스냅샷을 반환합니다.
+     */
+    public static BalanceSnapshot readLatest(Path directory) {
+        try {
+            List<Path> snapshots = snapshots(directory);
+            for(int i = snapshots.size() - 1; i >= 0; i--) {
+                Optional<BalanceSnapshot> snapshot = read(snapshots.get(i));
+                if(snapshot.isPresent()) {
+                    return snapshot.get();
+                }
+            }
+            return empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Optional<BalanceSnapshot> read(Path path) throws IOException {
+        try(InputStream file = new BufferedInputStream(Files.newInputStream(path))) {
+            CRC32 crc32 = new CRC32();
+            DataInputStream in = new DataInputStream(new CheckedInputStream(file, crc32));
+            if(in.readInt() != MAGIC) {
+                return Optional.empty();
+            }
+            long seq = in.readLong();
+            int count = in.readInt();
+            List<UserPoint> userPoints = new ArrayList<>(count);
+            for(int i = 0; i < count; i++) {
+                userPoints.add(new UserPoint(in.readLong(), in.readLong(), in.readLong()));
+            }
+            int expected = (int) crc32.getValue();
+            if(new DataInputStream(file).readInt() != expected) {
+                return Optional.empty();
+            }
+            return Optional.of(new BalanceSnapshot(seq, userPoints));
+        } catch (EOFException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<Path> snapshots(Path directory) throws IOException {
+        if(!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+}
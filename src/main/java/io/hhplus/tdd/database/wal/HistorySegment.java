@@ -0,0 +1,155 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.PointHistoryInsert;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 로그 순번 (fromSeq, toSeq] 구간의 내역을 압축해 담은 체크포인트 파일
+ * - 스냅샷 때마다 직전 체크포인트 이후의 내역만 새 파일로 남기므로, 체크포인트까지의 로그 세그먼트는 지울 수 있습니다.
+ * - 레코드마다 순번과 CRC 를 두는 로그와 달리 파일 전체에 CRC 하나만 두고, 임시 파일에 쓴 뒤 이름을 바꿔 저장합니다.
+ */
+public record HistorySegment(
+        long fromSeq,
+        long toSeq,
+        List<PointHistoryInsert> histories
+) {
+
+    private static final int MAGIC = 0x50484331;
+    private static final String PREFIX = "history-";
+    private static final String SUFFIX = ".bin";
+
+    public static void write(Path directory, long fromSeq, long toSeq, List<PointHistoryInsert> histories) {
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, toSeq, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try(FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream file = new BufferedOutputStream(Channels.newOutputStream(channel));
+                CRC32 crc32 = new CRC32();
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, crc32));
+                out.writeInt(MAGIC);
+                out.writeLong(fromSeq);
+                out.writeLong(toSeq);
+                out.writeInt(histories.size());
+                for(PointHistoryInsert history : histories) {
+                    out.writeLong(history.userId());
+                    out.writeLong(history.amount());
+                    out.writeByte(history.type().ordinal());
+                    out.writeLong(history.updateMillis());
+                }
+                out.flush();
+                new DataOutputStream(file).writeInt((int) crc32.getValue());
+                file.flush();
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 순번이 끊기지 않고 이어지는 체크포인트 파일을 앞에서부터 읽습니다.
+     * 손상되었거나 앞 파일과 이어지지 않는 파일부터는 읽지 않으며, 그 구간은 로그에서 재생합니다.
+     */
+    public static List<HistorySegment> readAll(Path directory) {
+        try {
+            List<HistorySegment> segments = new ArrayList<>();
+            long lastSeq = 0L;
+            for(Path path : files(directory)) {
+                Optional<HistorySegment> segment = read(path);
+                if(segment.isEmpty() || segment.get().fromSeq() != lastSeq) {
+                    break;
+                }
+                segments.add(segment.get());
+                lastSeq = segment.get().toSeq();
+            }
+            return segments;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마지막 체크포인트 파일의 toSeq (파일 이름으로 확인하며, 없으면 0)
+     */
+    public static long lastSeq(Path directory) {
+        try {
+            List<Path> files = files(directory);
+            if(files.isEmpty()) {
+                return 0L;
+            }
+            String name = files.get(files.size() - 1).getFileName().toString();
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Optional<HistorySegment> read(Path path) throws IOException {
+        try(InputStream file = new BufferedInputStream(Files.newInputStream(path))) {
+            CRC32 crc32 = new CRC32();
+            DataInputStream in = new DataInputStream(new CheckedInputStream(file, crc32));
+            if(in.readInt() != MAGIC) {
+                return Optional.empty();
+            }
+            long fromSeq = in.readLong();
+            long toSeq = in.readLong();
+            int count = in.readInt();
+            List<PointHistoryInsert> histories = new ArrayList<>(count);
+            for(int i = 0; i < count; i++) {
+                long userId = in.readLong();
+                long amount = in.readLong();
+                int type = in.readByte();
+                long updateMillis = in.readLong();
+                if(type < 0 || type >= TransactionType.values().length) {
+                    return Optional.empty();
+                }
+                histories.add(new PointHistoryInsert(userId, amount, TransactionType.values()[type], updateMillis));
+            }
+            int expected = (int) crc32.getValue();
+            if(new DataInputStream(file).readInt() != expected) {
+                return Optional.empty();
+            }
+            return Optional.of(new HistorySegment(fromSeq, toSeq, histories));
+        } catch (EOFException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<Path> files(Path directory) throws IOException {
+        if(!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class PointJournalConfig {
+
+    @Bean
+    public PointJournal pointJournal(
+            UserPointTable userPointTable,
+            PointHistoryTable pointHistoryTable,
+            @Value("${point.wal.enabled:false}") boolean enabled,
+            @Value("${point.wal.directory:data/wal}") String directory,
+            @Value("${point.wal.segment-size:67108864}") int segmentSize,
+            @Value("${point.wal.sync-interval-millis:2}") long syncIntervalMillis,
+            @Value("${point.wal.snapshot-interval-seconds:60}") long snapshotIntervalSeconds
+    ) {
+        if(!enabled) {
+            return PointJournal.disabled();
+        }
+        WalPointJournal journal = new WalPointJournal(Path.of(directory), segmentSize, syncIntervalMillis, snapshotIntervalSeconds);
+        journal.recover(userPointTable, pointHistoryTable);
+        return journal;
+    }
+}
@@ -0,0 +1,159 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistoryInsert;
+import io.hhplus.tdd.point.PointJournal;
+import io.hhplus.tdd.point.PointJournalEntry;
+import io.hhplus.tdd.point.UserPoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * WriteAheadLog 와 체크포인트(잔액 스냅샷 + 내역 체크포인트 파일)로 포인트 데이터를 영속화합니다.
+ * - 잔액: 최근 스냅샷을 읽고, 스냅샷 이후의 레코드만 재생합니다.
+ * - 내역: 체크포인트 파일을 순서대로 읽고, 마지막 체크포인트 이후의 레코드만 재생합니다.
+ * - 스냅샷 때 직전 체크포인트 이후의 내역을 새 체크포인트 파일로 옮기고, 옮긴 구간의 세그먼트는 지웁니다.
+ *   그래서 재시작 시 재생할 로그는 마지막 스냅샷 이후 구간뿐이고, 로그가 끝없이 쌓이지 않습니다.
+ */
+@Slf4j
+public class WalPointJournal implements PointJournal, AutoCloseable {
+
+    private final Path directory;
+    private final WriteAheadLog writeAheadLog;
+    private final Map<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    /**
+     * 스냅샷이 (순번, 잔액) 쌍을 어긋나지 않게 읽도록, append 는 읽기 락 / 스냅샷은 쓰기 락을 잡습니다.
+     */
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService scheduler;
+    /**
+     * 내역 체크포인트 파일에 옮긴 마지막 로그 순번
+     */
+    private long checkpointSeq;
+
+    public WalPointJournal(Path directory, int segmentBytes, long syncIntervalMillis, long snapshotIntervalSeconds) {
+        this.directory = directory;
+        this.writeAheadLog = WriteAheadLog.open(directory, segmentBytes, syncIntervalMillis);
+        this.checkpointSeq = HistorySegment.lastSeq(directory);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-wal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if(snapshotIntervalSeconds > 0) {
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 디스크에 남은 데이터로 테이블을 복구합니다. 요청을 받기 전에 한 번 호출합니다.
+     * 스냅샷과 내역 체크포인트 중 먼저 끝난 지점부터 로그를 재생하고, 레코드마다 아직 반영되지 않은 쪽에만 적용합니다.
+     * (둘을 저장하는 사이에 종료되면 내역 체크포인트가 스냅샷보다 앞설 수 있습니다.)
+     */
+    public synchronized void recover(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+        BalanceSnapshot snapshot = BalanceSnapshot.readLatest(directory);
+        for(UserPoint userPoint : snapshot.userPoints()) {
+            balances.put(userPoint.id(), userPoint);
+        }
+
+        List<PointHistoryInsert> histories = new ArrayList<>();
+        long historySeq = 0L;
+        for(HistorySegment segment : HistorySegment.readAll(directory)) {
+            histories.addAll(segment.histories());
+            historySeq = segment.toSeq();
+        }
+        checkpointSeq = historySeq;
+
+        long restoredHistorySeq = historySeq;
+        AtomicLong replayed = new AtomicLong();
+        WriteAheadLog.replay(directory, Math.min(snapshot.seq(), historySeq), record -> {
+            PointJournalEntry entry = record.entry();
+            if(record.seq() > restoredHistorySeq) {
+                histories.add(new PointHistoryInsert(entry.userId(), entry.amount(), entry.type(), entry.updateMillis()));
+            }
+            if(record.seq() > snapshot.seq()) {
+                balances.put(entry.userId(), new UserPoint(entry.userId(), entry.balance(), entry.updateMillis()));
+            }
+            replayed.incrementAndGet();
+        });
+
+        pointHistoryTable.restore(histories);
+        userPointTable.restore(balances.values());
+        log.info("포인트 데이터를 복구했습니다. (스냅샷 seq={}, 내역 체크포인트 seq={}, 재생한 레코드 {}건, 유저 {}명, 내역 {}건)",
+                snapshot.seq(), historySeq, replayed.get(), balances.size(), histories.size());
+    }
+
+    @Override
+    public CompletableFuture<Void> append(List<PointJournalEntry> entries) {
+        snapshotLock.readLock().lock();
+        try {
+            CompletableFuture<Void> synced = writeAheadLog.append(entries);
+            for(PointJournalEntry entry : entries) {
+                balances.put(entry.userId(), new UserPoint(entry.userId(), entry.balance(), entry.updateMillis()));
+            }
+            return synced;
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 잔액을 스냅샷으로 저장하고, 직전 체크포인트 이후의 내역을 체크포인트 파일로 옮깁니다.
+     * - 잔액을 복사한 뒤 로그를 디스크에 반영하고 저장하므로, 스냅샷의 잔액은 항상 로그에도 남아 있습니다.
+     * - 내역 체크포인트와 스냅샷을 모두 저장한 뒤에만 그 구간의 세그먼트를 지우므로, 중간에 종료되어도 로그에서 다시 재생할 수 있습니다.
+     */
+    public synchronized void snapshot() {
+        long seq;
+        List<UserPoint> userPoints;
+        snapshotLock.writeLock().lock();
+        try {
+            seq = writeAheadLog.lastSeq();
+            userPoints = List.copyOf(balances.values());
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+        writeAheadLog.sync();
+
+        if(seq > checkpointSeq) {
+            List<PointHistoryInsert> histories = new ArrayList<>();
+            WriteAheadLog.replay(directory, checkpointSeq, seq, record -> {
+                PointJournalEntry entry = record.entry();
+                histories.add(new PointHistoryInsert(entry.userId(), entry.amount(), entry.type(), entry.updateMillis()));
+            });
+            if(histories.size() != seq - checkpointSeq) {
+                throw new IllegalStateException(String.format("로그에서 seq %d ~ %d 구간을 모두 읽지 못했습니다.", checkpointSeq + 1, seq));
+            }
+            HistorySegment.write(directory, checkpointSeq, seq, histories);
+            checkpointSeq = seq;
+        }
+        BalanceSnapshot.write(directory, seq, userPoints);
+        writeAheadLog.deleteSegmentsThrough(seq);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        snapshot();
+        writeAheadLog.close();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("잔액 스냅샷 저장에 실패했습니다.", e);
+        }
+    }
+}
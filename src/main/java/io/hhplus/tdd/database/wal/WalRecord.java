@@ -0,0 +1,12 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.PointJournalEntry;
+
+/**
+ * 로그에서 읽은 레코드 (기록 순번 + 이벤트)
+ */
+public record WalRecord(
+        long seq,
+        PointJournalEntry entry
+) {
+}
@@ -0,0 +1,390 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.PointJournalEntry;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑한 고정 크기 세그먼트 파일에 이벤트를 추가만 하는 로그
+ * - 레코드는 고정 길이이며 순번(seq)과 CRC 를 함께 기록해, 재시작 시 순번이 이어지는 마지막 온전한 레코드까지만 읽습니다.
+ * - 체크포인트(HistorySegment, BalanceSnapshot)에 옮긴 구간의 세그먼트는 deleteSegmentsThrough 로 지웁니다.
+ * - append 는 버퍼에 쓰기만 하고, 별도 스레드가 쌓인 요청을 모아 한 번에 force(fsync) 합니다. (그룹 fsync)
+ */
+public class WriteAheadLog implements AutoCloseable {
+
+    /**
+     * seq(8) + userId(8) + amount(8) + type(1) + balance(8) + updateMillis(8) + crc(4)
+     */
+    static final int RECORD_SIZE = 45;
+    private static final int CRC_OFFSET = RECORD_SIZE - 4;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final long syncIntervalMillis;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+    private long lastSeq;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncRequested = syncLock.newCondition();
+    private final Deque<PendingSync> pendingSyncs = new ArrayDeque<>();
+    private final Thread syncer;
+    private volatile boolean running = true;
+
+    private WriteAheadLog(Path directory, int segmentBytes, long syncIntervalMillis) throws IOException {
+        this.directory = directory;
+        this.recordsPerSegment = segmentBytes / RECORD_SIZE;
+        this.syncIntervalMillis = syncIntervalMillis;
+        if(recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("세그먼트 크기는 레코드 크기보다 커야 합니다.");
+        }
+
+        Files.createDirectories(directory);
+        List<Path> segments = segments(directory);
+        if(segments.isEmpty()) {
+            openSegment(1L);
+        } else {
+            reopenLastSegment(segments.get(segments.size() - 1));
+        }
+
+        this.syncer = new Thread(this::syncLoop, "point-wal-syncer");
+        this.syncer.setDaemon(true);
+        this.syncer.start();
+    }
+
+    public static WriteAheadLog open(Path directory, int segmentBytes, long syncIntervalMillis) {
+        try {
+            return new WriteAheadLog(directory, segmentBytes, syncIntervalMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 디렉터리의 세그먼트를 순서대로 읽어 fromSeq 이후의 레코드를 전달합니다.
+     */
+    public static void replay(Path directory, long fromSeq, Consumer<WalRecord> consumer) {
+        replay(directory, fromSeq, Long.MAX_VALUE, consumer);
+    }
+
+    /**
+     * 디렉터리의 세그먼트를 순서대로 읽어 (fromSeq, toSeq] 구간의 레코드를 전달합니다.
+     * - fromSeq 이하의 레코드만 담긴 세그먼트는 읽지 않습니다.
+     * - 순번이 1씩 이어지는 레코드까지만 읽으므로, 끊긴 레코드 뒤에 남은 이전 기록은 재생하지 않습니다.
+     * - fromSeq 다음 레코드가 담긴 세그먼트가 이미 지워졌으면 예외를 발생합니다.
+     */
+    public static void replay(Path directory, long fromSeq, long toSeq, Consumer<WalRecord> consumer) {
+        try {
+            List<Path> segments = segments(directory);
+            int first = 0;
+            while(first + 1 < segments.size() && firstSeq(segments.get(first + 1)) - 1 <= fromSeq) {
+                first++;
+            }
+            if(first < segments.size() && firstSeq(segments.get(first)) > fromSeq + 1) {
+                throw new IllegalStateException(String.format("로그에 seq %d 이후의 레코드가 남아 있지 않습니다.", fromSeq));
+            }
+
+            for(int i = first; i < segments.size(); i++) {
+                Path segment = segments.get(i);
+                long expectedSeq = firstSeq(segment);
+                try(FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    for(int position = 0; position + RECORD_SIZE <= buffer.capacity(); position += RECORD_SIZE, expectedSeq++) {
+                        WalRecord record = read(buffer, position);
+                        if(record == null || record.seq() != expectedSeq || record.seq() > toSeq) {
+                            return;
+                        }
+                        if(record.seq() > fromSeq) {
+                            consumer.accept(record);
+                        }
+                    }
+                }
+                if(i + 1 < segments.size() && firstSeq(segments.get(i + 1)) != expectedSeq) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 레코드를 버퍼에 기록하고, 디스크에 기록된 뒤 완료되는 future 를 반환합니다.
+     */
+    public CompletableFuture<Void> append(List<PointJournalEntry> entries) {
+        long appendedSeq;
+        appendLock.lock();
+        try {
+            for(PointJournalEntry entry : entries) {
+                if(position == recordsPerSegment) {
+                    rollSegment();
+                }
+                write(buffer, position * RECORD_SIZE, ++lastSeq, entry);
+                position++;
+            }
+            appendedSeq = lastSeq;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        CompletableFuture<Void> synced = new CompletableFuture<>();
+        syncLock.lock();
+        try {
+            pendingSyncs.addLast(new PendingSync(appendedSeq, synced));
+            syncRequested.signal();
+        } finally {
+            syncLock.unlock();
+        }
+        return synced;
+    }
+
+    /**
+     * 지금까지 기록한 레코드를 즉시 디스크에 반영합니다.
+     */
+    public void sync() {
+        appendLock.lock();
+        try {
+            buffer.force();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 모든 레코드의 순번이 seq 이하인 세그먼트를 지웁니다. (체크포인트로 옮긴 구간)
+     * 기록 중인 마지막 세그먼트는 지우지 않습니다.
+     */
+    public void deleteSegmentsThrough(long seq) {
+        appendLock.lock();
+        try {
+            List<Path> segments = segments(directory);
+            for(int i = 0; i + 1 < segments.size(); i++) {
+                if(firstSeq(segments.get(i + 1)) - 1 > seq) {
+                    return;
+                }
+                Files.deleteIfExists(segments.get(i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public long lastSeq() {
+        appendLock.lock();
+        try {
+            return lastSeq;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        syncer.interrupt();
+        try {
+            syncer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        appendLock.lock();
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+        completeSyncs(Long.MAX_VALUE);
+    }
+
+    private void syncLoop() {
+        while(running) {
+            try {
+                syncLock.lock();
+                try {
+                    while(pendingSyncs.isEmpty()) {
+                        syncRequested.await();
+                    }
+                } finally {
+                    syncLock.unlock();
+                }
+
+                // 짧게 기다려 그동안 들어온 요청을 한 번의 force 로 묶습니다.
+                if(syncIntervalMillis > 0) {
+                    TimeUnit.MILLISECONDS.sleep(syncIntervalMillis);
+                }
+
+                MappedByteBuffer current;
+                long syncedSeq;
+                appendLock.lock();
+                try {
+                    current = buffer;
+                    syncedSeq = lastSeq;
+                } finally {
+                    appendLock.unlock();
+                }
+                current.force();
+                completeSyncs(syncedSeq);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                failSyncs(e);
+            }
+        }
+    }
+
+    private void completeSyncs(long syncedSeq) {
+        List<CompletableFuture<Void>> completed = new ArrayList<>();
+        syncLock.lock();
+        try {
+            while(!pendingSyncs.isEmpty() && pendingSyncs.peekFirst().seq() <= syncedSeq) {
+                completed.add(pendingSyncs.pollFirst().synced());
+            }
+        } finally {
+            syncLock.unlock();
+        }
+        completed.forEach(future -> future.complete(null));
+    }
+
+    private void failSyncs(RuntimeException e) {
+        List<CompletableFuture<Void>> failed = new ArrayList<>();
+        syncLock.lock();
+        try {
+            while(!pendingSyncs.isEmpty()) {
+                failed.add(pendingSyncs.pollFirst().synced());
+            }
+        } finally {
+            syncLock.unlock();
+        }
+        failed.forEach(future -> future.completeExceptionally(e));
+    }
+
+    /**
+     * 가득 찬 세그먼트는 force 한 뒤 닫으므로, 이전 세그먼트의 레코드는 모두 디스크에 기록되어 있습니다.
+     */
+    private void rollSegment() throws IOException {
+        buffer.force();
+        channel.close();
+        openSegment(lastSeq + 1);
+    }
+
+    private void openSegment(long firstSeq) throws IOException {
+        Path segment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSeq, SEGMENT_SUFFIX));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        position = 0;
+        lastSeq = firstSeq - 1;
+    }
+
+    /**
+     * 마지막 세그먼트에서 순번이 이어지는 마지막 레코드 다음 위치부터 이어서 기록합니다.
+     * 그 뒤의 영역은 모두 0 으로 지워, 중간에 끊긴 레코드 뒤에 남아 있던 이전 기록이 새 레코드 뒤에서 다시 읽히지 않게 합니다.
+     */
+    private void reopenLastSegment(Path segment) throws IOException {
+        long firstSeq = firstSeq(segment);
+        openSegment(firstSeq);
+        while(position < recordsPerSegment) {
+            WalRecord record = read(buffer, position * RECORD_SIZE);
+            if(record == null || record.seq() != lastSeq + 1) {
+                break;
+            }
+            lastSeq = record.seq();
+            position++;
+        }
+
+        byte[] zeros = new byte[RECORD_SIZE * 256];
+        for(int offset = position * RECORD_SIZE; offset < buffer.capacity(); offset += zeros.length) {
+            buffer.put(offset, zeros, 0, Math.min(zeros.length, buffer.capacity() - offset));
+        }
+        buffer.force();
+    }
+
+    private static long firstSeq(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        if(!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void write(MappedByteBuffer buffer, int offset, long seq, PointJournalEntry entry) {
+        buffer.putLong(offset, seq);
+        buffer.putLong(offset + 8, entry.userId());
+        buffer.putLong(offset + 16, entry.amount());
+        buffer.put(offset + 24, (byte) entry.type().ordinal());
+        buffer.putLong(offset + 25, entry.balance());
+        buffer.putLong(offset + 33, entry.updateMillis());
+        buffer.putInt(offset + CRC_OFFSET, crc(buffer, offset));
+    }
+
+    /**
+     * 비어 있거나 CRC 가 맞지 않는 레코드는 null 을 반환합니다.
+     */
+    private static WalRecord read(MappedByteBuffer buffer, int offset) {
+        long seq = buffer.getLong(offset);
+        if(seq == 0 || buffer.getInt(offset + CRC_OFFSET) != crc(buffer, offset)) {
+            return null;
+        }
+        int type = buffer.get(offset + 24);
+        if(type < 0 || type >= TransactionType.values().length) {
+            return null;
+        }
+        return new WalRecord(seq, new PointJournalEntry(
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                TransactionType.values()[type],
+                buffer.getLong(offset + 25),
+                buffer.getLong(offset + 33)
+        ));
+    }
+
+    private static int crc(MappedByteBuffer buffer, int offset) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.slice(offset, CRC_OFFSET));
+        return (int) crc32.getValue();
+    }
+
+    private record PendingSync(long seq, CompletableFuture<Void> synced) {
+    }
+}
@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 만료 시각이 정해진 항목을 틱 단위로 꺼내는 계층형 타이밍 휠
+ * - 단계마다 64칸이며, 0단계 한 칸은 tickMillis, k단계 한 칸은 tickMillis * 64^k 입니다.
+ * - 항목은 남은 틱 수에 맞는 단계의 칸에 넣고, 아래 단계가 한 바퀴 돌 때마다 윗 단계의 한 칸을 아래 단계로 내려 보냅니다.
+ * - 시계를 진행하는 비용은 지나간 틱 수와 그동안 만료되거나 내려 보낸 항목 수에만 비례하고, 전체 항목 수와는 관계없습니다.
+ * - 가장 윗 단계보다 먼 항목은 가장 윗 단계의 가장 먼 칸에 넣었다가, 내려 보낼 때 다시 넣습니다.
+ * - 만료 시각이 지난 항목은 다음 advance 에서 바로 꺼냅니다.
+ */
+class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final List<List<Entry<T>>> slots;
+    private final int levels;
+    /**
+     * 다음에 처리할 틱
+     */
+    private long currentTick;
+    private int size;
+
+    HierarchicalTimingWheel(long tickMillis, int levels, long startMillis) {
+        if(tickMillis <= 0) {
+            throw new IllegalArgumentException("타이밍 휠의 틱 간격은 0보다 커야 합니다.");
+        }
+        if(levels <= 0 || levels * SLOT_BITS >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("타이밍 휠의 단계 수가 올바르지 않습니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.slots = new ArrayList<>(levels * SLOTS);
+        for(int i = 0; i < levels * SLOTS; i++) {
+            slots.add(null);
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    synchronized void add(T value, long expiresAtMillis) {
+        place(new Entry<>(value, -Math.floorDiv(-expiresAtMillis, tickMillis)));
+        size++;
+    }
+
+    /**
+     * nowMillis 까지의 틱을 진행하고, 그동안 만료 시각이 지난 항목을 꺼냅니다.
+     */
+    synchronized List<T> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while(currentTick <= nowTick) {
+            int index = (int) (currentTick & MASK);
+            if(index == 0) {
+                cascade();
+            }
+            for(Entry<T> entry : take(0, index)) {
+                expired.add(entry.value());
+            }
+            currentTick++;
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = Math.max(0L, entry.tick() - currentTick);
+        long tick = currentTick + delta;
+        for(int level = 0; level < levels; level++) {
+            if(delta < 1L << (SLOT_BITS * (level + 1))) {
+                slot(level, (int) ((tick >>> (SLOT_BITS * level)) & MASK)).add(entry);
+                return;
+            }
+        }
+        int top = levels - 1;
+        long farthest = currentTick + (1L << (SLOT_BITS * levels)) - 1;
+        slot(top, (int) ((farthest >>> (SLOT_BITS * top)) & MASK)).add(entry);
+    }
+
+    /**
+     * 아래 단계가 한 바퀴를 돌았으면 윗 단계의 현재 칸을 비워 아래 단계로 다시 넣습니다.
+     */
+    private void cascade() {
+        for(int level = 1; level < levels; level++) {
+            int index = (int) ((currentTick >>> (SLOT_BITS * level)) & MASK);
+            for(Entry<T> entry : take(level, index)) {
+                place(entry);
+            }
+            if(index != 0) {
+                return;
+            }
+        }
+    }
+
+    private List<Entry<T>> slot(int level, int index) {
+        int position = level * SLOTS + index;
+        List<Entry<T>> slot = slots.get(position);
+        if(slot == null) {
+            slot = new ArrayList<>();
+            slots.set(position, slot);
+        }
+        return slot;
+    }
+
+    private List<Entry<T>> take(int level, int index) {
+        List<Entry<T>> slot = slots.set(level * SLOTS + index, null);
+        return slot != null ? slot : List.of();
+    }
+
+    private record Entry<T>(T value, long tick) {
+    }
+}
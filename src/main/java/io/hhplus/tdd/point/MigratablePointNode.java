@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+import java.util.Set;
+
+/**
+ * 유저 데이터를 다른 노드로 옮길 수 있는 노드 (같은 JVM 안의 노드)
+ */
+public interface MigratablePointNode extends PointNode {
+
+    /**
+     * 포인트 또는 내역이 있는 유저 id 목록
+     */
+    Set<Long> userIds();
+
+    /**
+     * 유저의 포인트와 내역을 이 노드에서 제거하고 반환합니다.
+     */
+    PointUserState detachUser(long id);
+
+    /**
+     * 다른 노드에서 옮겨 온 유저의 포인트와 내역을 적재합니다.
+     */
+    void attachUser(PointUserState state);
+}
@@ -0,0 +1,261 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 유저 락을 기다리기 전에 요청을 받을지 정합니다.
+ * - 유저별, 전체 처리량을 토큰 버킷으로 제한합니다. 버킷은 다음 토큰이 생기는 시각 하나로 표현합니다. (GCRA)
+ *   초당 ratePerSecond 개씩 채워지고 최대 burst 개까지 한 번에 쓸 수 있습니다.
+ * - 유저별로 처리 중이거나 락을 기다리는 요청 수를 maxQueuedPerUser 개로 제한해, 한 유저가 요청 스레드를 모두 붙잡지 못하게 합니다.
+ * - 받을 수 없는 요청은 기다리지 않고 PointAdmissionException 으로 바로 거절합니다.
+ * - 제한 값이 0 이면 해당 제한을 적용하지 않습니다.
+ */
+@Component
+public class PointAdmissionControl {
+
+    private final RateLimit userRate;
+    private final RateLimit globalRate;
+    private final int maxQueuedPerUser;
+    private final LongSupplier nanoTime;
+    private final PointMetrics pointMetrics;
+
+    private final Map<Long, UserAdmission> users = new ConcurrentHashMap<>();
+    private final AtomicLong globalTat = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Autowired
+    public PointAdmissionControl(
+            @Value("${point.admission.user.rate-per-second:0}") double userRatePerSecond,
+            @Value("${point.admission.user.burst:0}") int userBurst,
+            @Value("${point.admission.user.max-queued:0}") int maxQueuedPerUser,
+            @Value("${point.admission.global.rate-per-second:0}") double globalRatePerSecond,
+            @Value("${point.admission.global.burst:0}") int globalBurst,
+            PointMetrics pointMetrics
+    ) {
+        this(userRatePerSecond, userBurst, maxQueuedPerUser, globalRatePerSecond, globalBurst, System::nanoTime, pointMetrics);
+    }
+
+    PointAdmissionControl(
+            double userRatePerSecond,
+            int userBurst,
+            int maxQueuedPerUser,
+            double globalRatePerSecond,
+            int globalBurst,
+            LongSupplier nanoTime,
+            PointMetrics pointMetrics
+    ) {
+        if(userRatePerSecond < 0 || globalRatePerSecond < 0 || userBurst < 0 || globalBurst < 0 || maxQueuedPerUser < 0) {
+            throw new IllegalArgumentException("처리량 제한 값은 0 이상이어야 합니다.");
+        }
+        this.userRate = RateLimit.of(userRatePerSecond, userBurst);
+        this.globalRate = RateLimit.of(globalRatePerSecond, globalBurst);
+        this.maxQueuedPerUser = maxQueuedPerUser;
+        this.nanoTime = nanoTime;
+        this.pointMetrics = pointMetrics;
+    }
+
+    public static PointAdmissionControl unlimited(PointMetrics pointMetrics) {
+        return new PointAdmissionControl(0, 0, 0, 0, 0, System::nanoTime, pointMetrics);
+    }
+
+    /**
+     * 유저별 제한, 전체 제한 순으로 확인해 요청을 받으면 task 를 실행합니다.
+     * permits 는 요청이 쓰는 토큰 수이며, 일괄 처리는 항목 수만큼 씁니다.
+     * 버킷 크기(burst)보다 많이 쓰는 요청은 버킷이 가득 찼을 때 받으며 버킷을 모두 씁니다. (영영 받을 수 없는 요청을 만들지 않습니다.)
+     */
+    public <T> T execute(long userId, int permits, Supplier<T> task) {
+        long now = nanoTime.getAsLong();
+        UserTicket ticket = admitUser(userId, permits, now);
+        admitGlobal(permits, now, ticket);
+        try {
+            return task.get();
+        } finally {
+            inFlight.decrementAndGet();
+            release(userId);
+        }
+    }
+
+    /**
+     * 두 유저가 함께 쓰는 요청(송금)은 두 유저의 제한을 모두 확인합니다. 전체 제한은 한 번만 셉니다.
+     * 유저 락과 같은 순서(userId 오름차순)로 확인하며, 한쪽이라도 거절되면 먼저 받은 쪽의 토큰과 대기 자리를 돌려줍니다.
+     */
+    public <T> T execute(long firstUserId, long secondUserId, int permits, Supplier<T> task) {
+        if(firstUserId == secondUserId) {
+            return execute(firstUserId, permits, task);
+        }
+        long lower = Math.min(firstUserId, secondUserId);
+        long higher = Math.max(firstUserId, secondUserId);
+        long now = nanoTime.getAsLong();
+        UserTicket lowerTicket = admitUser(lower, permits, now);
+        UserTicket higherTicket;
+        try {
+            higherTicket = admitUser(higher, permits, now);
+        } catch (PointAdmissionException e) {
+            cancel(lowerTicket);
+            throw e;
+        }
+        try {
+            admitGlobal(permits, now, higherTicket);
+        } catch (PointAdmissionException e) {
+            cancel(lowerTicket);
+            throw e;
+        }
+        if(lowerTicket.queued() && !higherTicket.queued()) {
+            pointMetrics.recordAdmissionQueued();
+        }
+        try {
+            return task.get();
+        } finally {
+            inFlight.decrementAndGet();
+            release(higher);
+            release(lower);
+        }
+    }
+
+    /**
+     * 처리 중이거나 락을 기다리는 요청 수
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 유저별 대기 한도와 처리량 제한을 확인하고 대기 자리와 토큰을 차지합니다.
+     */
+    private UserTicket admitUser(long userId, int permits, long now) {
+        PointAdmissionRejectReason[] rejected = new PointAdmissionRejectReason[1];
+        long[] retryAfterNanos = new long[1];
+        boolean[] queued = new boolean[1];
+        long[] userCost = new long[1];
+
+        users.compute(userId, (id, admission) -> {
+            UserAdmission current = admission != null ? admission : new UserAdmission();
+            if(maxQueuedPerUser > 0 && current.inFlight >= maxQueuedPerUser) {
+                rejected[0] = PointAdmissionRejectReason.USER_QUEUE_FULL;
+                return admission;
+            }
+            if(userRate.limited()) {
+                long nextTat = userRate.nextTat(current.tat, now, permits);
+                if(nextTat == RateLimit.REJECTED) {
+                    rejected[0] = PointAdmissionRejectReason.USER_RATE;
+                    retryAfterNanos[0] = userRate.retryAfter(current.tat, now, permits);
+                    return admission;
+                }
+                current.tat = nextTat;
+                userCost[0] = userRate.cost(permits);
+            }
+            queued[0] = current.inFlight > 0;
+            current.inFlight++;
+            return current;
+        });
+        if(rejected[0] != null) {
+            throw reject(rejected[0], retryAfterNanos[0]);
+        }
+        return new UserTicket(userId, userCost[0], queued[0]);
+    }
+
+    /**
+     * 전체 처리량 제한을 확인합니다. 거절하면 ticket 으로 차지한 유저의 토큰과 대기 자리를 돌려줍니다.
+     */
+    private void admitGlobal(int permits, long now, UserTicket ticket) {
+        while(globalRate.limited()) {
+            long tat = globalTat.get();
+            long nextTat = globalRate.nextTat(tat, now, permits);
+            if(nextTat == RateLimit.REJECTED) {
+                cancel(ticket);
+                throw reject(PointAdmissionRejectReason.GLOBAL_RATE, globalRate.retryAfter(tat, now, permits));
+            }
+            if(globalTat.compareAndSet(tat, nextTat)) {
+                break;
+            }
+        }
+
+        inFlight.incrementAndGet();
+        if(ticket.queued()) {
+            pointMetrics.recordAdmissionQueued();
+        }
+    }
+
+    /**
+     * 거절된 요청이 유저 버킷에서 쓴 토큰과 대기 자리를 돌려줍니다.
+     */
+    private void cancel(UserTicket ticket) {
+        users.computeIfPresent(ticket.userId(), (id, admission) -> {
+            admission.tat -= ticket.costNanos();
+            return admission;
+        });
+        release(ticket.userId());
+    }
+
+    /**
+     * 처리 중인 요청이 없고 버킷이 가득 찬 유저의 항목은 지웁니다.
+     */
+    private void release(long userId) {
+        long now = nanoTime.getAsLong();
+        users.computeIfPresent(userId, (id, admission) -> {
+            admission.inFlight--;
+            return admission.inFlight == 0 && (admission.tat == Long.MIN_VALUE || admission.tat - now <= 0) ? null : admission;
+        });
+    }
+
+    private PointAdmissionException reject(PointAdmissionRejectReason reason, long retryAfterNanos) {
+        pointMetrics.recordAdmissionRejection(reason);
+        return new PointAdmissionException(reason, TimeUnit.NANOSECONDS.toMillis(retryAfterNanos));
+    }
+
+    private record UserTicket(long userId, long costNanos, boolean queued) {
+    }
+
+    private static class UserAdmission {
+        private long tat = Long.MIN_VALUE;
+        private int inFlight;
+    }
+
+    /**
+     * tat(theoretical arrival time) : 버킷이 다시 가득 차는 시각
+     * 토큰 n 개를 쓰면 tat 가 n * interval 만큼 늦춰지고, tat 가 지금보다 burst * interval 이상 앞서면 거절합니다.
+     * n 은 burst 를 넘지 않도록 줄여서 셉니다.
+     */
+    private record RateLimit(long intervalNanos, long toleranceNanos) {
+
+        static final long REJECTED = Long.MIN_VALUE;
+        static final RateLimit UNLIMITED = new RateLimit(0L, 0L);
+
+        static RateLimit of(double ratePerSecond, int burst) {
+            if(ratePerSecond == 0) {
+                return UNLIMITED;
+            }
+            long interval = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+            return new RateLimit(interval, interval * Math.max(1, burst));
+        }
+
+        boolean limited() {
+            return intervalNanos > 0;
+        }
+
+        long nextTat(long tat, long now, int permits) {
+            long base = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+            long next = base + cost(permits);
+            return next - now > toleranceNanos ? REJECTED : next;
+        }
+
+        long retryAfter(long tat, long now, int permits) {
+            long base = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+            return Math.max(0L, base + cost(permits) - toleranceNanos - now);
+        }
+
+        long cost(int permits) {
+            return Math.min(permits * intervalNanos, toleranceNanos);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 처리량 제한이나 유저별 대기 한도로 요청을 받지 않았을 때 발생합니다. (HTTP 429)
+ * - retryAfterMillis : 다시 시도해도 되는 최소 대기 시간
+ */
+public class PointAdmissionException extends RuntimeException {
+
+    private final PointAdmissionRejectReason reason;
+    private final long retryAfterMillis;
+
+    public PointAdmissionException(PointAdmissionRejectReason reason, long retryAfterMillis) {
+        super(reason.message());
+        this.reason = reason;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public PointAdmissionRejectReason reason() {
+        return reason;
+    }
+
+    public long retryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
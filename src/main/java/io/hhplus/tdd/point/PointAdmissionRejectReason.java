@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 유저 락에 들어가기 전에 요청을 거절한 사유 (point.admission.rejections 메트릭의 reason 태그)
+ */
+public enum PointAdmissionRejectReason {
+    USER_RATE("user_rate", "같은 유저의 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    USER_QUEUE_FULL("user_queue_full", "같은 유저의 처리 대기 중인 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    GLOBAL_RATE("global_rate", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final String tag;
+    private final String message;
+
+    PointAdmissionRejectReason(String tag, String message) {
+        this.tag = tag;
+        this.message = message;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public String message() {
+        return message;
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 트랜잭션 종류별 누적 금액/건수와 최근 retentionDays 일의 일별(UTC) 금액/건수
+ * - 값마다 원자적으로 더하므로 여러 스레드가 동시에 반영해도 됩니다.
+ * - 일별 구간은 반영된 가장 최근 날짜를 기준으로 보관 일수를 넘긴 것부터 버립니다.
+ */
+class PointAggregate {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int TYPES = TransactionType.values().length;
+
+    private final int retentionDays;
+    /**
+     * [종류 * 2] = 금액, [종류 * 2 + 1] = 건수
+     */
+    private final AtomicLongArray totals = new AtomicLongArray(TYPES * 2);
+    private final ConcurrentSkipListMap<Long, AtomicLongArray> daily = new ConcurrentSkipListMap<>();
+
+    PointAggregate(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    void add(TransactionType type, long amount, long updateMillis) {
+        add(type.ordinal(), amount, 1L, Math.floorDiv(updateMillis, MILLIS_PER_DAY));
+    }
+
+    /**
+     * 다른 집계를 sign 방향(1 이면 더하고, -1 이면 뺌)으로 반영합니다.
+     */
+    void merge(PointAggregate other, long sign) {
+        for(int type = 0; type < TYPES; type++) {
+            totals.addAndGet(type * 2, sign * other.totals.get(type * 2));
+            totals.addAndGet(type * 2 + 1, sign * other.totals.get(type * 2 + 1));
+        }
+        for(Map.Entry<Long, AtomicLongArray> entry : other.daily.entrySet()) {
+            for(int type = 0; type < TYPES; type++) {
+                addToDay(entry.getKey(), type, sign * entry.getValue().get(type * 2), sign * entry.getValue().get(type * 2 + 1));
+            }
+        }
+    }
+
+    PointStats snapshot(Long userId) {
+        List<PointDailyStats> days = new ArrayList<>(daily.size());
+        for(Map.Entry<Long, AtomicLongArray> entry : daily.entrySet()) {
+            days.add(new PointDailyStats(LocalDate.ofEpochDay(entry.getKey()), byType(entry.getValue())));
+        }
+        return new PointStats(userId, byType(totals), days);
+    }
+
+    private void add(int type, long amount, long count, long day) {
+        totals.addAndGet(type * 2, amount);
+        totals.addAndGet(type * 2 + 1, count);
+        addToDay(day, type, amount, count);
+    }
+
+    private void addToDay(long day, int type, long amount, long count) {
+        AtomicLongArray bucket = daily.get(day);
+        if(bucket == null) {
+            if(!daily.isEmpty() && day <= daily.lastKey() - retentionDays) {
+                return;
+            }
+            bucket = daily.computeIfAbsent(day, key -> new AtomicLongArray(TYPES * 2));
+            daily.headMap(daily.lastKey() - retentionDays, true).clear();
+        }
+        bucket.addAndGet(type * 2, amount);
+        bucket.addAndGet(type * 2 + 1, count);
+    }
+
+    private static Map<TransactionType, PointStatsTotal> byType(AtomicLongArray values) {
+        Map<TransactionType, PointStatsTotal> result = new EnumMap<>(TransactionType.class);
+        for(TransactionType type : TransactionType.values()) {
+            result.put(type, new PointStatsTotal(values.get(type.ordinal() * 2), values.get(type.ordinal() * 2 + 1)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 내역을 누적한 잔액(expected)과 UserPointTable 의 잔액(actual)이 다른 유저
+ */
+public record PointBalanceMismatch(
+        long userId,
+        long expected,
+        long actual
+) {
+}
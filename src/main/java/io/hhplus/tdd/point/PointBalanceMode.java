@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 잔액의 기준 데이터 (point.balance.mode)
+ * - TABLE : UserPointTable 의 잔액이 기준이며, 내역은 PointHistoryWriter 가 뒤따라 저장
+ * - EVENT_SOURCED : PointHistoryTable 의 내역이 기준이며, 잔액은 내역을 누적한 값을 UserPointTable 에 반영
+ */
+public enum PointBalanceMode {
+    TABLE, EVENT_SOURCED
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포인트 내역을 누적해 유저별 잔액을 계산합니다. (EVENT_SOURCED 모드)
+ * - 유저별로 마지막으로 반영한 내역 id 와 그때의 잔액(체크포인트)을 유지하고,
+ *   체크포인트 이후에 저장된 내역만 이어서 반영합니다.
+ * - 같은 유저에 대한 호출은 유저 락 안에서 이뤄집니다.
+ */
+@Component
+public class PointBalanceProjection {
+
+    private static final int CATCH_UP_PAGE_SIZE = PointHistoryCondition.MAX_LIMIT;
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointBalanceMode mode;
+    private final Map<Long, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+
+    public PointBalanceProjection(
+            PointHistoryTable pointHistoryTable,
+            @Value("${point.balance.mode:TABLE}") PointBalanceMode mode
+    ) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.mode = mode;
+    }
+
+    public boolean isEnabled() {
+        return mode == PointBalanceMode.EVENT_SOURCED;
+    }
+
+    /**
+     * 체크포인트 이후의 내역까지 반영한 잔액을 반환합니다.
+     */
+    public UserPoint balanceOf(long userId) {
+        Checkpoint checkpoint = checkpoints.getOrDefault(userId, Checkpoint.EMPTY);
+        Long cursor = checkpoint.lastHistoryId();
+        do {
+            PointHistoryPage page = pointHistoryTable.selectPageByUserId(userId, PointHistoryCondition.of(cursor, CATCH_UP_PAGE_SIZE, null, null, null));
+            checkpoint = checkpoint.apply(page.histories());
+            cursor = page.nextCursor();
+        } while(cursor != null);
+
+        checkpoints.put(userId, checkpoint);
+        return new UserPoint(userId, checkpoint.balance(), checkpoint.updateMillis());
+    }
+
+    /**
+     * 방금 저장한 내역을 체크포인트에 반영합니다.
+     * 체크포인트가 없는 유저는 다음 조회 때 테이블에서 처음부터 계산합니다.
+     */
+    public void apply(long userId, List<PointHistory> appended) {
+        checkpoints.computeIfPresent(userId, (id, checkpoint) -> checkpoint.apply(appended));
+    }
+
+    /**
+     * 내역 한 건이 잔액에 더하는 값
+     */
+    static long signedAmount(TransactionType type, long amount) {
+        return type == TransactionType.CHARGE ? amount : -amount;
+    }
+
+    /**
+     * 다른 노드로 옮겨 가거나 옮겨 온 유저의 체크포인트를 버립니다.
+     */
+    public void forget(long userId) {
+        checkpoints.remove(userId);
+    }
+
+    private record Checkpoint(Long lastHistoryId, long balance, long updateMillis) {
+
+        static final Checkpoint EMPTY = new Checkpoint(null, 0L, 0L);
+
+        Checkpoint apply(List<PointHistory> histories) {
+            Long lastId = lastHistoryId;
+            long balance = this.balance;
+            long updateMillis = this.updateMillis;
+            for(PointHistory pointHistory : histories) {
+                if(lastId != null && pointHistory.id() <= lastId) {
+                    continue;
+                }
+                balance += signedAmount(pointHistory.type(), pointHistory.amount());
+                lastId = pointHistory.id();
+                updateMillis = pointHistory.updateMillis();
+            }
+            return new Checkpoint(lastId, balance, updateMillis);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.lock.UserLockStrategy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 내역을 누적한 잔액과 UserPointTable 의 잔액을 주기적으로 비교해 어긋난 유저를 보고합니다.
+ * - 잔액 테이블과 내역 테이블 중 한쪽에만 있는 유저도 비교하도록 두 테이블의 유저를 합쳐 확인합니다.
+ * - 유저 목록을 구간으로 나눠 전용 ForkJoinPool 에서 병렬로 비교합니다.
+ * - 유저 락을 잡지 않고 각 테이블의 스냅샷을 읽으므로 요청 처리를 막지 않습니다.
+ *   내역은 PointHistory 객체를 만들지 않고 값으로 순회하며 합산합니다.
+ * - 내역은 PointHistoryWriter 가 비동기로 저장하므로, 반영 도중이거나 저장 대기 중인 유저가 어긋나 보일 수 있습니다.
+ *   그래서 어긋나 보인 유저만 유저 락 안에서 저장 대기 중인 내역을 모두 저장한 뒤 다시 비교하고, 그래도 다르면 보고합니다.
+ */
+@Slf4j
+@Component
+public class PointBalanceReconciler {
+
+    private static final int PARTITION_SIZE = 256;
+
+    private final PointHistoryTable pointHistoryTable;
+    private final UserPointTable userPointTable;
+    private final UserLockStrategy userLockStrategy;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointMetrics pointMetrics;
+    private final ForkJoinPool pool;
+    private final ScheduledExecutorService scheduler;
+
+    public PointBalanceReconciler(
+            PointHistoryTable pointHistoryTable,
+            UserPointTable userPointTable,
+            UserLockStrategy userLockStrategy,
+            PointHistoryWriter pointHistoryWriter,
+            PointMetrics pointMetrics,
+            @Value("${point.reconcile.parallelism:2}") int parallelism,
+            @Value("${point.reconcile.interval-seconds:0}") long intervalSeconds
+    ) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.userPointTable = userPointTable;
+        this.userLockStrategy = userLockStrategy;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointMetrics = pointMetrics;
+        this.pool = new ForkJoinPool(parallelism);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-balance-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if(intervalSeconds > 0) {
+            scheduler.scheduleWithFixedDelay(this::reconcileQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    public PointReconcileReport reconcile() {
+        long startMillis = System.currentTimeMillis();
+        Set<Long> users = new HashSet<>(userPointTable.selectUserIds());
+        users.addAll(pointHistoryTable.selectUserIds());
+        long[] userIds = users.stream().mapToLong(Long::longValue).toArray();
+        List<PointBalanceMismatch> mismatches = pool.invoke(new ReconcileTask(userIds, 0, userIds.length));
+
+        PointReconcileReport report = new PointReconcileReport(userIds.length, mismatches, System.currentTimeMillis() - startMillis);
+        pointMetrics.recordReconcile(report);
+        for(PointBalanceMismatch mismatch : mismatches) {
+            log.warn("유저 {} 의 잔액이 내역과 다릅니다. (내역 기준 {}, 테이블 {})", mismatch.userId(), mismatch.expected(), mismatch.actual());
+        }
+        return report;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("잔액 대사에 실패했습니다.", e);
+        }
+    }
+
+    private PointBalanceMismatch compare(long userId) {
+        long[] expected = new long[1];
+        pointHistoryTable.forEachByUserId(userId, (id, ignored, amount, type, updateMillis) -> expected[0] += PointBalanceProjection.signedAmount(type, amount));
+        long actual = userPointTable.selectById(userId).point();
+        if(expected[0] == actual) {
+            return null;
+        }
+        return new PointBalanceMismatch(userId, expected[0], actual);
+    }
+
+    /**
+     * 유저 락 안에서 저장 대기 중인 내역을 모두 저장한 뒤 다시 비교합니다.
+     */
+    private PointBalanceMismatch recheck(long userId) {
+        return userLockStrategy.executeWithLock(userId, () -> {
+            pointHistoryWriter.barrier().join();
+            return compare(userId);
+        });
+    }
+
+    private class ReconcileTask extends RecursiveTask<List<PointBalanceMismatch>> {
+
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+
+        ReconcileTask(long[] userIds, int from, int to) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<PointBalanceMismatch> compute() {
+            if(to - from > PARTITION_SIZE) {
+                int mid = (from + to) >>> 1;
+                ReconcileTask left = new ReconcileTask(userIds, from, mid);
+                left.fork();
+                List<PointBalanceMismatch> mismatches = new ArrayList<>(new ReconcileTask(userIds, mid, to).compute());
+                mismatches.addAll(0, left.join());
+                return mismatches;
+            }
+
+            List<PointBalanceMismatch> mismatches = new ArrayList<>();
+            for(int i = from; i < to; i++) {
+                if(compare(userIds[i]) == null) {
+                    continue;
+                }
+                PointBalanceMismatch mismatch = recheck(userIds[i]);
+                if(mismatch != null) {
+                    mismatches.add(mismatch);
+                }
+            }
+            return mismatches;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 여러 유저의 충전/사용 요청을 한 번에 처리합니다.
+ * - 유저별로 요청을 묶어 서로 다른 유저는 병렬로, 같은 유저는 요청 순서대로 처리합니다.
+ * - 같은 유저의 요청은 그룹 커밋으로 한 번의 잔액 저장에 반영됩니다.
+ * - 한 유저의 요청이 통째로 거절되거나(처리량 제한, 피어 호출 실패 등) 실패해도 다른 유저의 결과는 그대로 반환하고,
+ *   그 유저의 항목만 실패 사유와 함께 실패로 담습니다. 다른 유저의 요청은 이미 반영되었을 수 있기 때문입니다.
+ */
+@Service
+public class PointBulkService {
+
+    public static final int MAX_BULK_SIZE = 10_000;
+
+    private final PointNode pointNode;
+    private final AsyncTaskExecutor taskExecutor;
+
+    public PointBulkService(
+            PointNode pointNode,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor taskExecutor
+    ) {
+        this.pointNode = pointNode;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public List<PointOperationResult> applyAll(List<PointOperation> operations) {
+        if(operations.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("일괄 처리 요청은 최대 10000건을 초과할 수 없습니다.");
+        }
+
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for(int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), userId -> new ArrayList<>()).add(i);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByUser.size());
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        for(Map.Entry<Long, List<Integer>> entry : indexesByUser.entrySet()) {
+            long userId = entry.getKey();
+            List<Integer> indexes = entry.getValue();
+            futures.add(CompletableFuture.runAsync(() -> {
+                List<PointOperation> userOperations = indexes.stream().map(operations::get).toList();
+                try {
+                    List<PointOperationResult> userResults = pointNode.applyUserPointOperations(userId, userOperations);
+                    for(int i = 0; i < indexes.size(); i++) {
+                        results[indexes.get(i)] = userResults.get(i);
+                    }
+                } catch (RuntimeException e) {
+                    for(int index : indexes) {
+                        results[index] = PointOperationResult.failed(operations.get(index), e.getMessage());
+                    }
+                }
+            }, taskExecutor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return List.of(results);
+    }
+}
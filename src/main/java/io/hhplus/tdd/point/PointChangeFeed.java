@@ -0,0 +1,298 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 저장된 포인트 내역을 변경 이벤트로 내보내는 피드
+ * - 이벤트 순번은 PointHistory.id 이며, 구독자는 offset(마지막으로 받은 id) 이후의 이벤트를 받습니다.
+ * - 최근 capacity 개의 이벤트를 링 버퍼에 보관하므로 테이블을 읽지 않습니다. 버퍼에서 밀려난 offset 은 거절합니다.
+ * - 내역 id 는 저장하는 동안 발급되므로, 먼저 시작한 저장이 끝나기 전에는 나중에 끝난 저장의 이벤트를 내보내지 않습니다.
+ *   그래서 이미 내보낸 id 보다 작은 id 의 이벤트가 뒤늦게 나오지 않습니다.
+ * - 기다리는 롱 폴링은 전용 스레드에서 깨웁니다. 내역을 저장한 스레드(내역 저장 스레드나 유저 락을 잡은 요청 스레드)는
+ *   대기 중인 요청 수와 관계없이 깨우기만 맡기고 바로 돌아갑니다.
+ */
+@Component
+public class PointChangeFeed {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 25_000L;
+    public static final long MAX_TIMEOUT_MILLIS = 30_000L;
+
+    private final int capacity;
+    private final PointHistory[] events;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 지금까지 버퍼에 넣은 이벤트 수
+     */
+    private long published;
+    private long lastSeq;
+    private long evictedSeq;
+
+    private long epoch;
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private final ArrayDeque<CommittedHistories> committed = new ArrayDeque<>();
+    private CompletableFuture<Void> changed = new CompletableFuture<>();
+    private final ExecutorService notifier;
+
+    public PointChangeFeed(@Value("${point.feed.capacity:65536}") int capacity) {
+        if(capacity < 0) {
+            throw new IllegalArgumentException("변경 피드 버퍼 크기는 0 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.events = new PointHistory[capacity];
+        this.notifier = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "point-feed-notifier");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 이벤트를 보관하지 않는 피드 (샤드, 테스트용)
+     */
+    public static PointChangeFeed disabled() {
+        return new PointChangeFeed(0);
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * 내역을 저장하고, 저장된 내역을 id 순서대로 피드에 반영합니다.
+     */
+    public List<PointHistory> capture(Supplier<List<PointHistory>> insert) {
+        if(!isEnabled()) {
+            return insert.get();
+        }
+
+        long ticket = begin();
+        List<PointHistory> saved = List.of();
+        try {
+            saved = insert.get();
+            return saved;
+        } finally {
+            commit(ticket, saved);
+        }
+    }
+
+    /**
+     * offset 이후의 이벤트를 최대 limit 개 읽습니다. userId 가 있으면 그 유저의 이벤트만 담습니다.
+     * 응답의 nextOffset 은 걸러진 이벤트까지 포함해 마지막으로 확인한 순번이므로, 다음 요청의 offset 으로 그대로 사용합니다.
+     */
+    public PointChangePage read(long offset, int limit, Long userId) {
+        lock.readLock().lock();
+        try {
+            if(offset < evictedSeq) {
+                throw new PointChangeOffsetExpiredException(offset, evictedSeq);
+            }
+            long oldest = Math.max(0L, published - capacity);
+            long position = firstAfter(offset, oldest);
+            long nextOffset = offset;
+            List<PointHistory> page = new ArrayList<>();
+            for(; position < published && page.size() < limit; position++) {
+                PointHistory event = eventAt(position);
+                nextOffset = event.id();
+                if(userId == null || event.userId() == userId) {
+                    page.add(event);
+                }
+            }
+            return new PointChangePage(page, nextOffset);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * offset 이후의 이벤트를 읽고, 없으면 새 이벤트가 생기거나 timeoutMillis 가 지날 때까지 기다립니다. (롱 폴링)
+     * offset 이 null 이면 지금 이후의 이벤트부터 받습니다.
+     */
+    public CompletableFuture<PointChangePage> poll(Long offset, Integer limit, Long userId, Long timeoutMillis) {
+        int pageLimit = limit == null ? DEFAULT_LIMIT : limit;
+        if(pageLimit <= 0 || pageLimit > MAX_LIMIT) {
+            throw new RuntimeException("변경 이벤트 조회 개수는 1개 이상 1000개 이하여야 합니다.");
+        }
+        long waitMillis = timeoutMillis == null ? DEFAULT_TIMEOUT_MILLIS : timeoutMillis;
+        if(waitMillis < 0 || waitMillis > MAX_TIMEOUT_MILLIS) {
+            throw new RuntimeException("변경 이벤트 대기 시간은 0 이상 30000ms 이하여야 합니다.");
+        }
+        long from = offset == null ? lastSeq() : offset;
+        return poll(from, pageLimit, userId, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis));
+    }
+
+    /**
+     * offset 이후의 이벤트를 끝없이 내보냅니다. 구독을 취소하면 멈춥니다.
+     * 기다리는 동안 스레드를 점유하지 않고, 이벤트는 내역을 저장한 스레드가 아닌 스레드에서 내보냅니다.
+     */
+    public Flux<PointHistory> stream(Long offset, Long userId) {
+        return Flux.defer(() -> {
+            AtomicLong cursor = new AtomicLong(offset == null ? lastSeq() : offset);
+            return Mono.defer(() -> Mono.fromFuture(poll(cursor.get(), MAX_LIMIT, userId, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_TIMEOUT_MILLIS))))
+                    .publishOn(Schedulers.boundedElastic())
+                    .flatMapIterable(page -> {
+                        cursor.set(page.nextOffset());
+                        return page.events();
+                    })
+                    .repeat();
+        });
+    }
+
+    public long lastSeq() {
+        lock.readLock().lock();
+        try {
+            return lastSeq;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 버퍼에 보관 중인 이벤트 수
+     */
+    public int buffered() {
+        lock.readLock().lock();
+        try {
+            return (int) Math.min(published, capacity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        notifier.shutdownNow();
+    }
+
+    /**
+     * 대기가 끝난 뒤의 조회와 응답은 저장한 스레드나 타임아웃 스레드가 아닌 notifier 에서 이어 갑니다.
+     */
+    private CompletableFuture<PointChangePage> poll(long offset, int limit, Long userId, long deadlineNanos) {
+        PointChangePage page = read(offset, limit, userId);
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if(!page.events().isEmpty() || remainingNanos <= 0) {
+            return CompletableFuture.completedFuture(page);
+        }
+        return changedAfter(page.nextOffset())
+                .orTimeout(remainingNanos, TimeUnit.NANOSECONDS)
+                .handle((ignored, e) -> !(e instanceof TimeoutException))
+                .thenComposeAsync(hasChanged -> hasChanged
+                        ? poll(page.nextOffset(), limit, userId, deadlineNanos)
+                        : CompletableFuture.completedFuture(page), notifier);
+    }
+
+    /**
+     * offset 이후의 이벤트가 버퍼에 들어오면 완료됩니다. 호출한 쪽마다 따로 완료/취소할 수 있도록 복사본을 반환합니다.
+     */
+    private CompletableFuture<Void> changedAfter(long offset) {
+        lock.readLock().lock();
+        try {
+            return lastSeq > offset ? CompletableFuture.completedFuture(null) : changed.copy();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long begin() {
+        lock.writeLock().lock();
+        try {
+            long ticket = ++epoch;
+            inFlight.add(ticket);
+            return ticket;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장을 마친 내역은, 그보다 먼저 시작해 아직 끝나지 않은 저장이 없을 때 id 순서로 버퍼에 넣습니다.
+     * 끝난 뒤에 시작한 저장은 더 큰 id 를 받으므로 기다리지 않습니다.
+     */
+    private void commit(long ticket, List<PointHistory> saved) {
+        CompletableFuture<Void> notify = null;
+        lock.writeLock().lock();
+        try {
+            inFlight.remove(ticket);
+            if(!saved.isEmpty()) {
+                committed.add(new CommittedHistories(++epoch, saved));
+            }
+
+            long oldestInFlight = inFlight.isEmpty() ? Long.MAX_VALUE : inFlight.first();
+            List<PointHistory> released = new ArrayList<>();
+            while(!committed.isEmpty() && committed.peek().epoch() < oldestInFlight) {
+                released.addAll(committed.poll().histories());
+            }
+            if(released.isEmpty()) {
+                return;
+            }
+
+            released.sort(Comparator.comparingLong(PointHistory::id));
+            for(PointHistory event : released) {
+                if(published >= capacity) {
+                    evictedSeq = eventAt(published - capacity).id();
+                }
+                events[(int) (published % capacity)] = event;
+                published++;
+                lastSeq = event.id();
+            }
+            notify = changed;
+            changed = new CompletableFuture<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        wakeUp(notify);
+    }
+
+    private void wakeUp(CompletableFuture<Void> notify) {
+        try {
+            notifier.execute(() -> notify.complete(null));
+        } catch (RejectedExecutionException e) {
+            notify.complete(null);
+        }
+    }
+
+    /**
+     * 버퍼의 이벤트는 id 오름차순이므로 이분 탐색으로 offset 다음 위치를 찾습니다.
+     */
+    private long firstAfter(long offset, long oldest) {
+        long low = oldest;
+        long high = published;
+        while(low < high) {
+            long mid = (low + high) >>> 1;
+            if(eventAt(mid).id() <= offset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private PointHistory eventAt(long position) {
+        return events[(int) (position % capacity)];
+    }
+
+    private record CommittedHistories(long epoch, List<PointHistory> histories) {
+    }
+}
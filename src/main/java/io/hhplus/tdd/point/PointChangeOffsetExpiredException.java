@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 요청한 offset 이후의 이벤트 일부가 변경 피드 버퍼에서 밀려났을 때 발생합니다. (HTTP 410)
+ * 내역 조회 API 로 다시 맞춘 뒤, 응답한 evictedSeq 이후부터 구독합니다.
+ */
+public class PointChangeOffsetExpiredException extends RuntimeException {
+
+    private final long evictedSeq;
+
+    public PointChangeOffsetExpiredException(long offset, long evictedSeq) {
+        super("요청한 offset(" + offset + ") 이후의 이벤트 일부가 버퍼에서 밀려났습니다. 내역 조회로 다시 맞춘 뒤 " + evictedSeq + " 이후부터 구독해 주세요.");
+        this.evictedSeq = evictedSeq;
+    }
+
+    public long evictedSeq() {
+        return evictedSeq;
+    }
+}
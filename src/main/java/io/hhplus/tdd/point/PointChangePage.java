@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 변경 피드에서 읽은 이벤트와 다음 요청에 사용할 offset
+ */
+public record PointChangePage(
+        List<PointHistory> events,
+        long nextOffset
+) {
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 그룹 커밋 대기열에 쌓이는 충전/사용 요청
+ * - 배치를 처리한 스레드가 complete / reject 로 결과를 채우고, 요청한 스레드가 result 로 꺼냅니다.
+ * - result 는 유저 락 밖에서 내역 저장 응답(historyAck)을 기다립니다.
+ */
+class PointCommand {
+
+    private final long amount;
+    private final TransactionType type;
+
+    private volatile boolean done;
+    private volatile UserPoint userPoint;
+    private volatile CompletableFuture<Void> historyAck;
+    private volatile RuntimeException failure;
+
+    PointCommand(long amount, TransactionType type) {
+        this.amount = amount;
+        this.type = type;
+    }
+
+    long amount() {
+        return amount;
+    }
+
+    TransactionType type() {
+        return type;
+    }
+
+    boolean isDone() {
+        return done;
+    }
+
+    boolean isRejected() {
+        return failure != null;
+    }
+
+    void complete(UserPoint userPoint, CompletableFuture<Void> historyAck) {
+        this.userPoint = userPoint;
+        this.historyAck = historyAck;
+        this.done = true;
+    }
+
+    void reject(RuntimeException failure) {
+        this.failure = failure;
+        this.done = true;
+    }
+
+    UserPoint result() {
+        if(failure != null) {
+            throw failure;
+        }
+        try {
+            historyAck.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return userPoint;
+    }
+}
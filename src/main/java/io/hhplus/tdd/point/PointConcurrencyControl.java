@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 충전/사용의 동시성 제어 방식과 OPTIMISTIC 모드의 재시도 정책
+ * - 충돌하면 baseBackoffMicros * 2^(시도 횟수 - 1) 까지(최대 maxBackoffMicros) 임의 시간만큼 기다렸다가 다시 시도합니다. (full jitter)
+ * - OPTIMISTIC 모드는 잔액 테이블을 기준으로 하며, 같은 유저의 내역이 저장 순서와 다르게 쌓일 수 있어
+ *   EVENT_SOURCED 모드, WAL 과 함께 사용할 수 없습니다.
+ * - 포인트 만료는 유저 락 안에서 충전분을 차감하므로 OPTIMISTIC 모드와 함께 사용할 수 없습니다.
+ */
+@Component
+public class PointConcurrencyControl {
+
+    private final PointConcurrencyMode mode;
+    private final int maxAttempts;
+    private final long baseBackoffMicros;
+    private final long maxBackoffMicros;
+
+    @Autowired
+    public PointConcurrencyControl(
+            @Value("${point.concurrency.mode:LOCK}") PointConcurrencyMode mode,
+            @Value("${point.concurrency.max-attempts:10}") int maxAttempts,
+            @Value("${point.concurrency.backoff-base-micros:1000}") long baseBackoffMicros,
+            @Value("${point.concurrency.backoff-max-micros:100000}") long maxBackoffMicros,
+            @Value("${point.balance.mode:TABLE}") PointBalanceMode balanceMode,
+            @Value("${point.wal.enabled:false}") boolean walEnabled,
+            @Value("${point.expiration.enabled:false}") boolean expirationEnabled
+    ) {
+        this(mode, maxAttempts, baseBackoffMicros, maxBackoffMicros);
+        if(mode == PointConcurrencyMode.OPTIMISTIC && (balanceMode == PointBalanceMode.EVENT_SOURCED || walEnabled)) {
+            throw new IllegalStateException("OPTIMISTIC 모드는 EVENT_SOURCED 모드, WAL 과 함께 사용할 수 없습니다.");
+        }
+        if(mode == PointConcurrencyMode.OPTIMISTIC && expirationEnabled) {
+            throw new IllegalStateException("OPTIMISTIC 모드는 포인트 만료와 함께 사용할 수 없습니다.");
+        }
+    }
+
+    private PointConcurrencyControl(PointConcurrencyMode mode, int maxAttempts, long baseBackoffMicros, long maxBackoffMicros) {
+        if(maxAttempts <= 0) {
+            throw new IllegalArgumentException("최대 시도 횟수는 0보다 커야 합니다.");
+        }
+        if(baseBackoffMicros < 0 || maxBackoffMicros < baseBackoffMicros) {
+            throw new IllegalArgumentException("재시도 대기 시간은 0 이상이어야 하며, 최대 대기 시간은 기본 대기 시간보다 작을 수 없습니다.");
+        }
+        this.mode = mode;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMicros = baseBackoffMicros;
+        this.maxBackoffMicros = maxBackoffMicros;
+    }
+
+    public static PointConcurrencyControl locking() {
+        return new PointConcurrencyControl(PointConcurrencyMode.LOCK, 1, 0L, 0L);
+    }
+
+    public static PointConcurrencyControl optimistic(int maxAttempts, long baseBackoffMicros, long maxBackoffMicros) {
+        return new PointConcurrencyControl(PointConcurrencyMode.OPTIMISTIC, maxAttempts, baseBackoffMicros, maxBackoffMicros);
+    }
+
+    public boolean isOptimistic() {
+        return mode == PointConcurrencyMode.OPTIMISTIC;
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * failedAttempts 번 충돌한 뒤 다시 시도하기 전에 기다립니다.
+     */
+    public void backoff(int failedAttempts) {
+        if(maxBackoffMicros == 0) {
+            return;
+        }
+        int shift = Math.min(failedAttempts - 1, 20);
+        long ceiling = Math.min(maxBackoffMicros, baseBackoffMicros << shift);
+        if(ceiling > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ThreadLocalRandom.current().nextLong(ceiling + 1)));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전/사용의 동시성 제어 방식 (point.concurrency.mode)
+ * - LOCK : 유저 락을 잡고 잔액 조회와 저장을 처리하며, 대기 중인 같은 유저의 요청을 한 번에 저장 (그룹 커밋)
+ * - OPTIMISTIC : 락 없이 잔액을 읽고, 읽은 버전 그대로일 때만 저장하며 충돌하면 잠시 기다렸다가 다시 시도
+ */
+public enum PointConcurrencyMode {
+    LOCK, OPTIMISTIC
+}
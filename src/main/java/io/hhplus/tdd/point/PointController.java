@@ -1,16 +1,28 @@
 package io.hhplus.tdd.point;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PointController {
 
-    private final PointService pointService;
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final PointNode pointNode;
+    private final PointBulkService pointBulkService;
+    private final PointIdempotencyStore pointIdempotencyStore;
+    private final PointStatistics pointStatistics;
+    private final PointChangeFeed pointChangeFeed;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -19,38 +31,149 @@ public class PointController {
     public UserPoint point(
             @PathVariable long id
     ) {
-        return pointService.selectUserPointById(id);
+        return pointNode.selectUserPointById(id);
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * cursor 이후의 내역을 limit 개씩 조회하며, 응답의 nextCursor 로 다음 페이지를 조회합니다.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
+    public PointHistoryPage history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long fromMillis,
+            @RequestParam(required = false) Long toMillis,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        return pointNode.selectPointHistoryPageByUserId(id, PointHistoryCondition.of(cursor, limit, fromMillis, toMillis, type));
+    }
+
+    /**
+     * 특정 유저의 종류별 누적 금액/건수와 일별 통계를 조회합니다.
+     */
+    @GetMapping("{id}/stats")
+    public PointStats stats(
             @PathVariable long id
     ) {
-        return pointService.selectPointHistoriesByUserId(id);
+        return pointNode.selectPointStatsByUserId(id);
+    }
+
+    /**
+     * 이 서버에서 처리한 전체 유저의 통계를 조회합니다.
+     */
+    @GetMapping("stats")
+    public PointStats globalStats() {
+        return pointStatistics.globalStats();
+    }
+
+    /**
+     * offset(마지막으로 받은 이벤트 순번 = 내역 id) 이후에 저장된 내역을 변경 이벤트로 받습니다.
+     * 새 이벤트가 없으면 timeoutMillis 동안 기다렸다가 빈 페이지를 반환합니다. (롱 폴링)
+     */
+    @GetMapping("changes")
+    public CompletableFuture<PointChangePage> changes(
+            @RequestParam(required = false) Long offset,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long timeoutMillis
+    ) {
+        return pointChangeFeed.poll(offset, limit, userId, timeoutMillis);
+    }
+
+    /**
+     * offset 이후에 저장된 내역을 SSE 로 계속 받습니다. 이벤트 id 가 순번이므로, 다시 연결할 때 Last-Event-ID 헤더로 이어 받습니다.
+     */
+    @GetMapping(value = "changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PointHistory>> streamChanges(
+            @RequestParam(required = false) Long offset,
+            @RequestParam(required = false) Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return pointChangeFeed.stream(offset != null ? offset : lastEventId, userId)
+                .map(event -> ServerSentEvent.builder(event).id(String.valueOf(event.id())).build());
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 같은 재요청은 처음 요청의 결과를 그대로 반환합니다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        return pointService.chargeUserPoint(id, amount);
+        return pointIdempotencyStore.execute(id, idempotencyKey, TransactionType.CHARGE, amount, () -> pointNode.chargeUserPoint(id, amount));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 같은 재요청은 처음 요청의 결과를 그대로 반환합니다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        return pointIdempotencyStore.execute(id, idempotencyKey, TransactionType.USE, amount, () -> pointNode.useUserPoint(id, amount));
+    }
+
+    /**
+     * 사용 가능한 포인트에서 amount 만큼 홀드합니다. ttlSeconds 안에 확정하거나 취소하지 않으면 자동으로 풀립니다.
+     */
+    @PostMapping("{id}/holds")
+    public PointHold hold(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestParam(required = false) Long ttlSeconds
+    ) {
+        return pointNode.holdUserPoint(id, amount, ttlSeconds);
+    }
+
+    /**
+     * 홀드한 포인트를 사용합니다.
+     */
+    @PostMapping("{id}/holds/{holdId}/confirm")
+    public UserPoint confirmHold(
+            @PathVariable long id,
+            @PathVariable long holdId
+    ) {
+        return pointNode.confirmHold(id, holdId);
+    }
+
+    /**
+     * 홀드를 취소합니다. 포인트와 내역은 바뀌지 않습니다.
+     */
+    @DeleteMapping("{id}/holds/{holdId}")
+    public PointHold cancelHold(
+            @PathVariable long id,
+            @PathVariable long holdId
+    ) {
+        return pointNode.cancelHold(id, holdId);
+    }
+
+    /**
+     * id 유저의 포인트를 toId 유저에게 송금합니다. 두 유저의 포인트와 내역이 함께 반영됩니다.
+     */
+    @PostMapping("{id}/transfer/{toId}")
+    public PointTransfer transfer(
+            @PathVariable long id,
+            @PathVariable long toId,
             @RequestBody long amount
     ) {
-        return pointService.useUserPoint(id, amount);
+        return pointNode.transferUserPoint(id, toId, amount);
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 충전/사용하고, 요청 순서대로 항목별 결과를 반환합니다.
+     */
+    @PostMapping("bulk")
+    public List<PointOperationResult> bulk(
+            @RequestBody List<PointOperation> operations
+    ) {
+        return pointBulkService.applyAll(operations);
     }
 }
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record PointDailyStats(
+        LocalDate date,
+        Map<TransactionType, PointStatsTotal> totals
+) {
+}
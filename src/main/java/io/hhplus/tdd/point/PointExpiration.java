@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRowVisitor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 충전한 포인트를 충전분(lot) 단위로 보관하고, 유효 기간이 지나면 만료 대상으로 꺼냅니다.
+ * - 충전분마다 만료 시각을 타이밍 휠에 등록해 두므로, 만료 처리는 이번에 만료되는 충전분을 가진 유저만 확인합니다.
+ * - 이미 다 쓴 충전분의 타이밍 휠 항목은 지우지 않고, 꺼냈을 때 만료할 금액이 없으면 건너뜁니다.
+ * - 같은 유저의 충전분 변경은 유저 락 안에서 이뤄집니다.
+ */
+@Component
+public class PointExpiration {
+
+    private static final int WHEEL_LEVELS = 4;
+
+    private final boolean enabled;
+    private final long validityMillis;
+    private final long tickMillis;
+    private final Map<Long, PointLots> users = new ConcurrentHashMap<>();
+    private final HierarchicalTimingWheel<Long> wheel;
+
+    @Autowired
+    public PointExpiration(
+            @Value("${point.expiration.enabled:false}") boolean enabled,
+            @Value("${point.expiration.days:365}") long days,
+            @Value("${point.expiration.tick-millis:1000}") long tickMillis
+    ) {
+        this(enabled, TimeUnit.DAYS.toMillis(days), tickMillis, System.currentTimeMillis());
+    }
+
+    PointExpiration(boolean enabled, long validityMillis, long tickMillis, long startMillis) {
+        if(validityMillis <= 0) {
+            throw new IllegalArgumentException("포인트 유효 기간은 0보다 커야 합니다.");
+        }
+        this.enabled = enabled;
+        this.validityMillis = validityMillis;
+        this.tickMillis = tickMillis;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_LEVELS, startMillis);
+    }
+
+    public static PointExpiration disabled() {
+        return new PointExpiration(false, TimeUnit.DAYS.toMillis(365), 1000L, System.currentTimeMillis());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * 확정된 충전은 충전분으로 추가하고, 사용과 만료는 먼저 만료되는 충전분부터 차감합니다.
+     */
+    public void record(long userId, TransactionType type, long amount, long updateMillis) {
+        if(!enabled) {
+            return;
+        }
+        if(type == TransactionType.CHARGE) {
+            long expiresAtMillis = updateMillis + validityMillis;
+            users.computeIfAbsent(userId, id -> new PointLots()).add(amount, expiresAtMillis);
+            wheel.add(userId, expiresAtMillis);
+            return;
+        }
+        PointLots lots = users.get(userId);
+        if(lots != null) {
+            lots.consume(amount);
+            if(lots.isEmpty()) {
+                users.remove(userId);
+            }
+        }
+    }
+
+    /**
+     * nowMillis 까지 만료된 충전분의 남은 금액
+     */
+    public long expirableAmount(long userId, long nowMillis) {
+        PointLots lots = users.get(userId);
+        return lots != null ? lots.expirable(nowMillis) : 0L;
+    }
+
+    /**
+     * 타이밍 휠을 nowMillis 까지 진행하고, 그동안 만료 시각이 된 충전분을 가진 유저를 반환합니다.
+     */
+    public Set<Long> dueUsers(long nowMillis) {
+        if(!enabled) {
+            return Set.of();
+        }
+        return new LinkedHashSet<>(wheel.advance(nowMillis));
+    }
+
+    /**
+     * 만료 처리에 실패한 유저를 다음 틱에 다시 꺼내도록 등록합니다.
+     */
+    public void retryLater(long userId, long nowMillis) {
+        wheel.add(userId, nowMillis + tickMillis);
+    }
+
+    /**
+     * histories 가 전달하는 내역을 순서대로 다시 적용해 유저의 충전분을 바꿔 넣습니다.
+     */
+    public void rebuild(long userId, Consumer<PointHistoryRowVisitor> histories) {
+        if(!enabled) {
+            return;
+        }
+        PointLots rebuilt = new PointLots();
+        histories.accept((id, historyUserId, amount, type, updateMillis) -> {
+            if(type == TransactionType.CHARGE) {
+                rebuilt.add(amount, updateMillis + validityMillis);
+            } else {
+                rebuilt.consume(amount);
+            }
+        });
+        if(rebuilt.isEmpty()) {
+            users.remove(userId);
+            return;
+        }
+        users.put(userId, rebuilt);
+        for(long expiresAtMillis : rebuilt.expirations()) {
+            wheel.add(userId, expiresAtMillis);
+        }
+    }
+
+    public void remove(long userId) {
+        users.remove(userId);
+    }
+
+    /**
+     * 타이밍 휠에 등록된 만료 예정 항목 수
+     */
+    public int scheduled() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * point.expiration.enabled 가 true 이면 타이밍 휠의 틱 간격마다 만료된 포인트를 처리합니다.
+ */
+@Slf4j
+@Component
+public class PointExpirationScheduler {
+
+    private final PointService pointService;
+    private final ScheduledExecutorService scheduler;
+
+    public PointExpirationScheduler(PointService pointService, PointExpiration pointExpiration) {
+        this.pointService = pointService;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-expiration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if(pointExpiration.isEnabled()) {
+            long tickMillis = pointExpiration.tickMillis();
+            scheduler.scheduleWithFixedDelay(this::expireQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void expireQuietly() {
+        try {
+            int expiredUsers = pointService.expirePoints(System.currentTimeMillis());
+            if(expiredUsers > 0) {
+                log.info("{}명의 만료된 포인트를 차감했습니다.", expiredUsers);
+            }
+        } catch (RuntimeException e) {
+            log.error("포인트 만료 처리에 실패했습니다.", e);
+        }
+    }
+}
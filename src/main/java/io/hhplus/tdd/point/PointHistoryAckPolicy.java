@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 내역 저장 응답 시점 (point.history.writer.ack)
+ * - ENQUEUE : 내역을 대기열에 넣으면 바로 응답
+ * - WRITE : 내역이 PointHistoryTable 에 저장된 뒤 응답
+ */
+public enum PointHistoryAckPolicy {
+    ENQUEUE, WRITE
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 내역 조회 조건
+ * - cursor : 이 id 이후의 내역부터 조회, null 이면 처음부터
+ * - fromMillis, toMillis : updateMillis 조회 구간 (양 끝 포함), null 이면 제한 없음
+ * - type : 트랜잭션 종류, null 이면 전체
+ */
+public record PointHistoryCondition(
+        Long cursor,
+        int limit,
+        Long fromMillis,
+        Long toMillis,
+        TransactionType type
+) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public static PointHistoryCondition of(Long cursor, Integer limit, Long fromMillis, Long toMillis, TransactionType type) {
+        int pageLimit = limit == null ? DEFAULT_LIMIT : limit;
+        if(pageLimit <= 0 || pageLimit > MAX_LIMIT) {
+            throw new RuntimeException("내역 조회 개수는 1개 이상 100개 이하여야 합니다.");
+        }
+        if(fromMillis != null && toMillis != null && fromMillis > toMillis) {
+            throw new RuntimeException("조회 시작 시각은 종료 시각보다 늦을 수 없습니다.");
+        }
+        return new PointHistoryCondition(cursor, pageLimit, fromMillis, toMillis, type);
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        return matches(pointHistory.updateMillis(), pointHistory.type());
+    }
+
+    /**
+     * 내역을 객체로 만들기 전에 값만으로 조건을 확인합니다.
+     */
+    public boolean matches(long updateMillis, TransactionType type) {
+        if(fromMillis != null && updateMillis < fromMillis) {
+            return false;
+        }
+        if(toMillis != null && updateMillis > toMillis) {
+            return false;
+        }
+        return this.type == null || type == this.type;
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 저장 전 포인트 내역 (id 는 저장 시 발급)
+ */
+public record PointHistoryInsert(
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+}
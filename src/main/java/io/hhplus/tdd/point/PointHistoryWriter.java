@@ -0,0 +1,240 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포인트 내역을 대기열에 모아 백그라운드 스레드에서 일괄 저장합니다.
+ * - 대기열이 가득 차면 append 를 호출한 스레드가 빈 자리가 생길 때까지 기다립니다.
+ * - 종료 시 대기열에 남은 내역을 모두 저장한 뒤 스레드를 정리합니다.
+ *   종료 중에 넘겨받은 내역은 대기열을 비울 때까지 기다렸다가 호출한 스레드에서 바로 저장하므로, 종료와 겹쳐도 유실되지 않습니다.
+ * - 저장한 내역은 변경 피드(PointChangeFeed)에도 반영합니다.
+ * - 저장에 실패한 묶음은 버리지 않고 간격을 늘려 가며 다시 시도합니다. ENQUEUE 정책에서는 호출한 쪽이 이미 성공 응답을 받았기 때문입니다.
+ *   다시 시도하는 동안 뒤의 내역은 대기열에서 기다리므로 같은 유저의 내역 순서는 그대로 지켜집니다.
+ *   종료 중에는 SHUTDOWN_ATTEMPTS 번까지만 시도하고, 그래도 실패하면 유실되는 내역을 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class PointHistoryWriter {
+
+    private static final long INITIAL_RETRY_BACKOFF_MILLIS = 100L;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5_000L;
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointMetrics pointMetrics;
+    private final PointChangeFeed pointChangeFeed;
+    private final BlockingQueue<PendingHistories> queue;
+    private final int batchSize;
+    private final PointHistoryAckPolicy ackPolicy;
+    private final Thread worker;
+
+    /**
+     * running 확인과 대기열 삽입은 읽기 락, 종료(running 변경 ~ 남은 내역 저장)는 쓰기 락으로 묶습니다.
+     * 그래서 running 을 확인한 뒤 대기열에 넣기 전에 종료가 끼어들어 내역이 대기열에 남겨지는 일이 없습니다.
+     */
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    public PointHistoryWriter(PointHistoryTable pointHistoryTable, PointMetrics pointMetrics, int capacity, int batchSize, PointHistoryAckPolicy ackPolicy) {
+        this(pointHistoryTable, pointMetrics, PointChangeFeed.disabled(), capacity, batchSize, ackPolicy);
+    }
+
+    @Autowired
+    public PointHistoryWriter(
+            PointHistoryTable pointHistoryTable,
+            PointMetrics pointMetrics,
+            PointChangeFeed pointChangeFeed,
+            @Value("${point.history.writer.capacity:10000}") int capacity,
+            @Value("${point.history.writer.batch-size:500}") int batchSize,
+            @Value("${point.history.writer.ack:ENQUEUE}") PointHistoryAckPolicy ackPolicy
+    ) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointMetrics = pointMetrics;
+        this.pointChangeFeed = pointChangeFeed;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.ackPolicy = ackPolicy;
+        this.worker = new Thread(this::run, "point-history-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 같은 유저의 내역은 유저 락 안에서 호출되므로 대기열에 들어간 순서대로 저장됩니다.
+     * 반환된 future 는 ack 정책에 따라 대기열에 넣은 시점 또는 저장된 시점에 완료됩니다.
+     */
+    public CompletableFuture<Void> append(List<PointHistoryInsert> histories) {
+        PendingHistories pending = new PendingHistories(histories, new CompletableFuture<>());
+        submit(pending);
+
+        if(ackPolicy == PointHistoryAckPolicy.ENQUEUE) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return pending.written();
+    }
+
+    /**
+     * 대기열을 거치지 않고 호출한 스레드에서 바로 저장합니다. (EVENT_SOURCED 모드처럼 내역 저장으로 요청을 확정할 때 사용)
+     */
+    public List<PointHistory> insertNow(List<PointHistoryInsert> histories) {
+        return pointChangeFeed.capture(() ->
+                pointMetrics.recordTable("point_history", "insertAll", () -> pointHistoryTable.insertAll(histories)));
+    }
+
+    /**
+     * 지금까지 넘겨받은 내역이 모두 저장되면 완료되는 future 를 반환합니다. (ack 정책과 무관)
+     */
+    public CompletableFuture<Void> barrier() {
+        PendingHistories pending = new PendingHistories(List.of(), new CompletableFuture<>());
+        submit(pending);
+        return pending.written();
+    }
+
+    public int pendingSize() {
+        return queue.size();
+    }
+
+    /**
+     * 쓰기 락을 잡기 전에 대기열에 넣고 있던 호출은 모두 끝난 상태이고, 워커는 락 없이 대기열을 비우므로
+     * 가득 찬 대기열에서 기다리던 호출도 막히지 않고 끝납니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+            worker.join();
+
+            List<PendingHistories> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if(!remaining.isEmpty()) {
+                write(remaining);
+            }
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 실행 중이면 대기열에 넣고, 종료된 뒤에는 호출한 스레드에서 바로 저장합니다.
+     */
+    private void submit(PendingHistories pending) {
+        stateLock.readLock().lock();
+        try {
+            if(running) {
+                enqueue(pending);
+                return;
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        write(List.of(pending));
+    }
+
+    private void enqueue(PendingHistories pending) {
+        boolean interrupted = false;
+        try {
+            while(true) {
+                try {
+                    queue.put(pending);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        while(running || !queue.isEmpty()) {
+            try {
+                PendingHistories first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if(first == null) {
+                    continue;
+                }
+
+                List<PendingHistories> batch = new ArrayList<>();
+                batch.add(first);
+                int rows = first.histories().size();
+                PendingHistories next;
+                while(rows < batchSize && (next = queue.poll()) != null) {
+                    batch.add(next);
+                    rows += next.histories().size();
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<PendingHistories> batch) {
+        List<PointHistoryInsert> histories = new ArrayList<>();
+        for(PendingHistories pending : batch) {
+            histories.addAll(pending.histories());
+        }
+
+        long backoffMillis = INITIAL_RETRY_BACKOFF_MILLIS;
+        for(int attempt = 1; ; attempt++) {
+            try {
+                if(!histories.isEmpty()) {
+                    pointChangeFeed.capture(() ->
+                            pointMetrics.recordTable("point_history", "insertAll", () -> pointHistoryTable.insertAll(histories)));
+                }
+                for(PendingHistories pending : batch) {
+                    pending.written().complete(null);
+                }
+                return;
+            } catch (RuntimeException e) {
+                if((!running && attempt >= SHUTDOWN_ATTEMPTS) || !sleep(backoffMillis)) {
+                    log.error("포인트 내역 {}건 저장에 {}번 실패해 포기합니다. 유실된 내역: {}", histories.size(), attempt, histories, e);
+                    for(PendingHistories pending : batch) {
+                        pending.written().completeExceptionally(e);
+                    }
+                    return;
+                }
+                log.warn("포인트 내역 {}건 저장에 실패해 다시 시도합니다. (시도 {}번)", histories.size(), attempt, e);
+                pointMetrics.recordHistoryRetry();
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 인터럽트되면 false 를 반환합니다.
+     */
+    private boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record PendingHistories(
+            List<PointHistoryInsert> histories,
+            CompletableFuture<Void> written
+    ) {
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 사용을 확정하기 전에 잔액에서 미리 잡아 둔 금액
+ * - expiresAtMillis 까지 확정하거나 취소하지 않으면 자동으로 풀립니다.
+ */
+public record PointHold(
+        long holdId,
+        long userId,
+        long amount,
+        long expiresAtMillis
+) {
+}
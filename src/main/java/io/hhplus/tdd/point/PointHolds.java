@@ -0,0 +1,212 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별로 홀드된 금액을 메모리에 보관합니다. 테이블에는 기록하지 않습니다.
+ * - 홀드 생성과 확정은 유저 락 안에서 이뤄지며, 충전/사용과 같은 임계 구역에서 홀드 금액을 뺀 잔액으로 검증합니다.
+ * - 만료 시각은 타이밍 휠에 등록해 두고, 틱마다 이번에 만료되는 홀드만 풉니다.
+ *   홀드를 푸는 것은 사용 가능한 잔액을 늘리기만 하므로, 만료는 유저 락 없이 처리합니다.
+ * - 이미 확정/취소된 홀드의 타이밍 휠 항목은 지우지 않고, 꺼냈을 때 홀드가 없으면 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class PointHolds {
+
+    private static final int WHEEL_LEVELS = 4;
+
+    private final long defaultTtlMillis;
+    private final long maxTtlMillis;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Map<Long, UserHolds> users = new ConcurrentHashMap<>();
+    private final HierarchicalTimingWheel<HoldKey> wheel;
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public PointHolds(
+            @Value("${point.hold.default-ttl-seconds:600}") long defaultTtlSeconds,
+            @Value("${point.hold.max-ttl-seconds:3600}") long maxTtlSeconds,
+            @Value("${point.hold.tick-millis:100}") long tickMillis
+    ) {
+        this(TimeUnit.SECONDS.toMillis(defaultTtlSeconds), TimeUnit.SECONDS.toMillis(maxTtlSeconds), tickMillis, System.currentTimeMillis());
+        scheduler.scheduleWithFixedDelay(this::expireQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    PointHolds(long defaultTtlMillis, long maxTtlMillis, long tickMillis, long startMillis) {
+        if(defaultTtlMillis <= 0 || maxTtlMillis < defaultTtlMillis) {
+            throw new IllegalArgumentException("홀드 유효 시간은 0보다 커야 하며, 최대 유효 시간은 기본 유효 시간보다 작을 수 없습니다.");
+        }
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.maxTtlMillis = maxTtlMillis;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_LEVELS, startMillis);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-hold-expiration");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 만료를 expire 로 직접 처리하는 인스턴스 (스케줄러 없음)
+     */
+    public static PointHolds unscheduled() {
+        return new PointHolds(TimeUnit.MINUTES.toMillis(10), TimeUnit.HOURS.toMillis(1), 100L, System.currentTimeMillis());
+    }
+
+    /**
+     * 요청한 유효 시간(초)을 검증합니다. 없으면 기본 유효 시간을 사용합니다.
+     */
+    public long ttlMillis(Long ttlSeconds) {
+        if(ttlSeconds == null) {
+            return defaultTtlMillis;
+        }
+        long ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        if(ttlMillis <= 0 || ttlMillis > maxTtlMillis) {
+            throw new RuntimeException("홀드 유효 시간은 1초 이상, 최대 " + TimeUnit.MILLISECONDS.toSeconds(maxTtlMillis) + "초 이하여야 합니다.");
+        }
+        return ttlMillis;
+    }
+
+    /**
+     * 유저 락 안에서 호출합니다.
+     */
+    public PointHold hold(long userId, long amount, long expiresAtMillis) {
+        PointHold hold = new PointHold(sequence.incrementAndGet(), userId, amount, expiresAtMillis);
+        register(hold);
+        wheel.add(new HoldKey(userId, hold.holdId()), expiresAtMillis);
+        return hold;
+    }
+
+    public long heldAmount(long userId) {
+        UserHolds holds = users.get(userId);
+        return holds != null ? holds.held : 0L;
+    }
+
+    /**
+     * 홀드를 풀고 반환합니다. 이미 확정/취소/만료되었으면 null 을 반환합니다.
+     */
+    public PointHold release(long userId, long holdId) {
+        PointHold[] released = new PointHold[1];
+        users.computeIfPresent(userId, (id, holds) -> {
+            released[0] = holds.remove(holdId);
+            return holds.isEmpty() ? null : holds;
+        });
+        if(released[0] != null) {
+            active.decrementAndGet();
+        }
+        return released[0];
+    }
+
+    /**
+     * 확정하지 못한 홀드나 다른 노드에서 옮겨 온 홀드를 다시 등록합니다.
+     * 풀려 있던 사이에 타이밍 휠 항목이 이미 꺼내졌을 수 있으므로 항목도 다시 등록합니다.
+     * (원래 항목이 남아 있으면 먼저 꺼낸 쪽이 홀드를 풀고, 나중에 꺼낸 쪽은 건너뜁니다.)
+     * 만료 시각이 이미 지났으면 다음 틱에 풀립니다.
+     */
+    public void restore(PointHold hold) {
+        sequence.accumulateAndGet(hold.holdId(), Math::max);
+        register(hold);
+        wheel.add(new HoldKey(hold.userId(), hold.holdId()), hold.expiresAtMillis());
+    }
+
+    /**
+     * 다른 노드로 옮겨 가는 유저의 홀드를 모두 떼어 내 반환합니다. 옮겨 간 노드에서 restore 로 다시 등록합니다.
+     */
+    public List<PointHold> removeAll(long userId) {
+        UserHolds removed = users.remove(userId);
+        if(removed == null) {
+            return List.of();
+        }
+        active.addAndGet(-removed.size());
+        return List.copyOf(removed.holds.values());
+    }
+
+    /**
+     * nowMillis 까지 만료된 홀드를 풀고, 푼 홀드 수를 반환합니다.
+     */
+    public int expire(long nowMillis) {
+        int expired = 0;
+        for(HoldKey key : wheel.advance(nowMillis)) {
+            if(release(key.userId(), key.holdId()) != null) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 확정/취소/만료되지 않은 홀드 수
+     */
+    public int active() {
+        return active.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void register(PointHold hold) {
+        users.compute(hold.userId(), (id, holds) -> {
+            UserHolds current = holds != null ? holds : new UserHolds();
+            current.add(hold);
+            return current;
+        });
+        active.incrementAndGet();
+    }
+
+    private void expireQuietly() {
+        try {
+            expire(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.error("홀드 만료 처리에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * ConcurrentHashMap 의 compute 안에서만 변경합니다.
+     */
+    private static class UserHolds {
+        private final Map<Long, PointHold> holds = new HashMap<>();
+        private volatile long held;
+
+        private void add(PointHold hold) {
+            holds.put(hold.holdId(), hold);
+            held += hold.amount();
+        }
+
+        private PointHold remove(long holdId) {
+            PointHold hold = holds.remove(holdId);
+            if(hold != null) {
+                held -= hold.amount();
+            }
+            return hold;
+        }
+
+        private boolean isEmpty() {
+            return holds.isEmpty();
+        }
+
+        private int size() {
+            return holds.size();
+        }
+    }
+
+    private record HoldKey(long userId, long holdId) {
+    }
+}
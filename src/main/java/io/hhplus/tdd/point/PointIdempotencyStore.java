@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키(Idempotency-Key)로 충전/사용 요청의 중복 실행을 막습니다.
+ * - 처음 받은 키만 실행하고, 같은 키로 다시 오면 저장해 둔 결과를 유저 락과 테이블을 거치지 않고 반환합니다.
+ * - 같은 키의 요청이 동시에 들어오면 먼저 들어온 요청의 실행 결과를 함께 기다립니다.
+ * - 반영되기 전에 거절된 요청(PointRejectException, PointAdmissionException)의 키만 지워 재시도할 수 있게 합니다.
+ *   그 밖의 실패(잔액은 저장했지만 내역 저장이나 로그 기록을 확인하지 못한 경우, 피어 호출 실패 등)는 반영되었을 수 있으므로
+ *   실패를 저장해 두고, 같은 키로 다시 오면 다시 실행하지 않고 같은 실패를 반환합니다.
+ * - 키는 ttl 동안만 보관하며, 최대 capacity 개를 넘으면 가장 먼저 들어온 키부터 지웁니다. 실행 중인 키는 지우지 않습니다.
+ */
+@Component
+public class PointIdempotencyStore {
+
+    private final int capacity;
+    private final long ttlMillis;
+    private final LongSupplier currentMillis;
+    private final PointMetrics pointMetrics;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public PointIdempotencyStore(
+            @Value("${point.idempotency.capacity:100000}") int capacity,
+            @Value("${point.idempotency.ttl-seconds:3600}") long ttlSeconds,
+            PointMetrics pointMetrics
+    ) {
+        this(capacity, ttlSeconds * 1000L, System::currentTimeMillis, pointMetrics);
+    }
+
+    PointIdempotencyStore(int capacity, long ttlMillis, LongSupplier currentMillis, PointMetrics pointMetrics) {
+        if(capacity <= 0) {
+            throw new IllegalArgumentException("멱등 키 저장소 크기는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.ttlMillis = ttlMillis;
+        this.currentMillis = currentMillis;
+        this.pointMetrics = pointMetrics;
+    }
+
+    /**
+     * 키가 없으면 요청을 그대로 실행합니다.
+     */
+    public UserPoint execute(long userId, String idempotencyKey, TransactionType type, long amount, Supplier<UserPoint> request) {
+        if(idempotencyKey == null || idempotencyKey.isBlank()) {
+            return request.get();
+        }
+
+        String key = userId + ":" + idempotencyKey;
+        Entry created = new Entry(type, amount, new CompletableFuture<>(), currentMillis.getAsLong() + ttlMillis);
+        Entry existing;
+        lock.lock();
+        try {
+            purge();
+            existing = entries.putIfAbsent(key, created);
+        } finally {
+            lock.unlock();
+        }
+
+        if(existing != null) {
+            if(existing.type() != type || existing.amount() != amount) {
+                throw new RuntimeException("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+            }
+            pointMetrics.recordIdempotency(existing.result().isDone() ? "replayed" : "joined");
+            return join(existing.result());
+        }
+
+        pointMetrics.recordIdempotency("executed");
+        try {
+            UserPoint userPoint = request.get();
+            created.result().complete(userPoint);
+            return userPoint;
+        } catch (RuntimeException e) {
+            if(isRejectedBeforeCommit(e)) {
+                lock.lock();
+                try {
+                    entries.remove(key, created);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            created.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isRejectedBeforeCommit(RuntimeException e) {
+        return e instanceof PointRejectException || e instanceof PointAdmissionException;
+    }
+
+    /**
+     * 키는 들어온 순서대로 만료되므로 앞에서부터 만료된 키와 용량을 넘는 키를 지웁니다.
+     * 아직 실행 중인 키는 건너뜁니다. 지우면 같은 키의 재요청이 한 번 더 실행되기 때문입니다.
+     */
+    private void purge() {
+        long now = currentMillis.getAsLong();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while(iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if(eldest.expiresAtMillis() > now && entries.size() < capacity) {
+                return;
+            }
+            if(eldest.result().isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private UserPoint join(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(
+            TransactionType type,
+            long amount,
+            CompletableFuture<UserPoint> result,
+            long expiresAtMillis
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 충전/사용 이벤트를 영속 로그에 남깁니다.
+ * 반환된 future 는 이벤트가 디스크에 기록(fsync)된 뒤 완료됩니다.
+ */
+public interface PointJournal {
+
+    CompletableFuture<Void> append(List<PointJournalEntry> entries);
+
+    /**
+     * 영속화를 사용하지 않을 때의 구현
+     */
+    static PointJournal disabled() {
+        return entries -> CompletableFuture.completedFuture(null);
+    }
+}
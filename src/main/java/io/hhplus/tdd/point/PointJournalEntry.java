@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 영속 로그에 기록하는 충전/사용 이벤트
+ * - balance 는 반영 후 잔액(절대값)이므로 같은 이벤트를 여러 번 재생해도 결과가 같습니다.
+ */
+public record PointJournalEntry(
+        long userId,
+        long amount,
+        TransactionType type,
+        long balance,
+        long updateMillis
+) {
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 한 유저의 아직 쓰지 않은 충전분(lot)을 충전한 순서대로 보관합니다.
+ * - 유효 기간이 같으므로 먼저 충전한 충전분이 먼저 만료되며, 사용과 만료 모두 앞에서부터 차감합니다.
+ * - 충전분 합계보다 큰 금액은 만료 기한이 없는 잔액(만료 기능을 켜기 전의 잔액 등)에서 차감된 것으로 봅니다.
+ * - 유저 락 안에서만 변경합니다.
+ */
+class PointLots {
+
+    private final Deque<Lot> lots = new ArrayDeque<>();
+
+    void add(long amount, long expiresAtMillis) {
+        lots.addLast(new Lot(amount, expiresAtMillis));
+    }
+
+    /**
+     * 먼저 만료되는 충전분부터 amount 만큼 차감합니다.
+     */
+    void consume(long amount) {
+        long remaining = amount;
+        while(remaining > 0 && !lots.isEmpty()) {
+            Lot head = lots.peekFirst();
+            long used = Math.min(head.remaining, remaining);
+            head.remaining -= used;
+            remaining -= used;
+            if(head.remaining == 0) {
+                lots.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * nowMillis 까지 만료된 충전분의 남은 금액 합계
+     */
+    long expirable(long nowMillis) {
+        long amount = 0L;
+        for(Lot lot : lots) {
+            if(lot.expiresAtMillis > nowMillis) {
+                break;
+            }
+            amount += lot.remaining;
+        }
+        return amount;
+    }
+
+    List<Long> expirations() {
+        return lots.stream().map(lot -> lot.expiresAtMillis).toList();
+    }
+
+    boolean isEmpty() {
+        return lots.isEmpty();
+    }
+
+    private static class Lot {
+        private long remaining;
+        private final long expiresAtMillis;
+
+        private Lot(long remaining, long expiresAtMillis) {
+            this.remaining = remaining;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 기능의 지연 시간과 거절 횟수를 기록합니다.
+ * - point.operation : 기능별(select, history, charge, use 등) 처리 시간
+ * - point.lock.wait : 유저 락 획득까지 기다린 시간
+ * - point.table : 테이블 호출 시간 (table, method 태그)
+ * - point.rejection : 거절 사유별 횟수
+ * - point.reconcile, point.reconcile.mismatches : 잔액 대사 소요 시간과 내역과 어긋난 유저 수
+ * - point.read.coalesced : 진행 중인 같은 유저 조회에 합류해 테이블 호출을 생략한 횟수
+ * - point.idempotency.requests : 멱등 키 요청의 처리 방식별(executed, replayed, joined) 횟수
+ * - point.optimistic.conflicts : OPTIMISTIC 모드에서 버전이 달라 저장하지 못하고 다시 시도한 횟수
+ * - point.admission.rejections : 락에 들어가기 전에 처리량 제한/대기 한도로 거절한 사유별 횟수
+ * - point.admission.queued : 같은 유저의 요청이 처리 중이어서 락을 기다리게 된 요청 수
+ * - point.history.retries : 내역 일괄 저장에 실패해 다시 시도한 횟수
+ */
+@Component
+public class PointMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lockWaitTimer;
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> tableTimers = new ConcurrentHashMap<>();
+    private final Map<PointRejectReason, Counter> rejectionCounters = new EnumMap<>(PointRejectReason.class);
+    private final Map<String, Counter> idempotencyCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final Timer reconcileTimer;
+    private final Counter reconcileMismatchCounter;
+    private final Counter optimisticConflictCounter;
+    private final Map<PointAdmissionRejectReason, Counter> admissionRejectionCounters = new EnumMap<>(PointAdmissionRejectReason.class);
+    private final Counter admissionQueuedCounter;
+    private final Counter historyRetryCounter;
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.lockWaitTimer = Timer.builder("point.lock.wait")
+                .description("유저 락 획득 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for(PointRejectReason reason : PointRejectReason.values()) {
+            rejectionCounters.put(reason, Counter.builder("point.rejection")
+                    .description("충전/사용 거절 횟수")
+                    .tag("reason", reason.tag())
+                    .register(meterRegistry));
+        }
+        this.reconcileTimer = Timer.builder("point.reconcile")
+                .description("잔액 대사 소요 시간")
+                .register(meterRegistry);
+        this.reconcileMismatchCounter = Counter.builder("point.reconcile.mismatches")
+                .description("잔액 대사에서 내역과 어긋난 유저 수")
+                .register(meterRegistry);
+        this.optimisticConflictCounter = Counter.builder("point.optimistic.conflicts")
+                .description("버전 충돌로 다시 시도한 횟수")
+                .register(meterRegistry);
+        for(PointAdmissionRejectReason reason : PointAdmissionRejectReason.values()) {
+            admissionRejectionCounters.put(reason, Counter.builder("point.admission.rejections")
+                    .description("처리량 제한/대기 한도로 거절한 횟수")
+                    .tag("reason", reason.tag())
+                    .register(meterRegistry));
+        }
+        this.admissionQueuedCounter = Counter.builder("point.admission.queued")
+                .description("같은 유저의 요청 뒤에서 기다리게 된 요청 수")
+                .register(meterRegistry);
+        this.historyRetryCounter = Counter.builder("point.history.retries")
+                .description("내역 일괄 저장을 다시 시도한 횟수")
+                .register(meterRegistry);
+    }
+
+    public <T> T recordOperation(String operation, Supplier<T> task) {
+        Timer timer = operationTimers.computeIfAbsent(operation, name -> Timer.builder("point.operation")
+                .description("포인트 기능 처리 시간")
+                .tag("operation", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        return timer.record(task);
+    }
+
+    public <T> T recordTable(String table, String method, Supplier<T> call) {
+        Timer timer = tableTimers.computeIfAbsent(table + "." + method, key -> Timer.builder("point.table")
+                .description("테이블 호출 시간")
+                .tag("table", table)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        return timer.record(call);
+    }
+
+    public void recordLockWait(long waitNanos) {
+        lockWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordReconcile(PointReconcileReport report) {
+        reconcileTimer.record(report.elapsedMillis(), TimeUnit.MILLISECONDS);
+        reconcileMismatchCounter.increment(report.mismatches().size());
+    }
+
+    public void recordOptimisticConflict() {
+        optimisticConflictCounter.increment();
+    }
+
+    public void recordAdmissionRejection(PointAdmissionRejectReason reason) {
+        admissionRejectionCounters.get(reason).increment();
+    }
+
+    public void recordAdmissionQueued() {
+        admissionQueuedCounter.increment();
+    }
+
+    public void recordHistoryRetry() {
+        historyRetryCounter.increment();
+    }
+
+    public void recordCoalesced(String operation) {
+        coalescedCounters.computeIfAbsent(operation, name -> Counter.builder("point.read.coalesced")
+                .description("진행 중인 조회에 합류한 횟수")
+                .tag("operation", name)
+                .register(meterRegistry)).increment();
+    }
+
+    public void recordIdempotency(String result) {
+        idempotencyCounters.computeIfAbsent(result, name -> Counter.builder("point.idempotency.requests")
+                .description("멱등 키 요청 처리 횟수")
+                .tag("result", name)
+                .register(meterRegistry)).increment();
+    }
+
+    public PointRejectException reject(PointRejectReason reason, String message) {
+        rejectionCounters.get(reason).increment();
+        return new PointRejectException(reason, message);
+    }
+}
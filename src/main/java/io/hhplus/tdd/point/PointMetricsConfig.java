@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.lock.UserLockStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PointMetricsConfig {
+
+    /**
+     * 락 개수, 캐시 적중률, 내역 대기열 크기, 처리 중인 요청 수처럼 상태로 관찰하는 값을 등록합니다.
+     */
+    @Bean
+    public MeterBinder pointStateMetrics(
+            UserLockStrategy userLockStrategy,
+            UserPointCache userPointCache,
+            PointHistoryWriter pointHistoryWriter,
+            PointAdmissionControl pointAdmissionControl,
+            PointExpiration pointExpiration,
+            PointHolds pointHolds,
+            PointChangeFeed pointChangeFeed
+    ) {
+        return registry -> {
+            Gauge.builder("point.lock.entries", userLockStrategy, UserLockStrategy::size)
+                    .description("메모리에 유지 중인 유저 락 개수")
+                    .register(registry);
+            Gauge.builder("point.cache.size", userPointCache, UserPointCache::size)
+                    .description("UserPoint 캐시 항목 수")
+                    .register(registry);
+            FunctionCounter.builder("point.cache.requests", userPointCache, UserPointCache::hitCount)
+                    .description("UserPoint 캐시 조회 수")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("point.cache.requests", userPointCache, UserPointCache::missCount)
+                    .description("UserPoint 캐시 조회 수")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("point.history.writer.pending", pointHistoryWriter, PointHistoryWriter::pendingSize)
+                    .description("저장 대기 중인 포인트 내역 배치 수")
+                    .register(registry);
+            Gauge.builder("point.admission.in-flight", pointAdmissionControl, PointAdmissionControl::inFlight)
+                    .description("처리 중이거나 유저 락을 기다리는 충전/사용 요청 수")
+                    .register(registry);
+            Gauge.builder("point.expiration.scheduled", pointExpiration, PointExpiration::scheduled)
+                    .description("타이밍 휠에 등록된 만료 예정 충전분 수")
+                    .register(registry);
+            Gauge.builder("point.hold.active", pointHolds, PointHolds::active)
+                    .description("확정/취소/만료되지 않은 홀드 수")
+                    .register(registry);
+            Gauge.builder("point.feed.last-seq", pointChangeFeed, PointChangeFeed::lastSeq)
+                    .description("변경 피드로 내보낸 마지막 이벤트 순번")
+                    .register(registry);
+        };
+    }
+}
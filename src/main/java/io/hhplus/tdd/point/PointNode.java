@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 기능을 제공하는 단위
+ * - PointService 하나, 여러 PointService 를 묶은 샤드, 다른 서버(피어) 모두 같은 방식으로 호출합니다.
+ */
+public interface PointNode {
+
+    UserPoint selectUserPointById(long id);
+
+    List<PointHistory> selectPointHistoriesByUserId(long id);
+
+    PointHistoryPage selectPointHistoryPageByUserId(long id, PointHistoryCondition condition);
+
+    PointStats selectPointStatsByUserId(long id);
+
+    UserPoint chargeUserPoint(long id, long amount);
+
+    UserPoint useUserPoint(long id, long amount);
+
+    List<PointOperationResult> applyUserPointOperations(long id, List<PointOperation> operations);
+
+    /**
+     * @param ttlSeconds 홀드 유효 시간. null 이면 기본 유효 시간
+     */
+    PointHold holdUserPoint(long id, long amount, Long ttlSeconds);
+
+    UserPoint confirmHold(long id, long holdId);
+
+    PointHold cancelHold(long id, long holdId);
+
+    PointTransfer transferUserPoint(long fromId, long toId, long amount);
+}
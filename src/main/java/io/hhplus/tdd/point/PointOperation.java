@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청 항목
+ */
+public record PointOperation(
+        long userId,
+        long amount,
+        TransactionType type
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청 항목별 결과
+ * - 성공하면 처리 후 userPoint 를, 실패하면 message 에 실패 사유를 담습니다.
+ */
+public record PointOperationResult(
+        long userId,
+        long amount,
+        TransactionType type,
+        boolean success,
+        UserPoint userPoint,
+        String message
+) {
+
+    public static PointOperationResult succeeded(PointOperation operation, UserPoint userPoint) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), true, userPoint, null);
+    }
+
+    public static PointOperationResult failed(PointOperation operation, String message) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), false, null, message);
+    }
+}
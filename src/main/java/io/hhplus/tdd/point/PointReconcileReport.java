@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 잔액 대사 결과
+ */
+public record PointReconcileReport(
+        int checkedUsers,
+        List<PointBalanceMismatch> mismatches,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전/사용 요청이 포인트 정책을 벗어나 거절되었을 때 발생합니다.
+ * - reason : 거절 사유. 메시지를 담을 수 없는 바이너리 응답은 사유만 전달합니다.
+ */
+public class PointRejectException extends RuntimeException {
+
+    private final PointRejectReason reason;
+
+    public PointRejectException(PointRejectReason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public PointRejectReason reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전/사용 거절 사유 (point.rejection 메트릭의 reason 태그)
+ */
+public enum PointRejectReason {
+    NON_POSITIVE_AMOUNT("non_positive_amount"),
+    EXCEEDS_MAX_AMOUNT("exceeds_max_amount"),
+    EXCEEDS_MAX_BALANCE("exceeds_max_balance"),
+    INSUFFICIENT_BALANCE("insufficient_balance"),
+    TOO_MANY_CONFLICTS("too_many_conflicts");
+
+    private final String tag;
+
+    PointRejectReason(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -2,84 +2,777 @@ package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.hhplus.tdd.point.lock.UserLockStrategy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
-public class PointService {
+public class PointService implements MigratablePointNode {
 
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
+    private final UserPointCache userPointCache;
+    private final UserLockStrategy userLockStrategy;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointMetrics pointMetrics;
+    private final PointJournal pointJournal;
+    private final PointBalanceProjection pointBalanceProjection;
+    private final PointConcurrencyControl pointConcurrencyControl;
+    private final PointStatistics pointStatistics;
+    private final PointAdmissionControl pointAdmissionControl;
+    private final PointExpiration pointExpiration;
+    private final PointHolds pointHolds;
 
-    private final ConcurrentHashMap<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, List<PointCommand>> pendingCommands = new ConcurrentHashMap<>();
+
+    /**
+     * 유저별 쓰기 세대. userId 해시로 나눈 구간 단위로 세며, 같은 구간의 다른 유저 쓰기도 세대를 올립니다.
+     */
+    private final AtomicLongArray writeGenerations = new AtomicLongArray(WRITE_GENERATION_STRIPES);
+    private final SingleFlight<Long, UserPoint> userPointReads = new SingleFlight<>();
+    private final SingleFlight<Long, List<PointHistory>> historyReads = new SingleFlight<>();
+    private final SingleFlight<HistoryPageKey, PointHistoryPage> historyPageReads = new SingleFlight<>();
+
+    private static final int WRITE_GENERATION_STRIPES = 1024;
 
     private final long MAX_AVAILABLE_POINT = 1_000_000L;
 
+    /**
+     * 캐시에 없을 때만 유저 락을 잡고 테이블에서 읽어 캐시를 채우므로,
+     * 캐시 채우기가 같은 유저의 잔액 저장과 겹치지 않습니다.
+     * 같은 유저의 동시 조회는 하나의 캐시 채우기로 합칩니다.
+     */
     public UserPoint selectUserPointById(long id) {
-        return userPointTable.selectById(id);
+        return pointMetrics.recordOperation("select", () -> {
+            UserPoint cached = userPointCache.get(id);
+            if(cached != null) {
+                return cached;
+            }
+
+            return userPointReads.execute(id, writeGeneration(id), () -> withUserLock(id, () -> {
+                UserPoint filled = userPointCache.peek(id);
+                return filled != null ? filled : fillUserPoint(id);
+            }), () -> pointMetrics.recordCoalesced("select"));
+        });
     }
 
     public List<PointHistory> selectPointHistoriesByUserId(long id) {
 
-        return pointHistoryTable.selectAllByUserId(id);
+        return pointMetrics.recordOperation("history", () ->
+                historyReads.execute(id, writeGeneration(id), () ->
+                        pointMetrics.recordTable("point_history", "selectAllByUserId", () -> pointHistoryTable.selectAllByUserId(id)),
+                        () -> pointMetrics.recordCoalesced("history")));
+    }
+
+    public PointHistoryPage selectPointHistoryPageByUserId(long id, PointHistoryCondition condition) {
+        return pointMetrics.recordOperation("history_page", () ->
+                historyPageReads.execute(new HistoryPageKey(id, condition), writeGeneration(id), () ->
+                        pointMetrics.recordTable("point_history", "selectPageByUserId", () -> pointHistoryTable.selectPageByUserId(id, condition)),
+                        () -> pointMetrics.recordCoalesced("history_page")));
+    }
+
+    /**
+     * 충전/사용이 확정될 때마다 갱신해 둔 통계를 반환하므로, 내역 수와 관계없이 테이블을 조회하지 않습니다.
+     */
+    public PointStats selectPointStatsByUserId(long id) {
+        return pointMetrics.recordOperation("stats", () -> pointStatistics.userStats(id));
     }
 
     public UserPoint chargeUserPoint(long id, long amount) {
-        ReentrantLock lock = userLocks.computeIfAbsent(id, userId -> new ReentrantLock(true));
+        return pointMetrics.recordOperation("charge", () -> {
+            validateAmount(amount, TransactionType.CHARGE);
 
-        lock.lock();
-        try {
+            return commit(id, new PointCommand(amount, TransactionType.CHARGE));
+        });
+    }
+
+    public UserPoint useUserPoint(long id, long amount) {
+        return pointMetrics.recordOperation("use", () -> {
+            validateAmount(amount, TransactionType.USE);
+
+            return commit(id, new PointCommand(amount, TransactionType.USE));
+        });
+    }
+
+    /**
+     * 한 유저의 여러 충전/사용 요청을 주어진 순서대로 한 번에 처리하고, 요청별 결과를 반환합니다.
+     */
+    public List<PointOperationResult> applyUserPointOperations(long id, List<PointOperation> operations) {
+        List<PointCommand> commands = new ArrayList<>(operations.size());
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        for(PointOperation operation : operations) {
+            try {
+                validateAmount(operation.amount(), operation.type());
+                commands.add(new PointCommand(operation.amount(), operation.type()));
+                results.add(null);
+            } catch (RuntimeException e) {
+                commands.add(null);
+                results.add(PointOperationResult.failed(operation, e.getMessage()));
+            }
+        }
+
+        List<PointCommand> accepted = commands.stream().filter(Objects::nonNull).toList();
+        if(!accepted.isEmpty()) {
+            commitAll(id, accepted);
+        }
+
+        for(int i = 0; i < operations.size(); i++) {
+            if(commands.get(i) == null) {
+                continue;
+            }
+            try {
+                results.set(i, PointOperationResult.succeeded(operations.get(i), commands.get(i).result()));
+            } catch (RuntimeException e) {
+                results.set(i, PointOperationResult.failed(operations.get(i), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 사용 가능한 잔액(잔액 - 홀드된 금액)에서 amount 만큼 홀드합니다. 테이블은 바꾸지 않습니다.
+     * 충전/사용과 같은 유저 락 안에서 검증하므로, 홀드된 금액은 다른 사용에 쓰이지 않습니다.
+     */
+    public PointHold holdUserPoint(long id, long amount, Long ttlSeconds) {
+        return pointMetrics.recordOperation("hold", () -> {
+            validateAmount(amount, TransactionType.USE);
+            long ttlMillis = pointHolds.ttlMillis(ttlSeconds);
+            if(pointConcurrencyControl.isOptimistic()) {
+                throw new RuntimeException("OPTIMISTIC 모드에서는 포인트를 홀드할 수 없습니다.");
+            }
+
+            return pointAdmissionControl.execute(id, 1, () -> withUserLock(id, () -> {
+                if(currentBalance(id) - pointHolds.heldAmount(id) < amount) {
+                    throw pointMetrics.reject(PointRejectReason.INSUFFICIENT_BALANCE, "홀드하려는 포인트는 사용 가능한 포인트보다 클 수 없습니다.");
+                }
+                return pointHolds.hold(id, amount, System.currentTimeMillis() + ttlMillis);
+            }));
+        });
+    }
+
+    /**
+     * 홀드를 풀고 같은 금액을 사용합니다.
+     * 유저 락 안에서 대기 중인 같은 유저의 요청보다 먼저 반영해, 홀드했던 금액이 다른 사용에 쓰이지 않게 합니다.
+     * 사용이 거절되면 홀드를 되돌립니다. 그사이 만료 시각이 지났으면 되돌린 홀드는 다음 틱에 풀립니다.
+     */
+    public UserPoint confirmHold(long id, long holdId) {
+        return pointMetrics.recordOperation("hold_confirm", () -> pointAdmissionControl.execute(id, 1, () -> {
+            PointCommand use = withUserLock(id, () -> {
+                PointHold hold = pointHolds.release(id, holdId);
+                if(hold == null) {
+                    throw new RuntimeException("존재하지 않거나 만료된 홀드입니다.");
+                }
+                PointCommand command = new PointCommand(hold.amount(), TransactionType.USE);
+                prependAndFlush(id, command);
+                if(command.isRejected()) {
+                    pointHolds.restore(hold);
+                }
+                return command;
+            });
+            return use.result();
+        }));
+    }
+
+    /**
+     * 홀드를 풉니다. 테이블과 내역은 바꾸지 않으며, 홀드를 푸는 것은 사용 가능한 잔액을 늘리기만 하므로 유저 락을 잡지 않습니다.
+     */
+    public PointHold cancelHold(long id, long holdId) {
+        return pointMetrics.recordOperation("hold_cancel", () -> {
+            PointHold hold = pointHolds.release(id, holdId);
+            if(hold == null) {
+                throw new RuntimeException("존재하지 않거나 만료된 홀드입니다.");
+            }
+            return hold;
+        });
+    }
+
+    /**
+     * fromId 의 포인트를 toId 에게 옮깁니다.
+     * 두 유저의 락을 정해진 순서로 함께 잡으므로, 서로에게 송금하는 요청끼리 교착 상태에 빠지지 않습니다.
+     * 처리량 제한도 락과 같은 순서로 두 유저 모두에게 적용해, 받는 유저의 제한을 거치지 않고 그 유저의 락을 잡지 못하게 합니다.
+     * 양쪽 잔액을 모두 검증한 뒤 저장하고, 보낸 유저의 USE 내역과 받은 유저의 CHARGE 내역을 한 번에 저장합니다.
+     */
+    public PointTransfer transferUserPoint(long fromId, long toId, long amount) {
+        return pointMetrics.recordOperation("transfer", () -> {
+            if(fromId == toId) {
+                throw new RuntimeException("자기 자신에게 송금할 수 없습니다.");
+            }
             if(amount <= 0) {
-                throw new RuntimeException("충전 요청 금액은 0원보다 커야 합니다.");
+                throw pointMetrics.reject(PointRejectReason.NON_POSITIVE_AMOUNT, "송금 요청 금액은 0원보다 커야 합니다.");
             }
             if(amount > MAX_AVAILABLE_POINT) {
-                throw new RuntimeException("충전 요청 금액은 최대 100만원을 초과할 수 없습니다.");
+                throw pointMetrics.reject(PointRejectReason.EXCEEDS_MAX_AMOUNT, "송금 요청 금액은 최대 100만원을 초과할 수 없습니다.");
+            }
+            if(pointConcurrencyControl.isOptimistic()) {
+                throw new RuntimeException("OPTIMISTIC 모드에서는 송금할 수 없습니다.");
             }
 
-            UserPoint originUserPoint = userPointTable.selectById(id);
-            if(originUserPoint.point() + amount > MAX_AVAILABLE_POINT) {
-                throw new RuntimeException("충전 후 보유 포인트는 최대 100만원을 초과할 수 없습니다.");
+            PendingTransfer pendingTransfer = pointAdmissionControl.execute(fromId, toId, 1, () -> withUserLocks(fromId, toId, () -> {
+                // 먼저 대기 중이던 두 유저의 요청을 반영해, 송금이 그 뒤에 반영되게 합니다.
+                flush(fromId);
+                flush(toId);
+                return commitTransfer(fromId, toId, amount);
+            }));
+            try {
+                pendingTransfer.historyAck().join();
+            } catch (CompletionException e) {
+                if(e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
             }
+            return pendingTransfer.transfer();
+        });
+    }
+
+    /**
+     * 저장된 내역으로 유저별 통계를 다시 계산합니다. (복구용)
+     * 유저 락을 잡고 대기 중인 내역까지 저장한 뒤 유저 단위로 바꿔 넣으므로, 처리 중인 요청을 빠뜨리거나 두 번 세지 않습니다.
+     */
+    public void rebuildStatistics() {
+        for(long id : userIds()) {
+            withUserLock(id, () -> {
+                pointHistoryWriter.barrier().join();
+                pointStatistics.rebuild(id, visitor -> pointHistoryTable.forEachByUserId(id, visitor));
+                return null;
+            });
+        }
+    }
 
-            UserPoint chargedUserPoint = userPointTable.insertOrUpdate(id, originUserPoint.point() + amount);
+    /**
+     * 재시작 시 복구된 내역이 있으면 통계를 다시 계산합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildStatisticsOnStartup() {
+        if(!pointHistoryTable.selectUserIds().isEmpty()) {
+            rebuildStatistics();
+        }
+    }
 
-            pointHistoryTable.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
+    /**
+     * 만료 시각이 지난 충전분을 유저별로 한 번에 차감하고 EXPIRE 내역으로 남깁니다.
+     * 타이밍 휠에서 이번 틱까지 만료되는 충전분을 가진 유저만 꺼내므로, 전체 유저를 훑지 않습니다.
+     * 실패한 유저는 다음 틱에 다시 처리합니다.
+     * @return 포인트가 만료된 유저 수
+     */
+    public int expirePoints(long nowMillis) {
+        int expiredUsers = 0;
+        for(long id : pointExpiration.dueUsers(nowMillis)) {
+            try {
+                if(expireUserPoint(id, nowMillis)) {
+                    expiredUsers++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("유저 {} 의 포인트 만료에 실패했습니다. 다음 틱에 다시 처리합니다.", id, e);
+                pointExpiration.retryLater(id, nowMillis);
+            }
+        }
+        return expiredUsers;
+    }
 
-            return chargedUserPoint;
-        } finally {
-            lock.unlock();
+    /**
+     * 저장된 내역으로 유저별 충전분을 다시 계산합니다. (복구용)
+     */
+    public void rebuildPointLots() {
+        for(long id : userIds()) {
+            withUserLock(id, () -> {
+                pointHistoryWriter.barrier().join();
+                pointExpiration.rebuild(id, visitor -> pointHistoryTable.forEachByUserId(id, visitor));
+                return null;
+            });
         }
     }
 
-    public UserPoint useUserPoint(long id, long amount) {
-        ReentrantLock lock = userLocks.computeIfAbsent(id, userId -> new ReentrantLock(true));
+    /**
+     * 포인트 만료를 사용하면 재시작 시 복구된 내역으로 충전분을 다시 계산합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildPointLotsOnStartup() {
+        if(pointExpiration.isEnabled() && !pointHistoryTable.selectUserIds().isEmpty()) {
+            rebuildPointLots();
+        }
+    }
 
-        lock.lock();
-        try {
+    public Set<Long> userIds() {
+        Set<Long> userIds = new HashSet<>(userPointTable.selectUserIds());
+        userIds.addAll(pointHistoryTable.selectUserIds());
+        return userIds;
+    }
+
+    /**
+     * 유저 락 안에서 저장 대기 중인 내역까지 반영한 뒤 유저 데이터를 떼어 냅니다.
+     */
+    public PointUserState detachUser(long id) {
+        return withUserLock(id, () -> {
+            pointHistoryWriter.barrier().join();
+            UserPoint userPoint = userPointTable.remove(id);
+            List<PointHistoryInsert> histories = pointHistoryTable.removeAllByUserId(id).stream()
+                    .map(pointHistory -> new PointHistoryInsert(pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis()))
+                    .toList();
+            userPointCache.evict(id);
+            pointBalanceProjection.forget(id);
+            pointStatistics.remove(id);
+            pointExpiration.remove(id);
+            List<PointHold> holds = pointHolds.removeAll(id);
+            advanceWriteGeneration(id);
+            return new PointUserState(id, userPoint, histories, holds);
+        });
+    }
+
+    public void attachUser(PointUserState state) {
+        withUserLock(state.userId(), () -> {
+            pointHistoryTable.restore(state.histories());
+            if(state.userPoint() != null) {
+                userPointTable.restore(List.of(state.userPoint()));
+            }
+            userPointCache.evict(state.userId());
+            pointBalanceProjection.forget(state.userId());
+            pointStatistics.rebuild(state.userId(), visitor -> state.histories().forEach(history ->
+                    visitor.visit(0L, history.userId(), history.amount(), history.type(), history.updateMillis())));
+            pointExpiration.rebuild(state.userId(), visitor -> state.histories().forEach(history ->
+                    visitor.visit(0L, history.userId(), history.amount(), history.type(), history.updateMillis())));
+            state.holds().forEach(pointHolds::restore);
+            advanceWriteGeneration(state.userId());
+            return null;
+        });
+    }
+
+    private void validateAmount(long amount, TransactionType type) {
+        if(type == TransactionType.CHARGE) {
+            if(amount <= 0) {
+                throw pointMetrics.reject(PointRejectReason.NON_POSITIVE_AMOUNT, "충전 요청 금액은 0원보다 커야 합니다.");
+            }
+            if(amount > MAX_AVAILABLE_POINT) {
+                throw pointMetrics.reject(PointRejectReason.EXCEEDS_MAX_AMOUNT, "충전 요청 금액은 최대 100만원을 초과할 수 없습니다.");
+            }
+            return;
+        }
+        if(type == TransactionType.USE) {
             if(amount <= 0) {
-                throw new RuntimeException("사용 요청 금액은 0원보다 커야 합니다.");
+                throw pointMetrics.reject(PointRejectReason.NON_POSITIVE_AMOUNT, "사용 요청 금액은 0원보다 커야 합니다.");
             }
             if(amount > MAX_AVAILABLE_POINT) {
-                throw new RuntimeException("사용 요청 금액은 최대 100만원을 초과할 수 없습니다.");
+                throw pointMetrics.reject(PointRejectReason.EXCEEDS_MAX_AMOUNT, "사용 요청 금액은 최대 100만원을 초과할 수 없습니다.");
+            }
+            return;
+        }
+        throw new RuntimeException("요청 종류는 충전 또는 사용이어야 합니다.");
+    }
+
+    /**
+     * 유저 락 안에서 만료 요청을 대기열 맨 앞에 넣고 대기 중인 같은 유저의 요청과 함께 반영합니다.
+     * 만료가 먼저 반영되므로, 만료된 포인트가 뒤이은 사용에 쓰이지 않습니다.
+     * 홀드된 포인트는 만료하지 않고, 사용 가능한 포인트(잔액 - 홀드된 금액)까지만 만료합니다.
+     * 남은 만료 대상은 다음 틱에 다시 확인해, 홀드가 확정되면 그 사용으로 차감되고 취소/만료되면 그때 만료합니다.
+     */
+    private boolean expireUserPoint(long id, long nowMillis) {
+        PointCommand expire = withUserLock(id, () -> {
+            long expirable = pointExpiration.expirableAmount(id, nowMillis);
+            if(expirable == 0) {
+                return null;
+            }
+            long amount = Math.min(expirable, Math.max(0L, currentBalance(id) - pointHolds.heldAmount(id)));
+            if(amount < expirable) {
+                pointExpiration.retryLater(id, nowMillis);
+            }
+            if(amount == 0) {
+                return null;
+            }
+            PointCommand command = new PointCommand(amount, TransactionType.EXPIRE);
+            prependAndFlush(id, command);
+            return command;
+        });
+        if(expire == null) {
+            return false;
+        }
+        expire.result();
+        return true;
+    }
+
+    /**
+     * 유저 락을 잡은 상태에서 호출합니다. command 를 대기열 맨 앞에 넣고 대기 중인 요청과 함께 반영합니다.
+     */
+    private void prependAndFlush(long id, PointCommand command) {
+        pendingCommands.compute(id, (userId, pending) -> {
+            List<PointCommand> queue = new ArrayList<>();
+            queue.add(command);
+            if(pending != null) {
+                queue.addAll(pending);
+            }
+            return queue;
+        });
+        flush(id);
+    }
+
+    private UserPoint commit(long id, PointCommand command) {
+        commitAll(id, List.of(command));
+
+        return command.result();
+    }
+
+    /**
+     * 요청을 유저별 대기열에 순서대로 넣은 뒤 락을 획득합니다.
+     * 락을 먼저 획득한 스레드가 그때까지 쌓인 같은 유저의 요청을 한 번에 처리하므로,
+     * 락을 획득했을 때 이미 처리된 요청은 결과만 꺼내 반환합니다.
+     * OPTIMISTIC 모드에서는 락 없이 요청을 하나씩 순서대로 저장합니다.
+     * 대기열에 넣기 전에 처리량 제한을 확인해, 받을 수 없는 요청은 락을 기다리지 않고 바로 거절합니다.
+     */
+    private void commitAll(long id, List<PointCommand> commands) {
+        pointAdmissionControl.execute(id, commands.size(), () -> {
+            if(pointConcurrencyControl.isOptimistic()) {
+                commands.forEach(command -> commitOptimistically(id, command));
+            } else {
+                enqueueAndFlush(id, commands);
+            }
+            return null;
+        });
+    }
+
+    private void enqueueAndFlush(long id, List<PointCommand> commands) {
+
+        pendingCommands.compute(id, (userId, pending) -> {
+            List<PointCommand> queue = pending == null ? new ArrayList<>() : pending;
+            queue.addAll(commands);
+            return queue;
+        });
+
+        PointCommand last = commands.get(commands.size() - 1);
+        withUserLock(id, () -> {
+            if(!last.isDone()) {
+                flush(id);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 대기 중인 요청을 순서대로 잔액에 반영해 검증하고, 통과한 요청들을 한 번에 저장합니다.
+     * 영속 로그에도 같은 순서로 기록하며, 요청은 내역 저장 응답과 로그 기록(fsync)을 모두 기다린 뒤 반환됩니다.
+     */
+    private void flush(long id) {
+        List<PointCommand> commands = pendingCommands.remove(id);
+        if(commands == null) {
+            return;
+        }
+
+        List<PointCommand> accepted = new ArrayList<>(commands.size());
+        List<Long> balances = new ArrayList<>(commands.size());
+        try {
+            long balance = currentBalance(id);
+            long held = pointHolds.heldAmount(id);
+            for(PointCommand command : commands) {
+                RuntimeException rejection = validateBalance(balance, held, command);
+                if(rejection != null) {
+                    command.reject(rejection);
+                    continue;
+                }
+                balance = balance + PointBalanceProjection.signedAmount(command.type(), command.amount());
+                accepted.add(command);
+                balances.add(balance);
+            }
+            if(accepted.isEmpty()) {
+                return;
+            }
+
+            PendingCommit pendingCommit = pointBalanceProjection.isEnabled()
+                    ? commitToLedger(id, accepted, balance)
+                    : commitToTable(id, accepted, balance);
+            UserPoint savedUserPoint = pendingCommit.userPoint();
+            userPointCache.put(savedUserPoint);
+
+            List<PointJournalEntry> entries = new ArrayList<>(accepted.size());
+            for(int i = 0; i < accepted.size(); i++) {
+                PointCommand command = accepted.get(i);
+                entries.add(new PointJournalEntry(id, command.amount(), command.type(), balances.get(i), savedUserPoint.updateMillis()));
+                pointStatistics.record(id, command.type(), command.amount(), savedUserPoint.updateMillis());
+                pointExpiration.record(id, command.type(), command.amount(), savedUserPoint.updateMillis());
+            }
+            CompletableFuture<Void> durable = pointJournal.append(entries);
+            CompletableFuture<Void> historyAck = CompletableFuture.allOf(pendingCommit.historyAck(), durable);
+            // 잔액 저장 직후와 내역 저장 완료 시점에 각각 세대를 올려, 이후 시작한 조회가 그 전에 시작한 조회에 합류하지 않게 합니다.
+            advanceWriteGeneration(id);
+            historyAck.whenComplete((ignored, e) -> advanceWriteGeneration(id));
+
+            for(int i = 0; i < accepted.size() - 1; i++) {
+                accepted.get(i).complete(new UserPoint(id, balances.get(i), savedUserPoint.updateMillis()), historyAck);
+            }
+            accepted.get(accepted.size() - 1).complete(savedUserPoint, historyAck);
+        } catch (RuntimeException e) {
+            for(PointCommand command : commands) {
+                if(!command.isDone()) {
+                    command.reject(e);
+                }
             }
+        }
+    }
+
+    /**
+     * 요청을 반영한 잔액이 정책을 벗어나면 거절 예외를, 아니면 null 을 반환합니다.
+     * 사용과 만료는 홀드된 금액(held)을 뺀 잔액으로 검증합니다.
+     */
+    private RuntimeException validateBalance(long balance, long held, PointCommand command) {
+        if(command.type() == TransactionType.CHARGE && balance + command.amount() > MAX_AVAILABLE_POINT) {
+            return pointMetrics.reject(PointRejectReason.EXCEEDS_MAX_BALANCE, "충전 후 보유 포인트는 최대 100만원을 초과할 수 없습니다.");
+        }
+        if(command.type() == TransactionType.USE && balance - command.amount() < 0) {
+            return pointMetrics.reject(PointRejectReason.INSUFFICIENT_BALANCE, "사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.");
+        }
+        if(command.type() == TransactionType.USE && balance - held - command.amount() < 0) {
+            return pointMetrics.reject(PointRejectReason.INSUFFICIENT_BALANCE, "사용하려는 포인트는 홀드된 포인트를 제외한 사용 가능한 포인트보다 클 수 없습니다.");
+        }
+        if(command.type() == TransactionType.EXPIRE && balance - held - command.amount() < 0) {
+            return pointMetrics.reject(PointRejectReason.INSUFFICIENT_BALANCE, "만료하려는 포인트는 홀드된 포인트를 제외한 사용 가능한 포인트보다 클 수 없습니다.");
+        }
+        return null;
+    }
+
+    /**
+     * OPTIMISTIC 모드: 락 없이 잔액을 버전과 함께 읽어 검증하고, 버전이 그대로일 때만 저장합니다.
+     * 그사이 다른 요청이 먼저 저장했으면 잠시 기다렸다가 다시 읽어 처음부터 검증하며, 최대 시도 횟수를 넘기면 거절합니다.
+     * 두 번의 테이블 호출 동안 락을 잡지 않는 대신, 같은 유저의 요청이 몰리면 재시도로 테이블 호출이 늘어납니다.
+     */
+    private void commitOptimistically(long id, PointCommand command) {
+        try {
+            for(int attempt = 0; attempt < pointConcurrencyControl.maxAttempts(); attempt++) {
+                if(attempt > 0) {
+                    pointMetrics.recordOptimisticConflict();
+                    pointConcurrencyControl.backoff(attempt);
+                }
 
-            UserPoint originUserPoint = userPointTable.selectById(id);
-            if(originUserPoint.point() - amount < 0) {
-                throw new RuntimeException("사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.");
+                VersionedUserPoint current = pointMetrics.recordTable("user_point", "selectVersionedById", () -> userPointTable.selectVersionedById(id));
+                long balance = current.userPoint().point();
+                // OPTIMISTIC 모드에서는 홀드를 만들 수 없습니다.
+                RuntimeException rejection = validateBalance(balance, 0L, command);
+                if(rejection != null) {
+                    command.reject(rejection);
+                    return;
+                }
+
+                long newBalance = balance + PointBalanceProjection.signedAmount(command.type(), command.amount());
+                UserPoint savedUserPoint = pointMetrics.recordTable("user_point", "compareAndSet", () -> userPointTable.compareAndSet(id, current.version(), newBalance));
+                if(savedUserPoint == null) {
+                    continue;
+                }
+
+                userPointCache.put(savedUserPoint);
+                pointStatistics.record(id, command.type(), command.amount(), savedUserPoint.updateMillis());
+                CompletableFuture<Void> historyAck = pointHistoryWriter.append(List.of(
+                        new PointHistoryInsert(id, command.amount(), command.type(), savedUserPoint.updateMillis())));
+                advanceWriteGeneration(id);
+                historyAck.whenComplete((ignored, e) -> advanceWriteGeneration(id));
+                command.complete(savedUserPoint, historyAck);
+                return;
             }
+            command.reject(pointMetrics.reject(PointRejectReason.TOO_MANY_CONFLICTS, "같은 유저의 요청이 몰려 포인트를 변경하지 못했습니다. 잠시 후 다시 시도해 주세요."));
+        } catch (RuntimeException e) {
+            command.reject(e);
+        }
+    }
+
+    /**
+     * 두 유저의 락을 잡은 상태에서 호출합니다.
+     * 두 잔액을 모두 검증한 뒤에 저장하므로, 한쪽만 바뀌는 일이 없습니다.
+     */
+    private PendingTransfer commitTransfer(long fromId, long toId, long amount) {
+        long fromBalance = currentBalance(fromId);
+        long toBalance = currentBalance(toId);
+        if(fromBalance - pointHolds.heldAmount(fromId) - amount < 0) {
+            throw pointMetrics.reject(PointRejectReason.INSUFFICIENT_BALANCE, "송금하려는 포인트는 사용 가능한 포인트보다 클 수 없습니다.");
+        }
+        if(toBalance + amount > MAX_AVAILABLE_POINT) {
+            throw pointMetrics.reject(PointRejectReason.EXCEEDS_MAX_BALANCE, "송금 받은 후 보유 포인트는 최대 100만원을 초과할 수 없습니다.");
+        }
+
+        PendingTransfer pendingTransfer = pointBalanceProjection.isEnabled()
+                ? commitTransferToLedger(fromId, toId, amount, fromBalance - amount, toBalance + amount)
+                : commitTransferToTable(fromId, toId, amount, fromBalance - amount, toBalance + amount);
+        UserPoint from = pendingTransfer.transfer().from();
+        UserPoint to = pendingTransfer.transfer().to();
+        userPointCache.put(from);
+        userPointCache.put(to);
+
+        pointStatistics.record(fromId, TransactionType.USE, amount, from.updateMillis());
+        pointStatistics.record(toId, TransactionType.CHARGE, amount, to.updateMillis());
+        pointExpiration.record(fromId, TransactionType.USE, amount, from.updateMillis());
+        pointExpiration.record(toId, TransactionType.CHARGE, amount, to.updateMillis());
+        CompletableFuture<Void> durable = pointJournal.append(List.of(
+                new PointJournalEntry(fromId, amount, TransactionType.USE, from.point(), from.updateMillis()),
+                new PointJournalEntry(toId, amount, TransactionType.CHARGE, to.point(), to.updateMillis())));
+        CompletableFuture<Void> historyAck = CompletableFuture.allOf(pendingTransfer.historyAck(), durable);
+        advanceWriteGeneration(fromId);
+        advanceWriteGeneration(toId);
+        historyAck.whenComplete((ignored, e) -> {
+            advanceWriteGeneration(fromId);
+            advanceWriteGeneration(toId);
+        });
+        return new PendingTransfer(pendingTransfer.transfer(), historyAck);
+    }
+
+    /**
+     * TABLE 모드: 두 잔액을 저장한 뒤 두 내역을 PointHistoryWriter 에 한 번에 넘깁니다.
+     * 받는 유저의 잔액 저장이 실패하면 보낸 유저의 잔액을 되돌립니다.
+     */
+    private PendingTransfer commitTransferToTable(long fromId, long toId, long amount, long fromBalance, long toBalance) {
+        UserPoint from = pointMetrics.recordTable("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(fromId, fromBalance));
+        UserPoint to;
+        try {
+            to = pointMetrics.recordTable("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(toId, toBalance));
+        } catch (RuntimeException e) {
+            // 되돌리기도 실패하면 다음 조회가 테이블에서 다시 읽도록 캐시를 먼저 비웁니다.
+            userPointCache.evict(fromId);
+            pointMetrics.recordTable("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(fromId, fromBalance + amount));
+            throw e;
+        }
+
+        CompletableFuture<Void> historyAck = pointHistoryWriter.append(List.of(
+                new PointHistoryInsert(fromId, amount, TransactionType.USE, from.updateMillis()),
+                new PointHistoryInsert(toId, amount, TransactionType.CHARGE, to.updateMillis())));
+        return new PendingTransfer(new PointTransfer(from, to), historyAck);
+    }
+
+    /**
+     * EVENT_SOURCED 모드: 두 내역을 한 번에 저장해 송금을 확정하고, 그 결과로 계산한 잔액을 UserPointTable 에 반영합니다.
+     */
+    private PendingTransfer commitTransferToLedger(long fromId, long toId, long amount, long fromBalance, long toBalance) {
+        long updateMillis = System.currentTimeMillis();
+        List<PointHistory> appended = pointHistoryWriter.insertNow(List.of(
+                new PointHistoryInsert(fromId, amount, TransactionType.USE, updateMillis),
+                new PointHistoryInsert(toId, amount, TransactionType.CHARGE, updateMillis)));
+        pointBalanceProjection.apply(fromId, appended.stream().filter(pointHistory -> pointHistory.userId() == fromId).toList());
+        pointBalanceProjection.apply(toId, appended.stream().filter(pointHistory -> pointHistory.userId() == toId).toList());
 
-            UserPoint usedUserPoint = userPointTable.insertOrUpdate(id, originUserPoint.point() - amount);
+        try {
+            pointMetrics.recordTable("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(fromId, fromBalance));
+            pointMetrics.recordTable("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(toId, toBalance));
+        } catch (RuntimeException e) {
+            log.warn("유저 {} -> {} 송금의 잔액 반영에 실패했습니다. 다음 반영 때 내역 기준으로 다시 저장합니다.", fromId, toId, e);
+        }
+        return new PendingTransfer(
+                new PointTransfer(new UserPoint(fromId, fromBalance, updateMillis), new UserPoint(toId, toBalance, updateMillis)),
+                CompletableFuture.completedFuture(null));
+    }
 
-            pointHistoryTable.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
+    /**
+     * TABLE 모드: 잔액을 먼저 저장하고, 내역은 PointHistoryWriter 에 한 번에 넘깁니다.
+     */
+    private PendingCommit commitToTable(long id, List<PointCommand> accepted, long balance) {
+        UserPoint savedUserPoint = pointMetrics.recordTable("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(id, balance));
 
-            return usedUserPoint;
-        } finally {
-            lock.unlock();
+        List<PointHistoryInsert> histories = new ArrayList<>(accepted.size());
+        for(PointCommand command : accepted) {
+            histories.add(new PointHistoryInsert(id, command.amount(), command.type(), savedUserPoint.updateMillis()));
         }
+        return new PendingCommit(savedUserPoint, pointHistoryWriter.append(histories));
+    }
+
+    /**
+     * EVENT_SOURCED 모드: 내역을 먼저 저장해 요청을 확정하고, 그 결과로 계산한 잔액을 UserPointTable 에 반영합니다.
+     * 내역 저장이 실패하면 잔액도 바뀌지 않습니다.
+     * 내역 저장 뒤 잔액 반영이 실패해도 요청은 확정된 것이므로, 다음 반영 때 내역 기준 잔액으로 다시 저장됩니다.
+     */
+    private PendingCommit commitToLedger(long id, List<PointCommand> accepted, long balance) {
+        long updateMillis = System.currentTimeMillis();
+        List<PointHistoryInsert> histories = new ArrayList<>(accepted.size());
+        for(PointCommand command : accepted) {
+            histories.add(new PointHistoryInsert(id, command.amount(), command.type(), updateMillis));
+        }
+        List<PointHistory> appended = pointHistoryWriter.insertNow(histories);
+        pointBalanceProjection.apply(id, appended);
+
+        try {
+            pointMetrics.recordTable("user_point", "insertOrUpdate", () -> userPointTable.insertOrUpdate(id, balance));
+        } catch (RuntimeException e) {
+            log.warn("유저 {} 의 잔액 반영에 실패했습니다. 다음 반영 때 내역 기준으로 다시 저장합니다.", id, e);
+        }
+        return new PendingCommit(new UserPoint(id, balance, updateMillis), CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * 유저 락을 잡은 상태에서 호출합니다.
+     */
+    private long currentBalance(long id) {
+        return pointBalanceProjection.isEnabled() ? pointBalanceProjection.balanceOf(id).point() : loadUserPoint(id).point();
+    }
+
+    /**
+     * 유저 락을 잡은 상태에서 호출합니다.
+     */
+    private UserPoint loadUserPoint(long id) {
+        UserPoint cached = userPointCache.get(id);
+        return cached != null ? cached : fillUserPoint(id);
+    }
+
+    /**
+     * EVENT_SOURCED 모드에서는 내역을 누적한 잔액으로 캐시를 채웁니다.
+     * OPTIMISTIC 모드의 저장은 유저 락을 잡지 않으므로, 조회하는 사이 저장된 값이 캐시에 있으면 그 값을 유지합니다.
+     */
+    private UserPoint fillUserPoint(long id) {
+        UserPoint userPoint = pointBalanceProjection.isEnabled()
+                ? pointBalanceProjection.balanceOf(id)
+                : pointMetrics.recordTable("user_point", "selectById", () -> userPointTable.selectById(id));
+        return userPointCache.putIfAbsent(userPoint);
+    }
+
+    private long writeGeneration(long id) {
+        return writeGenerations.get(generationStripe(id));
+    }
+
+    /**
+     * 쓰기가 완료된 것으로 보이기 전에 호출해, 이후 시작한 조회가 이전 조회에 합류하지 않게 합니다.
+     */
+    private void advanceWriteGeneration(long id) {
+        writeGenerations.incrementAndGet(generationStripe(id));
+    }
+
+    private int generationStripe(long id) {
+        return (int) ((id ^ (id >>> 32)) & (WRITE_GENERATION_STRIPES - 1));
+    }
+
+    /**
+     * 락 획득까지 기다린 시간을 테이블 호출 시간과 따로 기록합니다.
+     */
+    private <T> T withUserLock(long id, Supplier<T> task) {
+        long waitStartNanos = System.nanoTime();
+        return userLockStrategy.executeWithLock(id, () -> {
+            pointMetrics.recordLockWait(System.nanoTime() - waitStartNanos);
+            return task.get();
+        });
+    }
+
+    /**
+     * 두 유저의 락을 잡기까지 기다린 시간을 기록합니다.
+     */
+    private <T> T withUserLocks(long firstId, long secondId, Supplier<T> task) {
+        long waitStartNanos = System.nanoTime();
+        return userLockStrategy.executeWithLocks(firstId, secondId, () -> {
+            pointMetrics.recordLockWait(System.nanoTime() - waitStartNanos);
+            return task.get();
+        });
+    }
+
+    private record HistoryPageKey(long userId, PointHistoryCondition condition) {
+    }
+
+    private record PendingCommit(UserPoint userPoint, CompletableFuture<Void> historyAck) {
+    }
+
+    private record PendingTransfer(PointTransfer transfer, CompletableFuture<Void> historyAck) {
     }
 }
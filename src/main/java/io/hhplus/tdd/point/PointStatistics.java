@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRowVisitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 충전/사용이 확정될 때마다 유저별, 전체 통계를 함께 갱신합니다.
+ * - 조회는 내역 수와 관계없이 집계된 값만 읽습니다.
+ * - 유저 통계를 바꿔 넣거나 지울 때는 그 차이만큼 전체 통계에도 반영해, 전체 통계가 항상 유저 통계의 합이 되게 합니다.
+ * - 같은 유저의 반영과 다시 계산은 유저 락 안에서 이뤄집니다.
+ */
+@Component
+public class PointStatistics {
+
+    private final int retentionDays;
+    private final Map<Long, PointAggregate> users = new ConcurrentHashMap<>();
+    private final PointAggregate global;
+
+    public PointStatistics(@Value("${point.stats.retention-days:30}") int retentionDays) {
+        if(retentionDays <= 0) {
+            throw new IllegalArgumentException("통계 보관 일수는 0보다 커야 합니다.");
+        }
+        this.retentionDays = retentionDays;
+        this.global = new PointAggregate(retentionDays);
+    }
+
+    public void record(long userId, TransactionType type, long amount, long updateMillis) {
+        users.computeIfAbsent(userId, id -> new PointAggregate(retentionDays)).add(type, amount, updateMillis);
+        global.add(type, amount, updateMillis);
+    }
+
+    public PointStats userStats(long userId) {
+        PointAggregate aggregate = users.get(userId);
+        return (aggregate != null ? aggregate : new PointAggregate(retentionDays)).snapshot(userId);
+    }
+
+    public PointStats globalStats() {
+        return global.snapshot(null);
+    }
+
+    /**
+     * histories 가 전달하는 내역으로 유저 통계를 새로 계산해 바꿔 넣습니다.
+     */
+    public void rebuild(long userId, Consumer<PointHistoryRowVisitor> histories) {
+        PointAggregate rebuilt = new PointAggregate(retentionDays);
+        histories.accept((id, historyUserId, amount, type, updateMillis) -> rebuilt.add(type, amount, updateMillis));
+
+        PointAggregate previous = users.put(userId, rebuilt);
+        if(previous != null) {
+            global.merge(previous, -1L);
+        }
+        global.merge(rebuilt, 1L);
+    }
+
+    /**
+     * 다른 노드로 옮겨 가는 유저의 통계를 지웁니다.
+     */
+    public void remove(long userId) {
+        PointAggregate previous = users.remove(userId);
+        if(previous != null) {
+            global.merge(previous, -1L);
+        }
+    }
+}
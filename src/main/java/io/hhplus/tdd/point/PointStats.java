@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 통계
+ * - userId : 유저 통계이면 유저 id, 전체 통계이면 null
+ * - totals : 트랜잭션 종류별 누적 금액과 건수
+ * - daily : 최근 보관 일수 동안의 일별(UTC) 금액과 건수, 날짜 오름차순
+ */
+public record PointStats(
+        Long userId,
+        Map<TransactionType, PointStatsTotal> totals,
+        List<PointDailyStats> daily
+) {
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 송금 결과. 보낸 유저와 받은 유저의 송금 후 잔액입니다.
+ */
+public record PointTransfer(
+        UserPoint from,
+        UserPoint to
+) {
+}
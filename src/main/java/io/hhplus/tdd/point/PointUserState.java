@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 노드 사이에서 옮기는 한 유저의 포인트와 내역, 아직 확정/취소되지 않은 홀드
+ * - 내역 id 는 옮겨 간 노드에서 다시 발급합니다.
+ * - 홀드는 id 와 만료 시각을 그대로 옮기므로, 옮기기 전에 받은 홀드 id 로 확정/취소할 수 있습니다.
+ */
+public record PointUserState(
+        long userId,
+        UserPoint userPoint,
+        List<PointHistoryInsert> histories,
+        List<PointHold> holds
+) {
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나의 호출로 합칩니다.
+ * - 조회는 시작 시점의 쓰기 세대(generation)를 함께 넘깁니다.
+ *   진행 중인 호출이 같거나 더 최신 세대에서 시작했을 때만 합류하므로,
+ *   쓰기가 완료된 뒤 시작한 조회가 그 이전에 시작한 호출의 결과를 받지 않습니다.
+ */
+class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * @param onCoalesced 진행 중인 호출에 합류했을 때 실행
+     */
+    V execute(K key, long generation, Supplier<V> call, Runnable onCoalesced) {
+        Flight<V> mine = new Flight<>(generation, new CompletableFuture<>());
+        Flight<V> flight = flights.compute(key, (k, existing) ->
+                existing != null && existing.generation() >= generation ? existing : mine);
+
+        if(flight != mine) {
+            onCoalesced.run();
+            return join(flight.result());
+        }
+
+        try {
+            V value = call.get();
+            mine.result().complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, mine);
+        }
+    }
+
+    private V join(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Flight<V>(long generation, CompletableFuture<V> result) {
+    }
+}
@@ -5,7 +5,8 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - EXPIRE : 유효 기간이 지난 충전분의 만료 (로그/내역 저장소에 순서 값으로 기록되므로 새 종류는 뒤에 추가)
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, EXPIRE
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserPointTable 앞단의 write-through 캐시
+ * - 포인트를 변경하는 곳은 PointService 뿐이므로 insertOrUpdate 결과를 그대로 캐시에 반영합니다.
+ * - updateMillis 가 기존 항목보다 오래된 값은 반영하지 않아, 늦게 도착한 조회 결과가 최신 값을 덮어쓰지 못합니다.
+ * - 최대 capacity 개를 유지하며 가장 오래 사용되지 않은 항목부터 제거합니다. (LRU)
+ */
+@Component
+public class UserPointCache {
+
+    private final int capacity;
+    private final Map<Long, UserPoint> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public UserPointCache(@Value("${point.cache.capacity:10000}") int capacity) {
+        if(capacity <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                return size() > UserPointCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 포인트를 반환하고, 없으면 null 을 반환합니다.
+     */
+    public UserPoint get(long id) {
+        UserPoint userPoint;
+        lock.lock();
+        try {
+            userPoint = entries.get(id);
+        } finally {
+            lock.unlock();
+        }
+
+        if(userPoint == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 적중/미적중 횟수에 포함하지 않고 캐시된 포인트를 반환합니다.
+     */
+    public UserPoint peek(long id) {
+        lock.lock();
+        try {
+            return entries.get(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(UserPoint userPoint) {
+        lock.lock();
+        try {
+            UserPoint cached = entries.get(userPoint.id());
+            if(cached != null && cached.updateMillis() > userPoint.updateMillis()) {
+                return;
+            }
+            entries.put(userPoint.id(), userPoint);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시에 없을 때만 넣고, 캐시에 남은 포인트를 반환합니다.
+     * 조회 결과로 캐시를 채울 때, 그사이 저장된 최신 값을 덮어쓰지 않도록 사용합니다.
+     */
+    public UserPoint putIfAbsent(UserPoint userPoint) {
+        lock.lock();
+        try {
+            UserPoint cached = entries.putIfAbsent(userPoint.id(), userPoint);
+            return cached != null ? cached : userPoint;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void evict(long id) {
+        lock.lock();
+        try {
+            entries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.get();
+    }
+
+    public long missCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
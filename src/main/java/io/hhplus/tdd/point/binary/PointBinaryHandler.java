@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.binary;
+
+import io.hhplus.tdd.point.PointAdmissionException;
+import io.hhplus.tdd.point.PointNode;
+import io.hhplus.tdd.point.PointRejectException;
+import io.hhplus.tdd.point.UserPoint;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import lombok.extern.slf4j.Slf4j;
+
+import static io.hhplus.tdd.point.binary.PointBinaryProtocol.*;
+
+/**
+ * 요청 프레임을 읽어 PointNode 를 호출하고 응답 프레임을 씁니다.
+ * - 한 연결의 요청은 하나의 작업 스레드에서 순서대로 처리하므로, 이어 보낸 요청의 응답도 같은 순서로 나갑니다.
+ * - 응답은 채널의 풀 버퍼에 바로 쓰고, 한 번에 읽은 요청을 모두 처리한 뒤 한 번만 flush 합니다.
+ * - 클라이언트가 응답을 읽지 않아 쓰기 버퍼가 가득 차면 요청 읽기를 멈춥니다.
+ */
+@Slf4j
+@ChannelHandler.Sharable
+class PointBinaryHandler extends SimpleChannelInboundHandler<ByteBuf> {
+
+    private final PointNode pointNode;
+
+    PointBinaryHandler(PointNode pointNode) {
+        this.pointNode = pointNode;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf frame) {
+        long correlationId = frame.readLong();
+        byte op = frame.readByte();
+        frame.skipBytes(7);
+        long userId = frame.readLong();
+        long amount = frame.readLong();
+
+        ByteBuf response = ctx.alloc().buffer(RESPONSE_SIZE);
+        response.writeLong(correlationId);
+        try {
+            UserPoint userPoint = switch(op) {
+                case OP_SELECT -> pointNode.selectUserPointById(userId);
+                case OP_CHARGE -> pointNode.chargeUserPoint(userId, amount);
+                case OP_USE -> pointNode.useUserPoint(userId, amount);
+                default -> null;
+            };
+            if(userPoint == null) {
+                writeFailure(response, STATUS_BAD_REQUEST, 0, userId, 0L);
+            } else {
+                response.writeByte(STATUS_OK).writeByte(0).writeZero(6)
+                        .writeLong(userPoint.id()).writeLong(userPoint.point()).writeLong(userPoint.updateMillis());
+            }
+        } catch (PointRejectException e) {
+            writeFailure(response, STATUS_REJECTED, e.reason().ordinal() + 1, userId, 0L);
+        } catch (PointAdmissionException e) {
+            writeFailure(response, STATUS_THROTTLED, e.reason().ordinal() + 1, userId, e.retryAfterMillis());
+        } catch (RuntimeException e) {
+            writeFailure(response, STATUS_ERROR, 0, userId, 0L);
+        }
+        ctx.write(response, ctx.voidPromise());
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        ctx.channel().config().setAutoRead(ctx.channel().isWritable());
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.warn("바이너리 포인트 연결을 닫습니다. ({})", ctx.channel().remoteAddress(), cause);
+        ctx.close();
+    }
+
+    private void writeFailure(ByteBuf response, byte status, int reason, long userId, long millis) {
+        response.writeByte(status).writeByte(reason).writeZero(6)
+                .writeLong(userId).writeLong(0L).writeLong(millis);
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.binary;
+
+/**
+ * 바이너리 포인트 프로토콜의 고정 길이 프레임 (big-endian)
+ *
+ * 요청 (32 bytes)
+ * - 0  long correlationId : 응답에 그대로 돌려주는 요청 번호
+ * - 8  byte op            : OP_SELECT | OP_CHARGE | OP_USE
+ * - 9  7 bytes            : 예약 (0)
+ * - 16 long userId
+ * - 24 long amount        : 조회는 무시합니다.
+ *
+ * 응답 (40 bytes)
+ * - 0  long correlationId
+ * - 8  byte status        : STATUS_OK | STATUS_REJECTED | STATUS_THROTTLED | STATUS_BAD_REQUEST | STATUS_ERROR
+ * - 9  byte reason        : REJECTED 는 PointRejectReason, THROTTLED 는 PointAdmissionRejectReason 의 ordinal + 1 (알 수 없으면 0)
+ * - 10 6 bytes            : 예약 (0)
+ * - 16 long userId
+ * - 24 long point         : OK 일 때 잔액
+ * - 32 long millis        : OK 이면 updateMillis, THROTTLED 이면 다시 시도해도 되는 최소 대기 시간
+ *
+ * 한 연결에서 응답을 기다리지 않고 여러 요청을 이어 보낼 수 있으며, 응답은 요청 순서대로 돌아옵니다.
+ */
+public final class PointBinaryProtocol {
+
+    public static final int REQUEST_SIZE = 32;
+    public static final int RESPONSE_SIZE = 40;
+
+    public static final byte OP_SELECT = 1;
+    public static final byte OP_CHARGE = 2;
+    public static final byte OP_USE = 3;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_REJECTED = 1;
+    public static final byte STATUS_THROTTLED = 2;
+    public static final byte STATUS_BAD_REQUEST = 3;
+    public static final byte STATUS_ERROR = 4;
+
+    private PointBinaryProtocol() {
+    }
+}
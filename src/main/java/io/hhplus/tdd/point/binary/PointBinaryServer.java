@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.binary;
+
+import io.hhplus.tdd.point.PointNode;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.FixedLengthFrameDecoder;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+
+/**
+ * point.binary.enabled 가 true 이면 JSON API 와 별도로 고정 길이 바이너리 프레임(PointBinaryProtocol)을 받는 TCP 포트를 엽니다.
+ * - 프레임은 풀 버퍼에서 바로 읽고 쓰므로, 요청마다 JSON 파싱이나 바이트 배열 할당이 없습니다.
+ * - PointNode 호출은 블로킹이므로 Netty I/O 스레드가 아닌 작업 스레드(point.binary.worker-threads)에서 실행합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.binary.enabled", havingValue = "true")
+public class PointBinaryServer {
+
+    private static final WriteBufferWaterMark WRITE_BUFFER_WATER_MARK = new WriteBufferWaterMark(256 * 1024, 1024 * 1024);
+
+    private final EventLoopGroup bossGroup = new NioEventLoopGroup(1);
+    private final EventLoopGroup ioGroup = new NioEventLoopGroup();
+    private final EventExecutorGroup workerGroup;
+    private final Channel serverChannel;
+
+    public PointBinaryServer(
+            PointNode pointNode,
+            @Value("${point.binary.port:18081}") int port,
+            @Value("${point.binary.worker-threads:64}") int workerThreads
+    ) {
+        this.workerGroup = new DefaultEventExecutorGroup(workerThreads);
+        PointBinaryHandler handler = new PointBinaryHandler(pointNode);
+        this.serverChannel = new ServerBootstrap()
+                .group(bossGroup, ioGroup)
+                .channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, WRITE_BUFFER_WATER_MARK)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline()
+                                .addLast("frame", new FixedLengthFrameDecoder(PointBinaryProtocol.REQUEST_SIZE))
+                                .addLast(workerGroup, "point", handler);
+                    }
+                })
+                .bind(port)
+                .syncUninterruptibly()
+                .channel();
+        log.info("바이너리 포인트 포트를 열었습니다. (port={})", port());
+    }
+
+    public int port() {
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        serverChannel.close().syncUninterruptibly();
+        bossGroup.shutdownGracefully();
+        ioGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
+    }
+}
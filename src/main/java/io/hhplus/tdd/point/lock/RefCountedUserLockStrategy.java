@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 락을 대기 중이거나 보유 중인 스레드 수와 함께 관리합니다.
+ * 마지막 스레드가 락을 해제하면 맵에서 제거하므로, 맵의 크기는 동시에 작업 중인 유저 수를 넘지 않습니다.
+ */
+public class RefCountedUserLockStrategy implements UserLockStrategy {
+
+    private final ConcurrentHashMap<Long, CountedLock> userLocks = new ConcurrentHashMap<>();
+    private final boolean fair;
+
+    public RefCountedUserLockStrategy(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> task) {
+        CountedLock countedLock = userLocks.compute(userId, (id, current) -> {
+            CountedLock acquired = current == null ? new CountedLock(fair) : current;
+            acquired.references++;
+            return acquired;
+        });
+
+        countedLock.lock.lock();
+        try {
+            return task.get();
+        } finally {
+            countedLock.lock.unlock();
+            userLocks.computeIfPresent(userId, (id, current) -> --current.references == 0 ? null : current);
+        }
+    }
+
+    @Override
+    public int size() {
+        return userLocks.size();
+    }
+
+    /**
+     * references 는 ConcurrentHashMap 의 compute 안에서만 변경합니다.
+     */
+    private static class CountedLock {
+        private final ReentrantLock lock;
+        private int references;
+
+        CountedLock(boolean fair) {
+            this.lock = new ReentrantLock(fair);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 락 대신 유저별 작업 큐(mailbox)를 사용합니다.
+ * 작업을 큐에 넣은 스레드 중 CAS 로 실행권을 얻은 스레드가 큐의 앞에서부터 순서대로 실행하고,
+ * 나머지 스레드는 자신의 작업이 끝나거나 실행권을 넘겨받을 때까지 기다립니다.
+ * 실행권을 얻은 스레드는 자신의 작업까지만 실행하고, 큐에 남은 작업이 있으면 맨 앞 작업의 스레드를 깨워 실행권을 넘깁니다.
+ * 그래서 요청이 계속 들어와도 한 스레드가 다른 요청의 작업을 끝없이 떠맡지 않습니다. (자신보다 먼저 들어온 작업까지만 실행)
+ * 비어 있고 실행 중이 아닌 mailbox 는 제거합니다.
+ */
+public class SerialUserLockStrategy implements UserLockStrategy {
+
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> task) {
+        FutureTask<T> futureTask = new FutureTask<>(task::get);
+        Slot slot = new Slot(futureTask, Thread.currentThread());
+
+        Mailbox mailbox = mailboxes.compute(userId, (id, current) -> {
+            Mailbox acquired = current == null ? new Mailbox() : current;
+            acquired.slots.add(slot);
+            return acquired;
+        });
+
+        boolean interrupted = false;
+        while(!futureTask.isDone()) {
+            if(!drain(mailbox, slot)) {
+                LockSupport.park(this);
+                interrupted |= Thread.interrupted();
+            }
+        }
+        mailboxes.computeIfPresent(userId, (id, current) -> current.isIdle() ? null : current);
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        return result(futureTask);
+    }
+
+    @Override
+    public int size() {
+        return mailboxes.size();
+    }
+
+    /**
+     * 실행권을 얻으면 자신의 작업이 끝날 때까지 큐의 작업을 실행하고 true 를 반환합니다.
+     * 실행한 작업의 스레드는 깨우고, 큐에 남은 작업이 있으면 맨 앞 작업의 스레드를 깨워 실행권을 넘깁니다.
+     * 실행권을 내려놓은 뒤에 큐를 확인하므로, 실행권을 얻지 못하고 기다리게 된 스레드를 놓치지 않습니다.
+     */
+    private boolean drain(Mailbox mailbox, Slot own) {
+        if(!mailbox.running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            Slot slot;
+            while(!own.task().isDone() && (slot = mailbox.slots.poll()) != null) {
+                slot.task().run();
+                if(slot != own) {
+                    LockSupport.unpark(slot.owner());
+                }
+            }
+        } finally {
+            mailbox.running.set(false);
+        }
+        Slot next = mailbox.slots.peek();
+        if(next != null) {
+            LockSupport.unpark(next.owner());
+        }
+        return true;
+    }
+
+    private <T> T result(FutureTask<T> futureTask) {
+        try {
+            return futureTask.get();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("완료된 작업의 결과를 기다리다 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if(e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private record Slot(FutureTask<?> task, Thread owner) {
+    }
+
+    private static class Mailbox {
+        private final ConcurrentLinkedQueue<Slot> slots = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        boolean isIdle() {
+            return slots.isEmpty() && !running.get();
+        }
+    }
+}
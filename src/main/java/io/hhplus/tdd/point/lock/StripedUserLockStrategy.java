@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 고정 개수의 락을 userId 해시로 나눠 사용하므로 유저 수와 무관하게 메모리 사용량이 일정합니다.
+ * 같은 락에 배정된 서로 다른 유저는 함께 직렬화됩니다.
+ */
+public class StripedUserLockStrategy implements UserLockStrategy {
+
+    private final ReentrantLock[] locks;
+
+    public StripedUserLockStrategy(int stripes, boolean fair) {
+        if(stripes <= 0) {
+            throw new IllegalArgumentException("락 개수는 0보다 커야 합니다.");
+        }
+        this.locks = new ReentrantLock[stripes];
+        for(int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock(fair);
+        }
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> task) {
+        ReentrantLock lock = locks[stripeOf(userId)];
+
+        lock.lock();
+        try {
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 서로 다른 유저도 같은 락에 배정될 수 있으므로, userId 가 아닌 락 번호 순서로 잡습니다.
+     * 두 유저가 같은 락에 배정되면 한 번만 잡습니다.
+     */
+    @Override
+    public <T> T executeWithLocks(long firstUserId, long secondUserId, Supplier<T> task) {
+        int first = stripeOf(firstUserId);
+        int second = stripeOf(secondUserId);
+        if(first == second) {
+            return executeWithLock(firstUserId, task);
+        }
+        ReentrantLock lower = locks[Math.min(first, second)];
+        ReentrantLock higher = locks[Math.max(first, second)];
+
+        lower.lock();
+        try {
+            higher.lock();
+            try {
+                return task.get();
+            } finally {
+                higher.unlock();
+            }
+        } finally {
+            lower.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return locks.length;
+    }
+
+    int stripeOf(long userId) {
+        int hash = Long.hashCode(userId);
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, locks.length);
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserLockConfig {
+
+    @Bean
+    public UserLockStrategy userLockStrategy(
+            @Value("${point.lock.strategy:REF_COUNTED}") UserLockType type,
+            @Value("${point.lock.stripes:1024}") int stripes,
+            @Value("${point.lock.fair:true}") boolean fair
+    ) {
+        return switch (type) {
+            case STRIPED -> new StripedUserLockStrategy(stripes, fair);
+            case REF_COUNTED -> new RefCountedUserLockStrategy(fair);
+            case SERIAL -> new SerialUserLockStrategy();
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.function.Supplier;
+
+/**
+ * 같은 유저에 대한 작업을 한 번에 하나만 실행하는 동시성 제어 전략
+ * - 서로 다른 유저의 작업은 동시에 실행될 수 있습니다.
+ * - 재진입을 보장하지 않으므로 같은 유저에 대해 중첩 호출하지 않습니다.
+ */
+public interface UserLockStrategy {
+
+    <T> T executeWithLock(long userId, Supplier<T> task);
+
+    /**
+     * 두 유저의 락을 모두 잡은 상태로 작업을 실행합니다.
+     * 락을 항상 userId 가 작은 쪽부터 잡으므로, 서로 반대 방향으로 두 락을 잡는 작업끼리도 교착 상태에 빠지지 않습니다.
+     */
+    default <T> T executeWithLocks(long firstUserId, long secondUserId, Supplier<T> task) {
+        if(firstUserId == secondUserId) {
+            return executeWithLock(firstUserId, task);
+        }
+        long lower = Math.min(firstUserId, secondUserId);
+        long higher = Math.max(firstUserId, secondUserId);
+        return executeWithLock(lower, () -> executeWithLock(higher, task));
+    }
+
+    /**
+     * 메모리에 유지 중인 락(또는 작업 큐) 개수
+     */
+    int size();
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * 유저 동시성 제어 전략 종류 (point.lock.strategy)
+ * - STRIPED : 고정 개수의 락을 userId 해시로 나눠 사용
+ * - REF_COUNTED : 유저별 락을 사용 중인 스레드 수로 관리하고, 사용하는 스레드가 없으면 제거
+ * - SERIAL : 락 없이 유저별 작업 큐에 CAS 로 실행권을 얻은 스레드가 순서대로 실행
+ */
+public enum UserLockType {
+    STRIPED, REF_COUNTED, SERIAL
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.PointBulkService;
+import io.hhplus.tdd.point.PointIdempotencyStore;
+import io.hhplus.tdd.point.PointNode;
+import io.hhplus.tdd.point.PointStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux 로 실행할 때(spring.main.web-application-type=reactive)만 등록됩니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointConfig {
+
+    /**
+     * servlet 실행용 Tomcat 도 classpath 에 있으므로, 적은 스레드로 많은 연결을 유지하는 Netty 를 직접 지정합니다.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * 블로킹 테이블 호출 전용 스케줄러. threads 개를 넘는 호출은 최대 queued-tasks 개까지 대기하고, 그 이상은 거절합니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler pointTableScheduler(
+            @Value("${point.reactive.table-threads:256}") int threads,
+            @Value("${point.reactive.queued-tasks:100000}") int queuedTasks
+    ) {
+        return Schedulers.newBoundedElastic(threads, queuedTasks, "point-table");
+    }
+
+    @Bean
+    public ReactivePointService reactivePointService(
+            PointNode pointNode,
+            PointBulkService pointBulkService,
+            PointIdempotencyStore pointIdempotencyStore,
+            PointStatistics pointStatistics,
+            Scheduler pointTableScheduler
+    ) {
+        return new ReactivePointService(pointNode, pointBulkService, pointIdempotencyStore, pointStatistics, pointTableScheduler);
+    }
+}
@@ -0,0 +1,171 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.PointChangeFeed;
+import io.hhplus.tdd.point.PointChangePage;
+import io.hhplus.tdd.point.PointController;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHold;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.PointTransfer;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * PointController 와 같은 API 를 논블로킹으로 제공합니다. (spring.main.web-application-type=reactive)
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointController {
+
+    private final ReactivePointService reactivePointService;
+    private final PointChangeFeed pointChangeFeed;
+
+    @GetMapping("{id}")
+    public Mono<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return reactivePointService.selectUserPointById(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public Mono<PointHistoryPage> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long fromMillis,
+            @RequestParam(required = false) Long toMillis,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        return Mono.fromSupplier(() -> PointHistoryCondition.of(cursor, limit, fromMillis, toMillis, type))
+                .flatMap(condition -> reactivePointService.selectPointHistoryPageByUserId(id, condition));
+    }
+
+    /**
+     * cursor 이후의 조건에 맞는 내역을 끝까지 NDJSON 또는 SSE 로 흘려보냅니다. limit 은 한 번에 읽어 올 개수입니다.
+     */
+    @GetMapping(value = "{id}/histories/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<PointHistory> streamHistories(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long fromMillis,
+            @RequestParam(required = false) Long toMillis,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        return Mono.fromSupplier(() -> PointHistoryCondition.of(cursor, limit == null ? PointHistoryCondition.MAX_LIMIT : limit, fromMillis, toMillis, type))
+                .flatMapMany(condition -> reactivePointService.streamPointHistoriesByUserId(id, condition));
+    }
+
+    /**
+     * offset(마지막으로 받은 이벤트 순번 = 내역 id) 이후에 저장된 내역을 변경 이벤트로 받습니다.
+     * 새 이벤트가 없으면 timeoutMillis 동안 기다렸다가 빈 페이지를 반환합니다. (롱 폴링)
+     */
+    @GetMapping("changes")
+    public Mono<PointChangePage> changes(
+            @RequestParam(required = false) Long offset,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long timeoutMillis
+    ) {
+        return Mono.defer(() -> Mono.fromFuture(pointChangeFeed.poll(offset, limit, userId, timeoutMillis)));
+    }
+
+    /**
+     * offset 이후에 저장된 내역을 SSE 로 계속 받습니다. 이벤트 id 가 순번이므로, 다시 연결할 때 Last-Event-ID 헤더로 이어 받습니다.
+     */
+    @GetMapping(value = "changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PointHistory>> streamChanges(
+            @RequestParam(required = false) Long offset,
+            @RequestParam(required = false) Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return pointChangeFeed.stream(offset != null ? offset : lastEventId, userId)
+                .map(event -> ServerSentEvent.builder(event).id(String.valueOf(event.id())).build());
+    }
+
+    @GetMapping("{id}/stats")
+    public Mono<PointStats> stats(
+            @PathVariable long id
+    ) {
+        return reactivePointService.selectPointStatsByUserId(id);
+    }
+
+    @GetMapping("stats")
+    public Mono<PointStats> globalStats() {
+        return reactivePointService.globalStats();
+    }
+
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        return reactivePointService.chargeUserPoint(id, amount, idempotencyKey);
+    }
+
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        return reactivePointService.useUserPoint(id, amount, idempotencyKey);
+    }
+
+    @PostMapping("{id}/holds")
+    public Mono<PointHold> hold(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestParam(required = false) Long ttlSeconds
+    ) {
+        return reactivePointService.holdUserPoint(id, amount, ttlSeconds);
+    }
+
+    @PostMapping("{id}/holds/{holdId}/confirm")
+    public Mono<UserPoint> confirmHold(
+            @PathVariable long id,
+            @PathVariable long holdId
+    ) {
+        return reactivePointService.confirmHold(id, holdId);
+    }
+
+    @DeleteMapping("{id}/holds/{holdId}")
+    public Mono<PointHold> cancelHold(
+            @PathVariable long id,
+            @PathVariable long holdId
+    ) {
+        return reactivePointService.cancelHold(id, holdId);
+    }
+
+    @PostMapping("{id}/transfer/{toId}")
+    public Mono<PointTransfer> transfer(
+            @PathVariable long id,
+            @PathVariable long toId,
+            @RequestBody long amount
+    ) {
+        return reactivePointService.transferUserPoint(id, toId, amount);
+    }
+
+    @PostMapping("bulk")
+    public Mono<List<PointOperationResult>> bulk(
+            @RequestBody List<PointOperation> operations
+    ) {
+        return reactivePointService.applyAll(operations);
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.PointBulkService;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHold;
+import io.hhplus.tdd.point.PointIdempotencyStore;
+import io.hhplus.tdd.point.PointNode;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointStatistics;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.PointTransfer;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * PointNode 의 기능을 Mono / Flux 로 제공합니다.
+ * - 블로킹 테이블 호출은 크기가 제한된 tableScheduler 에서만 실행해, 요청 처리 스레드(이벤트 루프)를 막지 않습니다.
+ * - 같은 유저의 충전/사용/홀드/송금은 UserTaskQueue 로 도착 순서대로 하나씩 실행하므로, 이 요청들끼리는 유저 락을 두고 기다리지 않습니다.
+ * - PointService 안의 유저 락은 그대로 둡니다. 캐시 미스 조회, 일괄 처리, 만료/홀드 만료 처리도 같은 락을 잡으므로
+ *   그 작업과 겹치면 tableScheduler 스레드가 락을 잠시 기다릴 수 있습니다.
+ * - 같은 유저의 요청을 하나씩 실행하므로 PointService 의 그룹 커밋으로 묶이지 않습니다.
+ *   인기 유저에 요청이 몰리면 요청마다 잔액 테이블 왕복이 한 번씩 필요해, 유저당 처리량은 테이블 지연에 묶입니다.
+ */
+public class ReactivePointService {
+
+    private final PointNode pointNode;
+    private final PointBulkService pointBulkService;
+    private final PointIdempotencyStore pointIdempotencyStore;
+    private final PointStatistics pointStatistics;
+    private final Scheduler tableScheduler;
+    private final UserTaskQueue userTaskQueue = new UserTaskQueue();
+
+    public ReactivePointService(
+            PointNode pointNode,
+            PointBulkService pointBulkService,
+            PointIdempotencyStore pointIdempotencyStore,
+            PointStatistics pointStatistics,
+            Scheduler tableScheduler
+    ) {
+        this.pointNode = pointNode;
+        this.pointBulkService = pointBulkService;
+        this.pointIdempotencyStore = pointIdempotencyStore;
+        this.pointStatistics = pointStatistics;
+        this.tableScheduler = tableScheduler;
+    }
+
+    public Mono<UserPoint> selectUserPointById(long id) {
+        return blocking(() -> pointNode.selectUserPointById(id));
+    }
+
+    public Mono<PointHistoryPage> selectPointHistoryPageByUserId(long id, PointHistoryCondition condition) {
+        return blocking(() -> pointNode.selectPointHistoryPageByUserId(id, condition));
+    }
+
+    /**
+     * 조건에 맞는 내역을 condition.limit 개씩 나눠 읽으며 끝까지 흘려보냅니다.
+     * 구독자가 요청한 만큼만 다음 페이지를 읽으므로, 내역이 많아도 한 번에 한 페이지만 메모리에 둡니다.
+     */
+    public Flux<PointHistory> streamPointHistoriesByUserId(long id, PointHistoryCondition condition) {
+        return selectPointHistoryPageByUserId(id, condition)
+                .expand(page -> page.nextCursor() == null
+                        ? Mono.empty()
+                        : selectPointHistoryPageByUserId(id, new PointHistoryCondition(page.nextCursor(), condition.limit(), condition.fromMillis(), condition.toMillis(), condition.type())), 1)
+                .concatMapIterable(PointHistoryPage::histories, 1);
+    }
+
+    /**
+     * 피어 노드로 보내는 요청일 수 있으므로 테이블 스케줄러에서 호출합니다.
+     */
+    public Mono<PointStats> selectPointStatsByUserId(long id) {
+        return blocking(() -> pointNode.selectPointStatsByUserId(id));
+    }
+
+    /**
+     * 집계된 값만 읽으므로 바로 반환합니다.
+     */
+    public Mono<PointStats> globalStats() {
+        return Mono.fromSupplier(pointStatistics::globalStats);
+    }
+
+    public Mono<UserPoint> chargeUserPoint(long id, long amount, String idempotencyKey) {
+        return userTaskQueue.enqueue(id, () -> blocking(() ->
+                pointIdempotencyStore.execute(id, idempotencyKey, TransactionType.CHARGE, amount, () -> pointNode.chargeUserPoint(id, amount))));
+    }
+
+    public Mono<UserPoint> useUserPoint(long id, long amount, String idempotencyKey) {
+        return userTaskQueue.enqueue(id, () -> blocking(() ->
+                pointIdempotencyStore.execute(id, idempotencyKey, TransactionType.USE, amount, () -> pointNode.useUserPoint(id, amount))));
+    }
+
+    public Mono<PointHold> holdUserPoint(long id, long amount, Long ttlSeconds) {
+        return userTaskQueue.enqueue(id, () -> blocking(() -> pointNode.holdUserPoint(id, amount, ttlSeconds)));
+    }
+
+    public Mono<UserPoint> confirmHold(long id, long holdId) {
+        return userTaskQueue.enqueue(id, () -> blocking(() -> pointNode.confirmHold(id, holdId)));
+    }
+
+    /**
+     * 취소는 유저 락을 잡지 않으므로 차례를 기다리지 않습니다. 피어 노드로 보내는 요청일 수 있어 테이블 스케줄러에서 호출합니다.
+     */
+    public Mono<PointHold> cancelHold(long id, long holdId) {
+        return blocking(() -> pointNode.cancelHold(id, holdId));
+    }
+
+    /**
+     * 두 유저의 차례를 모두 받은 뒤 처리합니다.
+     * 차례는 항상 id 가 작은 유저부터 받으므로, 서로 반대 방향으로 송금해도 서로의 차례를 기다리며 멈추지 않습니다.
+     */
+    public Mono<PointTransfer> transferUserPoint(long fromId, long toId, long amount) {
+        Supplier<Mono<PointTransfer>> transfer = () -> blocking(() -> pointNode.transferUserPoint(fromId, toId, amount));
+        if(fromId == toId) {
+            return userTaskQueue.enqueue(fromId, transfer);
+        }
+        long first = Math.min(fromId, toId);
+        long second = Math.max(fromId, toId);
+        return userTaskQueue.enqueue(first, () -> userTaskQueue.enqueue(second, transfer));
+    }
+
+    /**
+     * 일괄 처리는 PointBulkService 가 유저별 순서를 지키므로 그대로 위임합니다.
+     */
+    public Mono<List<PointOperationResult>> applyAll(List<PointOperation> operations) {
+        return blocking(() -> pointBulkService.applyAll(operations));
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(tableScheduler);
+    }
+}
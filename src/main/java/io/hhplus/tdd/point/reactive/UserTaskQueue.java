@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.reactive;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 같은 유저의 작업을 도착 순서대로 하나씩 실행하는 논블로킹 대기열
+ * - 유저별로 마지막 작업의 완료 신호만 보관하고, 새 작업은 그 신호가 완료되면 시작합니다.
+ *   차례를 기다리는 동안 스레드를 점유하지 않습니다.
+ * - 마지막 작업이 끝나면 유저의 항목을 제거하므로, 대기 중인 작업이 없는 유저는 메모리를 차지하지 않습니다.
+ */
+class UserTaskQueue {
+
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    <T> Mono<T> enqueue(long userId, Supplier<Mono<T>> task) {
+        return Mono.defer(() -> {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            done.whenComplete((ignored, e) -> tails.remove(userId, done));
+            CompletableFuture<Void> previous = tails.put(userId, done);
+            AtomicBoolean started = new AtomicBoolean();
+
+            Mono<Void> turn = previous == null ? Mono.empty() : Mono.fromFuture(previous, true);
+            return turn
+                    .then(Mono.defer(() -> {
+                        started.set(true);
+                        return task.get();
+                    }))
+                    .doFinally(signal -> {
+                        // 차례를 기다리다 취소되면, 앞 작업이 끝난 뒤에 다음 작업이 시작되도록 완료를 미룹니다.
+                        if(previous == null || started.get()) {
+                            done.complete(null);
+                        } else {
+                            previous.whenComplete((result, e) -> done.complete(null));
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 작업이 있는 유저 수
+     */
+    int activeUsers() {
+        return tails.size();
+    }
+}
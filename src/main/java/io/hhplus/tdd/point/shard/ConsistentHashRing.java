@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 노드 이름을 가상 노드 여러 개로 링에 배치하고, 키의 해시 다음에 오는 노드를 담당 노드로 정합니다.
+ * - 노드를 추가/제거하면 해당 노드가 맡거나 맡던 구간의 키만 담당 노드가 바뀝니다.
+ * - 변경할 때마다 새 링을 만들어 반환하므로 여러 스레드가 락 없이 읽을 수 있습니다.
+ */
+public final class ConsistentHashRing {
+
+    private final int virtualNodes;
+    private final Set<String> nodes;
+    private final TreeMap<Long, String> ring;
+
+    public ConsistentHashRing(int virtualNodes) {
+        this(virtualNodes, Set.of());
+    }
+
+    private ConsistentHashRing(int virtualNodes, Set<String> nodes) {
+        if(virtualNodes <= 0) {
+            throw new IllegalArgumentException("가상 노드 수는 0보다 커야 합니다.");
+        }
+        this.virtualNodes = virtualNodes;
+        this.nodes = Collections.unmodifiableSet(new LinkedHashSet<>(nodes));
+        this.ring = new TreeMap<>();
+        for(String node : nodes) {
+            for(int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public ConsistentHashRing with(String node) {
+        Set<String> added = new LinkedHashSet<>(nodes);
+        added.add(node);
+        return new ConsistentHashRing(virtualNodes, added);
+    }
+
+    public ConsistentHashRing without(String node) {
+        Set<String> removed = new LinkedHashSet<>(nodes);
+        removed.remove(node);
+        return new ConsistentHashRing(virtualNodes, removed);
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    public String nodeFor(long key) {
+        if(ring.isEmpty()) {
+            throw new IllegalStateException("링에 노드가 없습니다.");
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(mix(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * 연속된 userId 도 고르게 흩어지도록 섞습니다. (MurmurHash3 fmix64)
+     */
+    public static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for(byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+}
@@ -0,0 +1,187 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.PointAdmissionException;
+import io.hhplus.tdd.point.PointAdmissionRejectReason;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHold;
+import io.hhplus.tdd.point.PointNode;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointRejectException;
+import io.hhplus.tdd.point.PointRejectReason;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.PointTransfer;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.util.UriBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 다른 서버(피어)의 포인트 API 를 호출하는 노드
+ * - 모든 서버가 같은 노드 목록으로 링을 구성하므로, 피어는 받은 요청을 자신이 직접 처리합니다.
+ * - 링 읽기 락 안에서 호출되므로, 응답하지 않는 피어가 요청 스레드와 노드 추가/제거를 붙잡지 않도록 연결/응답 대기 시간을 둡니다.
+ * - 피어가 거절한 요청(400, 429)은 피어의 사유와 메시지 그대로 PointRejectException, PointAdmissionException 으로 되돌립니다.
+ */
+public class HttpPointNode implements PointNode {
+
+    private final String baseUrl;
+    private final RestClient restClient;
+
+    public HttpPointNode(String baseUrl, Duration connectTimeout, Duration readTimeout) {
+        this.baseUrl = baseUrl;
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build());
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    public UserPoint selectUserPointById(long id) {
+        return request(() -> restClient.get().uri("/point/{id}", id).retrieve().body(UserPoint.class));
+    }
+
+    public List<PointHistory> selectPointHistoriesByUserId(long id) {
+        List<PointHistory> histories = new ArrayList<>();
+        Long cursor = null;
+        do {
+            PointHistoryPage page = selectPointHistoryPageByUserId(id, PointHistoryCondition.of(cursor, PointHistoryCondition.MAX_LIMIT, null, null, null));
+            histories.addAll(page.histories());
+            cursor = page.nextCursor();
+        } while(cursor != null);
+        return histories;
+    }
+
+    public PointHistoryPage selectPointHistoryPageByUserId(long id, PointHistoryCondition condition) {
+        return request(() -> restClient.get()
+                .uri(builder -> historiesUri(builder, id, condition))
+                .retrieve()
+                .body(PointHistoryPage.class));
+    }
+
+    public PointStats selectPointStatsByUserId(long id) {
+        return request(() -> restClient.get().uri("/point/{id}/stats", id).retrieve().body(PointStats.class));
+    }
+
+    public UserPoint chargeUserPoint(long id, long amount) {
+        return request(() -> restClient.patch().uri("/point/{id}/charge", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(amount)
+                .retrieve()
+                .body(UserPoint.class));
+    }
+
+    public UserPoint useUserPoint(long id, long amount) {
+        return request(() -> restClient.patch().uri("/point/{id}/use", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(amount)
+                .retrieve()
+                .body(UserPoint.class));
+    }
+
+    public List<PointOperationResult> applyUserPointOperations(long id, List<PointOperation> operations) {
+        return request(() -> restClient.post().uri("/point/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(operations)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<PointOperationResult>>() {}));
+    }
+
+    public PointHold holdUserPoint(long id, long amount, Long ttlSeconds) {
+        return request(() -> restClient.post()
+                .uri(builder -> {
+                    builder.path("/point/{id}/holds");
+                    if(ttlSeconds != null) {
+                        builder.queryParam("ttlSeconds", ttlSeconds);
+                    }
+                    return builder.build(id);
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(amount)
+                .retrieve()
+                .body(PointHold.class));
+    }
+
+    public UserPoint confirmHold(long id, long holdId) {
+        return request(() -> restClient.post().uri("/point/{id}/holds/{holdId}/confirm", id, holdId).retrieve().body(UserPoint.class));
+    }
+
+    public PointHold cancelHold(long id, long holdId) {
+        return request(() -> restClient.delete().uri("/point/{id}/holds/{holdId}", id, holdId).retrieve().body(PointHold.class));
+    }
+
+    public PointTransfer transferUserPoint(long fromId, long toId, long amount) {
+        return request(() -> restClient.post().uri("/point/{id}/transfer/{toId}", fromId, toId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(amount)
+                .retrieve()
+                .body(PointTransfer.class));
+    }
+
+    private URI historiesUri(UriBuilder builder, long id, PointHistoryCondition condition) {
+        builder.path("/point/{id}/histories").queryParam("limit", condition.limit());
+        if(condition.cursor() != null) {
+            builder.queryParam("cursor", condition.cursor());
+        }
+        if(condition.fromMillis() != null) {
+            builder.queryParam("fromMillis", condition.fromMillis());
+        }
+        if(condition.toMillis() != null) {
+            builder.queryParam("toMillis", condition.toMillis());
+        }
+        if(condition.type() != null) {
+            builder.queryParam("type", condition.type());
+        }
+        return builder.build(id);
+    }
+
+    private <T> T request(Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (RestClientResponseException e) {
+            throw rejection(e);
+        } catch (RestClientException e) {
+            throw new RuntimeException("포인트 노드 요청에 실패했습니다. (" + baseUrl + ")", e);
+        }
+    }
+
+    /**
+     * 피어의 거절 응답을 피어에서 발생한 예외로 되돌립니다. 사유를 알 수 없는 응답은 요청 실패로 처리합니다.
+     */
+    private RuntimeException rejection(RestClientResponseException e) {
+        String reason = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst(ErrorResponse.REJECT_REASON_HEADER) : null;
+        try {
+            if(reason != null && e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                String retryAfter = e.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+                long retryAfterMillis = retryAfter != null ? Duration.ofSeconds(Long.parseLong(retryAfter)).toMillis() : 0L;
+                return new PointAdmissionException(PointAdmissionRejectReason.valueOf(reason), retryAfterMillis);
+            }
+            if(reason != null && e.getStatusCode().isSameCodeAs(HttpStatus.BAD_REQUEST)) {
+                ErrorResponse body = e.getResponseBodyAs(ErrorResponse.class);
+                return new PointRejectException(PointRejectReason.valueOf(reason), body != null ? body.message() : null);
+            }
+        } catch (IllegalArgumentException | RestClientException ignored) {
+            // 사유나 본문을 해석할 수 없는 응답은 아래의 요청 실패로 처리합니다.
+        }
+        return new RuntimeException("포인트 노드 요청에 실패했습니다. (" + baseUrl + ", " + e.getStatusCode() + ")", e);
+    }
+}
@@ -0,0 +1,172 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.point.MigratablePointNode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHold;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointNode;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.PointTransfer;
+import io.hhplus.tdd.point.UserPoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 일관된 해시 링으로 userId 를 담당 노드에 보냅니다.
+ * - 요청은 링 읽기 락 안에서 담당 노드를 정하고 처리까지 마칩니다.
+ * - 노드를 추가/제거할 때는 쓰기 락으로 진행 중인 요청이 끝나기를 기다린 뒤,
+ *   담당 노드가 바뀌는 유저의 포인트와 내역을 옮기고 링을 교체합니다.
+ *   그래서 한 유저의 요청이 두 노드에서 동시에 처리되지 않고, 옮겨 간 노드는 옮겨 온 잔액으로 검증합니다.
+ * - 같은 JVM 안의 노드(MigratablePointNode) 사이에서만 유저를 옮깁니다.
+ *   원격 노드의 유저는 옮기지 않으므로, 원격 노드가 있는 링은 시작할 때 한 번만 구성합니다.
+ */
+@Slf4j
+public class PointRingRouter implements PointNode {
+
+    private final ReentrantReadWriteLock topologyLock = new ReentrantReadWriteLock(true);
+    private final Map<String, PointNode> nodes = new ConcurrentHashMap<>();
+    private volatile ConsistentHashRing ring;
+
+    public PointRingRouter(int virtualNodes) {
+        this.ring = new ConsistentHashRing(virtualNodes);
+    }
+
+    public UserPoint selectUserPointById(long id) {
+        return route(id, node -> node.selectUserPointById(id));
+    }
+
+    public List<PointHistory> selectPointHistoriesByUserId(long id) {
+        return route(id, node -> node.selectPointHistoriesByUserId(id));
+    }
+
+    public PointHistoryPage selectPointHistoryPageByUserId(long id, PointHistoryCondition condition) {
+        return route(id, node -> node.selectPointHistoryPageByUserId(id, condition));
+    }
+
+    public PointStats selectPointStatsByUserId(long id) {
+        return route(id, node -> node.selectPointStatsByUserId(id));
+    }
+
+    public UserPoint chargeUserPoint(long id, long amount) {
+        return route(id, node -> node.chargeUserPoint(id, amount));
+    }
+
+    public UserPoint useUserPoint(long id, long amount) {
+        return route(id, node -> node.useUserPoint(id, amount));
+    }
+
+    public List<PointOperationResult> applyUserPointOperations(long id, List<PointOperation> operations) {
+        return route(id, node -> node.applyUserPointOperations(id, operations));
+    }
+
+    public PointHold holdUserPoint(long id, long amount, Long ttlSeconds) {
+        return route(id, node -> node.holdUserPoint(id, amount, ttlSeconds));
+    }
+
+    public UserPoint confirmHold(long id, long holdId) {
+        return route(id, node -> node.confirmHold(id, holdId));
+    }
+
+    public PointHold cancelHold(long id, long holdId) {
+        return route(id, node -> node.cancelHold(id, holdId));
+    }
+
+    /**
+     * 두 유저를 같은 노드가 담당할 때만 송금합니다. 노드를 넘나드는 송금은 한 번에 반영할 수 없습니다.
+     */
+    public PointTransfer transferUserPoint(long fromId, long toId, long amount) {
+        return route(fromId, node -> {
+            if(!ring.nodeFor(fromId).equals(ring.nodeFor(toId))) {
+                throw new RuntimeException("다른 노드가 담당하는 유저에게는 송금할 수 없습니다.");
+            }
+            return node.transferUserPoint(fromId, toId, amount);
+        });
+    }
+
+    public String ownerOf(long id) {
+        return ring.nodeFor(id);
+    }
+
+    /**
+     * 노드를 링에 추가하고, 새 노드가 담당하게 된 유저를 옮깁니다.
+     */
+    public void addNode(String name, PointNode node) {
+        topologyLock.writeLock().lock();
+        try {
+            if(nodes.containsKey(name)) {
+                throw new IllegalArgumentException("이미 링에 있는 노드입니다. (" + name + ")");
+            }
+            ConsistentHashRing next = ring.with(name);
+            nodes.put(name, node);
+            rebalance(next);
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 노드가 담당하던 유저를 남은 노드로 옮기고, 노드를 링에서 제거합니다.
+     */
+    public void removeNode(String name) {
+        topologyLock.writeLock().lock();
+        try {
+            if(!nodes.containsKey(name)) {
+                throw new IllegalArgumentException("링에 없는 노드입니다. (" + name + ")");
+            }
+            rebalance(ring.without(name));
+            nodes.remove(name);
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 쓰기 락을 잡은 상태에서 호출합니다.
+     * 옮길 유저를 먼저 모두 정한 뒤 옮기므로, 옮길 수 없는 경우에는 아무것도 바꾸지 않습니다.
+     */
+    private void rebalance(ConsistentHashRing next) {
+        List<Move> moves = new ArrayList<>();
+        for(String source : ring.nodes()) {
+            if(!(nodes.get(source) instanceof MigratablePointNode sourceNode)) {
+                continue;
+            }
+            for(long userId : sourceNode.userIds()) {
+                String target = next.nodeFor(userId);
+                if(target.equals(source)) {
+                    continue;
+                }
+                if(!(nodes.get(target) instanceof MigratablePointNode targetNode)) {
+                    throw new IllegalStateException("원격 노드로는 유저를 옮길 수 없습니다. (" + target + ")");
+                }
+                moves.add(new Move(userId, sourceNode, targetNode));
+            }
+        }
+
+        for(Move move : moves) {
+            move.target().attachUser(move.source().detachUser(move.userId()));
+        }
+        ring = next;
+        log.info("포인트 노드 구성을 {} 로 바꾸고 유저 {}명을 옮겼습니다.", next.nodes(), moves.size());
+    }
+
+    private <T> T route(long id, Function<PointNode, T> task) {
+        topologyLock.readLock().lock();
+        try {
+            return task.apply(nodes.get(ring.nodeFor(id)));
+        } finally {
+            topologyLock.readLock().unlock();
+        }
+    }
+
+    private record Move(long userId, MigratablePointNode source, MigratablePointNode target) {
+    }
+}
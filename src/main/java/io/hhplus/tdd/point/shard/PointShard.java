@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointAdmissionControl;
+import io.hhplus.tdd.point.PointBalanceMode;
+import io.hhplus.tdd.point.PointBalanceProjection;
+import io.hhplus.tdd.point.PointConcurrencyControl;
+import io.hhplus.tdd.point.PointExpiration;
+import io.hhplus.tdd.point.PointHistoryAckPolicy;
+import io.hhplus.tdd.point.PointHistoryWriter;
+import io.hhplus.tdd.point.PointHolds;
+import io.hhplus.tdd.point.PointJournal;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointStatistics;
+import io.hhplus.tdd.point.UserPointCache;
+import io.hhplus.tdd.point.lock.RefCountedUserLockStrategy;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자신만의 테이블 한 쌍과 PointService, 실행 스레드 풀을 가진 샤드
+ * - 유저를 옮길 때 유저 락으로 쓰기를 막아야 하므로 항상 LOCK 모드로 동작합니다.
+ * - 포인트 만료는 단일 PointService 에서만 처리하며, 샤드에서는 사용하지 않습니다.
+ */
+public class PointShard implements AutoCloseable {
+
+    private final PointService pointService;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final ExecutorService executor;
+
+    public PointShard(String name, boolean throttled, int threads, PointMetrics pointMetrics, PointStatistics pointStatistics, PointAdmissionControl pointAdmissionControl, PointHolds pointHolds) {
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(throttled);
+        this.pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, 10_000, 500, PointHistoryAckPolicy.ENQUEUE);
+        this.pointService = new PointService(
+                new UserPointTable(throttled),
+                pointHistoryTable,
+                new UserPointCache(10_000),
+                new RefCountedUserLockStrategy(true),
+                pointHistoryWriter,
+                pointMetrics,
+                PointJournal.disabled(),
+                new PointBalanceProjection(pointHistoryTable, PointBalanceMode.TABLE),
+                PointConcurrencyControl.locking(),
+                pointStatistics,
+                pointAdmissionControl,
+                PointExpiration.disabled(),
+                pointHolds
+        );
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public PointService pointService() {
+        return pointService;
+    }
+
+    /**
+     * 샤드의 스레드 풀에서 작업을 실행하고 결과를 기다립니다.
+     */
+    public <T> T call(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("샤드 작업 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        pointHistoryWriter.shutdown();
+    }
+}
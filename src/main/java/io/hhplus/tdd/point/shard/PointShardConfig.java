@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.point.PointAdmissionControl;
+import io.hhplus.tdd.point.PointHolds;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointNode;
+import io.hhplus.tdd.point.PointStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * point.shard.enabled 가 true 이면 요청을 샤드/피어로 나눠 처리하는 노드를 기본 PointNode 로 등록합니다.
+ * - point.shard.peers : "이름=주소" 목록. 모든 서버가 자신을 포함한 같은 목록을 사용해야 합니다.
+ * - point.shard.peer-connect-timeout-millis, point.shard.peer-read-timeout-millis : 피어 호출의 연결/응답 대기 시간
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.shard.enabled", havingValue = "true")
+public class PointShardConfig {
+
+    @Bean
+    public PointShards pointShards(
+            PointMetrics pointMetrics,
+            PointStatistics pointStatistics,
+            PointAdmissionControl pointAdmissionControl,
+            PointHolds pointHolds,
+            @Value("${point.shard.node-name:local}") String nodeName,
+            @Value("${point.shard.count:4}") int shardCount,
+            @Value("${point.shard.threads:32}") int threadsPerShard,
+            @Value("${point.table.throttle:true}") boolean throttled
+    ) {
+        return new PointShards(nodeName, shardCount, threadsPerShard, throttled, pointMetrics, pointStatistics, pointAdmissionControl, pointHolds);
+    }
+
+    @Primary
+    @Bean
+    public PointNode pointRingRouter(
+            PointShards pointShards,
+            @Value("${point.shard.node-name:local}") String nodeName,
+            @Value("${point.shard.virtual-nodes:128}") int virtualNodes,
+            @Value("${point.shard.peers:}") List<String> peers,
+            @Value("${point.shard.peer-connect-timeout-millis:1000}") long peerConnectTimeoutMillis,
+            @Value("${point.shard.peer-read-timeout-millis:5000}") long peerReadTimeoutMillis
+    ) {
+        PointRingRouter router = new PointRingRouter(virtualNodes);
+        router.addNode(nodeName, pointShards);
+        for(String peer : peers) {
+            String[] nameAndUrl = peer.split("=", 2);
+            if(nameAndUrl.length != 2) {
+                throw new IllegalArgumentException("피어는 이름=주소 형식이어야 합니다. (" + peer + ")");
+            }
+            if(!nameAndUrl[0].equals(nodeName)) {
+                router.addNode(nameAndUrl[0], new HttpPointNode(nameAndUrl[1], Duration.ofMillis(peerConnectTimeoutMillis), Duration.ofMillis(peerReadTimeoutMillis)));
+            }
+        }
+        return router;
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.point.MigratablePointNode;
+import io.hhplus.tdd.point.PointAdmissionControl;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHold;
+import io.hhplus.tdd.point.PointHolds;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointStatistics;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.PointTransfer;
+import io.hhplus.tdd.point.PointUserState;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 한 JVM 안에서 userId 해시로 유저를 N 개의 샤드에 나눠 처리하는 노드
+ * - 한 유저는 항상 같은 샤드에서 처리되므로 유저별 순서와 잔액 검증은 샤드의 PointService 가 보장합니다.
+ * - 통계는 모든 샤드가 하나의 PointStatistics 에 반영하므로, 전체 통계는 이 서버에서 처리한 유저의 합계입니다.
+ * - 처리량 제한도 모든 샤드가 하나의 PointAdmissionControl 을 공유하므로, 전체 제한은 이 서버 단위로 적용됩니다.
+ * - 홀드는 유저별로 보관하므로 모든 샤드가 하나의 PointHolds 와 만료 스케줄러를 공유합니다.
+ */
+public class PointShards implements MigratablePointNode, AutoCloseable {
+
+    private final List<PointShard> shards;
+
+    public PointShards(String name, int shardCount, int threadsPerShard, boolean throttled, PointMetrics pointMetrics, PointStatistics pointStatistics, PointAdmissionControl pointAdmissionControl, PointHolds pointHolds) {
+        if(shardCount <= 0) {
+            throw new IllegalArgumentException("샤드 수는 0보다 커야 합니다.");
+        }
+        List<PointShard> shards = new ArrayList<>(shardCount);
+        for(int i = 0; i < shardCount; i++) {
+            shards.add(new PointShard(name + "-shard-" + i, throttled, threadsPerShard, pointMetrics, pointStatistics, pointAdmissionControl, pointHolds));
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    public UserPoint selectUserPointById(long id) {
+        return onShard(id, pointService -> pointService.selectUserPointById(id));
+    }
+
+    public List<PointHistory> selectPointHistoriesByUserId(long id) {
+        return onShard(id, pointService -> pointService.selectPointHistoriesByUserId(id));
+    }
+
+    public PointHistoryPage selectPointHistoryPageByUserId(long id, PointHistoryCondition condition) {
+        return onShard(id, pointService -> pointService.selectPointHistoryPageByUserId(id, condition));
+    }
+
+    public PointStats selectPointStatsByUserId(long id) {
+        return onShard(id, pointService -> pointService.selectPointStatsByUserId(id));
+    }
+
+    public UserPoint chargeUserPoint(long id, long amount) {
+        return onShard(id, pointService -> pointService.chargeUserPoint(id, amount));
+    }
+
+    public UserPoint useUserPoint(long id, long amount) {
+        return onShard(id, pointService -> pointService.useUserPoint(id, amount));
+    }
+
+    public List<PointOperationResult> applyUserPointOperations(long id, List<PointOperation> operations) {
+        return onShard(id, pointService -> pointService.applyUserPointOperations(id, operations));
+    }
+
+    public PointHold holdUserPoint(long id, long amount, Long ttlSeconds) {
+        return onShard(id, pointService -> pointService.holdUserPoint(id, amount, ttlSeconds));
+    }
+
+    public UserPoint confirmHold(long id, long holdId) {
+        return onShard(id, pointService -> pointService.confirmHold(id, holdId));
+    }
+
+    public PointHold cancelHold(long id, long holdId) {
+        return onShard(id, pointService -> pointService.cancelHold(id, holdId));
+    }
+
+    /**
+     * 두 유저가 같은 샤드에 있을 때만 송금합니다. 샤드마다 락이 따로 있어 다른 샤드의 유저와는 함께 잠글 수 없습니다.
+     */
+    public PointTransfer transferUserPoint(long fromId, long toId, long amount) {
+        if(shardOf(fromId) != shardOf(toId)) {
+            throw new RuntimeException("다른 샤드에 있는 유저에게는 송금할 수 없습니다.");
+        }
+        return onShard(fromId, pointService -> pointService.transferUserPoint(fromId, toId, amount));
+    }
+
+    public Set<Long> userIds() {
+        Set<Long> userIds = new HashSet<>();
+        for(PointShard shard : shards) {
+            userIds.addAll(shard.pointService().userIds());
+        }
+        return userIds;
+    }
+
+    public PointUserState detachUser(long id) {
+        return shardOf(id).pointService().detachUser(id);
+    }
+
+    public void attachUser(PointUserState state) {
+        shardOf(state.userId()).pointService().attachUser(state);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for(PointShard shard : shards) {
+            shard.close();
+        }
+    }
+
+    private <T> T onShard(long id, Function<PointService, T> task) {
+        PointShard shard = shardOf(id);
+        return shard.call(() -> task.apply(shard.pointService()));
+    }
+
+    private PointShard shardOf(long id) {
+        return shards.get((int) Math.floorMod(ConsistentHashRing.mix(id), (long) shards.size()));
+    }
+}
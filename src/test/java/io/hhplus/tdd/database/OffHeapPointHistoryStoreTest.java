@@ -0,0 +1,110 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class OffHeapPointHistoryStoreTest {
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable(false, new OffHeapPointHistoryStore(4));
+
+    @Test
+    void 청크를_넘어_저장한_내역도_유저별로_id_순서대로_조회된다() {
+        // given
+        for(int i = 0; i < 10; i++) {
+            pointHistoryTable.insert(i % 2, 10L * (i + 1), i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, 10000L + i);
+        }
+
+        // when
+        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(1L);
+
+        // then
+        assertThat(histories)
+                .extracting("id", "userId", "amount", "type", "updateMillis")
+                .containsExactly(
+                        tuple(2L, 1L, 20L, TransactionType.CHARGE, 10001L),
+                        tuple(4L, 1L, 40L, TransactionType.USE, 10003L),
+                        tuple(6L, 1L, 60L, TransactionType.CHARGE, 10005L),
+                        tuple(8L, 1L, 80L, TransactionType.CHARGE, 10007L),
+                        tuple(10L, 1L, 100L, TransactionType.USE, 10009L)
+                );
+        assertThat(pointHistoryTable.selectAllByUserId(3L)).isEmpty();
+        assertThat(pointHistoryTable.selectUserIds()).containsExactlyInAnyOrder(0L, 1L);
+    }
+
+    @Test
+    void 커서와_조건으로_내역을_페이지_단위로_조회한다() {
+        // given
+        for(int i = 0; i < 9; i++) {
+            pointHistoryTable.insert(1L, 10L * (i + 1), i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, 10000L + i);
+        }
+        PointHistoryCondition first = PointHistoryCondition.of(null, 2, 10001L, null, TransactionType.CHARGE);
+
+        // when
+        PointHistoryPage firstPage = pointHistoryTable.selectPageByUserId(1L, first);
+        PointHistoryPage lastPage = pointHistoryTable.selectPageByUserId(1L, PointHistoryCondition.of(firstPage.nextCursor(), 2, 10001L, null, TransactionType.CHARGE));
+
+        // then
+        assertThat(firstPage.histories()).extracting("amount").containsExactly(30L, 50L);
+        assertThat(firstPage.nextCursor()).isEqualTo(5L);
+        assertThat(lastPage.histories()).extracting("amount").containsExactly(70L, 90L);
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void 내역을_객체로_만들지_않고_값으로_순회한다() {
+        // given
+        pointHistoryTable.insert(1L, 100L, TransactionType.CHARGE, 10000L);
+        pointHistoryTable.insert(2L, 999L, TransactionType.CHARGE, 10001L);
+        pointHistoryTable.insert(1L, 30L, TransactionType.USE, 10002L);
+
+        // when
+        long[] balance = new long[1];
+        pointHistoryTable.forEachByUserId(1L, (id, userId, amount, type, updateMillis) ->
+                balance[0] += type == TransactionType.CHARGE ? amount : -amount);
+
+        // then
+        assertThat(balance[0]).isEqualTo(70L);
+    }
+
+    @Test
+    void 동시에_내역을_저장하면서_조회해도_저장된_행만_읽는다() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int rowsPerThread = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for(int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for(int j = 0; j < rowsPerThread; j++) {
+                        pointHistoryTable.insert(1L, 1L, TransactionType.CHARGE, j);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        while(latch.getCount() > 0) {
+            List<PointHistory> snapshot = pointHistoryTable.selectAllByUserId(1L);
+            assertThat(snapshot).allSatisfy(pointHistory -> assertThat(pointHistory.userId()).isEqualTo(1L));
+            assertThat(snapshot).isSortedAccordingTo((a, b) -> Long.compare(a.id(), b.id()));
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(threadCount * rowsPerThread);
+    }
+}
@@ -0,0 +1,116 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointHistoryTableTest {
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+
+    @Test
+    void 유저별_내역은_해당_유저의_내역만_id_순서대로_조회된다() {
+        // given
+        pointHistoryTable.insert(1L, 100L, TransactionType.CHARGE, 10000L);
+        pointHistoryTable.insert(2L, 200L, TransactionType.CHARGE, 10001L);
+        pointHistoryTable.insert(1L, 50L, TransactionType.USE, 10002L);
+
+        // when
+        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(1L);
+
+        // then
+        assertThat(histories)
+                .extracting("id", "userId", "amount", "type")
+                .containsExactly(
+                        tuple(1L, 1L, 100L, TransactionType.CHARGE),
+                        tuple(3L, 1L, 50L, TransactionType.USE)
+                );
+        assertThat(pointHistoryTable.selectAllByUserId(3L)).isEmpty();
+    }
+
+    @Test
+    void 동시에_내역을_저장해도_누락이나_중복된_id_없이_저장된다() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for(int i = 0; i < threadCount; i++) {
+            long userId = i % 2;
+            executorService.submit(() -> {
+                try {
+                    pointHistoryTable.insert(userId, 10L, TransactionType.CHARGE, System.currentTimeMillis());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        // then
+        List<PointHistory> first = pointHistoryTable.selectAllByUserId(0L);
+        List<PointHistory> second = pointHistoryTable.selectAllByUserId(1L);
+
+        assertThat(first).hasSize(threadCount / 2).isSortedAccordingTo((a, b) -> Long.compare(a.id(), b.id()));
+        assertThat(second).hasSize(threadCount / 2).isSortedAccordingTo((a, b) -> Long.compare(a.id(), b.id()));
+        assertThat(first.stream().map(PointHistory::id))
+                .doesNotContainAnyElementsOf(second.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void 커서_기반으로_내역을_페이지_단위로_조회한다() {
+        // given
+        for(int i = 0; i < 5; i++) {
+            pointHistoryTable.insert(1L, 10L * (i + 1), TransactionType.CHARGE, 10000L + i);
+        }
+
+        // when
+        PointHistoryPage first = pointHistoryTable.selectPageByUserId(1L, PointHistoryCondition.of(null, 2, null, null, null));
+        PointHistoryPage second = pointHistoryTable.selectPageByUserId(1L, PointHistoryCondition.of(first.nextCursor(), 2, null, null, null));
+        PointHistoryPage last = pointHistoryTable.selectPageByUserId(1L, PointHistoryCondition.of(second.nextCursor(), 2, null, null, null));
+
+        // then
+        assertThat(first.histories()).extracting("amount").containsExactly(10L, 20L);
+        assertThat(first.nextCursor()).isEqualTo(2L);
+        assertThat(second.histories()).extracting("amount").containsExactly(30L, 40L);
+        assertThat(last.histories()).extracting("amount").containsExactly(50L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void 시간_구간과_트랜잭션_종류로_내역을_필터링한다() {
+        // given
+        pointHistoryTable.insert(1L, 100L, TransactionType.CHARGE, 10000L);
+        pointHistoryTable.insert(1L, 10L, TransactionType.USE, 10001L);
+        pointHistoryTable.insert(1L, 200L, TransactionType.CHARGE, 10002L);
+        pointHistoryTable.insert(1L, 300L, TransactionType.CHARGE, 10003L);
+
+        // when
+        PointHistoryPage page = pointHistoryTable.selectPageByUserId(1L,
+                PointHistoryCondition.of(null, 10, 10001L, 10002L, TransactionType.CHARGE));
+
+        // then
+        assertThat(page.histories()).extracting("amount").containsExactly(200L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void 내역_조회_개수가_100개를_초과하면_예외를_발생한다() {
+        assertThatThrownBy(() -> PointHistoryCondition.of(null, 101, null, null, null))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("내역 조회 개수는 1개 이상 100개 이하여야 합니다.");
+    }
+}
@@ -0,0 +1,187 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointJournalEntry;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class WalPointJournalTest {
+
+    private static final int SEGMENT_SIZE = WriteAheadLog.RECORD_SIZE * 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 재시작하면_로그에_남은_잔액과_내역이_복구된다() {
+        // given
+        try(WalPointJournal journal = new WalPointJournal(directory, SEGMENT_SIZE, 0L, 0L)) {
+            journal.append(List.of(
+                    new PointJournalEntry(1L, 100L, TransactionType.CHARGE, 100L, 10000L),
+                    new PointJournalEntry(1L, 30L, TransactionType.USE, 70L, 10000L)
+            )).join();
+            journal.append(List.of(new PointJournalEntry(2L, 500L, TransactionType.CHARGE, 500L, 10001L))).join();
+        }
+
+        // when
+        UserPointTable userPointTable = new UserPointTable(false);
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+        try(WalPointJournal journal = new WalPointJournal(directory, SEGMENT_SIZE, 0L, 0L)) {
+            journal.recover(userPointTable, pointHistoryTable);
+        }
+
+        // then
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(70L);
+        assertThat(userPointTable.selectById(2L).point()).isEqualTo(500L);
+        assertThat(pointHistoryTable.selectAllByUserId(1L))
+                .extracting("amount", "type")
+                .containsExactly(tuple(100L, TransactionType.CHARGE), tuple(30L, TransactionType.USE));
+    }
+
+    @Test
+    void 스냅샷_이후의_레코드만_재생해도_잔액이_복구되고_세그먼트를_넘긴_내역도_모두_복구된다() {
+        // given
+        try(WalPointJournal journal = new WalPointJournal(directory, SEGMENT_SIZE, 0L, 0L)) {
+            long balance = 0L;
+            for(int i = 0; i < 6; i++) {
+                balance += 10L;
+                journal.append(List.of(new PointJournalEntry(1L, 10L, TransactionType.CHARGE, balance, 10000L + i))).join();
+            }
+            journal.snapshot();
+            journal.append(List.of(new PointJournalEntry(1L, 20L, TransactionType.USE, balance - 20L, 20000L))).join();
+        }
+
+        // when
+        UserPointTable userPointTable = new UserPointTable(false);
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+        try(WalPointJournal journal = new WalPointJournal(directory, SEGMENT_SIZE, 0L, 0L)) {
+            journal.recover(userPointTable, pointHistoryTable);
+        }
+
+        // then
+        assertThat(BalanceSnapshot.readLatest(directory).seq()).isEqualTo(7L);
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(40L);
+        assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(7);
+    }
+
+    @Test
+    void 마지막_레코드가_손상되면_그_직전_레코드까지만_복구하고_이어서_기록한다() throws IOException {
+        // given
+        try(WalPointJournal journal = new WalPointJournal(directory, SEGMENT_SIZE, 0L, 0L)) {
+            journal.append(List.of(new PointJournalEntry(1L, 100L, TransactionType.CHARGE, 100L, 10000L))).join();
+            journal.append(List.of(new PointJournalEntry(1L, 50L, TransactionType.CHARGE, 150L, 10001L))).join();
+        }
+        corruptRecord(lastSegment(), 1);
+        deleteSnapshots();
+
+        // when
+        try(WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, SEGMENT_SIZE, 0L)) {
+            writeAheadLog.append(List.of(new PointJournalEntry(1L, 10L, TransactionType.USE, 90L, 10002L))).join();
+        }
+
+        // then
+        List<WalRecord> records = new ArrayList<>();
+        WriteAheadLog.replay(directory, 0L, records::add);
+        assertThat(records)
+                .extracting(record -> record.seq(), record -> record.entry().balance())
+                .containsExactly(tuple(1L, 100L), tuple(2L, 90L));
+    }
+
+    @Test
+    void 스냅샷까지의_세그먼트는_지워지고_재시작하면_체크포인트와_그_이후의_로그로_잔액과_내역이_복구된다() throws IOException {
+        // given
+        long balance = 0L;
+        try(WalPointJournal journal = new WalPointJournal(directory, SEGMENT_SIZE, 0L, 0L)) {
+            for(int i = 0; i < 10; i++) {
+                balance += 10L;
+                journal.append(List.of(new PointJournalEntry(1L, 10L, TransactionType.CHARGE, balance, 10000L + i))).join();
+            }
+            journal.snapshot();
+        }
+        try(WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, SEGMENT_SIZE, 0L)) {
+            writeAheadLog.append(List.of(new PointJournalEntry(1L, 30L, TransactionType.USE, balance - 30L, 20000L))).join();
+        }
+
+        // when
+        UserPointTable userPointTable = new UserPointTable(false);
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+        try(WalPointJournal journal = new WalPointJournal(directory, SEGMENT_SIZE, 0L, 0L)) {
+            journal.recover(userPointTable, pointHistoryTable);
+        }
+
+        // then
+        assertThat(segments()).hasSize(1);
+        assertThat(userPointTable.selectById(1L).point()).isEqualTo(70L);
+        assertThat(pointHistoryTable.selectAllByUserId(1L))
+                .hasSize(11)
+                .last()
+                .extracting("amount", "type")
+                .containsExactly(30L, TransactionType.USE);
+    }
+
+    @Test
+    void 손상된_레코드_뒤에_남은_이전_레코드는_새로_이어_기록한_뒤에도_재생되지_않는다() throws IOException {
+        // given
+        try(WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, SEGMENT_SIZE, 0L)) {
+            writeAheadLog.append(List.of(
+                    new PointJournalEntry(1L, 100L, TransactionType.CHARGE, 100L, 10000L),
+                    new PointJournalEntry(1L, 50L, TransactionType.CHARGE, 150L, 10001L),
+                    new PointJournalEntry(1L, 50L, TransactionType.CHARGE, 200L, 10002L)
+            )).join();
+        }
+        corruptRecord(lastSegment(), 1);
+
+        // when
+        try(WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, SEGMENT_SIZE, 0L)) {
+            writeAheadLog.append(List.of(new PointJournalEntry(1L, 10L, TransactionType.USE, 90L, 10003L))).join();
+        }
+
+        // then
+        List<WalRecord> records = new ArrayList<>();
+        WriteAheadLog.replay(directory, 0L, records::add);
+        assertThat(records)
+                .extracting(record -> record.seq(), record -> record.entry().balance())
+                .containsExactly(tuple(1L, 100L), tuple(2L, 90L));
+    }
+
+    private List<Path> segments() throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("wal-")).toList();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("wal-")).sorted().reduce((first, second) -> second).orElseThrow();
+        }
+    }
+
+    private void deleteSnapshots() throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            for(Path file : files.filter(file -> file.getFileName().toString().startsWith("snapshot-")).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private void corruptRecord(Path segment, int index) throws IOException {
+        try(FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), (long) index * WriteAheadLog.RECORD_SIZE + 10);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void 만료_시각이_된_항목만_꺼내고_지난_시각의_항목은_다음_진행에서_바로_꺼낸다() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10L, 2, 1000L);
+        wheel.add("soon", 1015L);
+        wheel.add("later", 1000L + 10L * 64 * 3);
+        wheel.add("past", 500L);
+
+        // when // then
+        assertThat(wheel.advance(1009L)).containsExactly("past");
+        assertThat(wheel.advance(1019L)).isEmpty();
+        assertThat(wheel.advance(1020L)).containsExactly("soon");
+        assertThat(wheel.advance(1000L + 10L * 64 * 3 - 1)).isEmpty();
+        assertThat(wheel.advance(1000L + 10L * 64 * 3)).containsExactly("later");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 여러_단계와_가장_윗_단계보다_먼_항목도_만료_시각_이후_처음_진행할_때_꺼낸다() {
+        // given
+        long tickMillis = 1L;
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(tickMillis, 2, 0L);
+        Random random = new Random(42L);
+        List<Long> expirations = new ArrayList<>();
+        for(int i = 0; i < 2_000; i++) {
+            long expiresAt = 1L + random.nextInt(64 * 64 * 3);
+            expirations.add(expiresAt);
+            wheel.add(expiresAt, expiresAt);
+        }
+
+        // when
+        List<Long> late = new ArrayList<>();
+        for(long now = 0L; now < 64 * 64 * 3 + 7L; now += 7L) {
+            for(long expiresAt : wheel.advance(now)) {
+                if(expiresAt > now || expiresAt <= now - 7L) {
+                    late.add(expiresAt);
+                }
+            }
+        }
+
+        // then
+        assertThat(late).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointAdmissionControlTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void 유저별_버킷을_다_쓰면_거절하고_토큰이_채워지면_다시_받는다() {
+        // given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(10, 2, 0, 0, 0, now::get, pointMetrics);
+        admissionControl.execute(1L, 1, () -> null);
+        admissionControl.execute(1L, 1, () -> null);
+
+        // when // then
+        assertThatThrownBy(() -> admissionControl.execute(1L, 1, () -> null))
+                .isInstanceOf(PointAdmissionException.class)
+                .satisfies(e -> {
+                    PointAdmissionException exception = (PointAdmissionException) e;
+                    assertThat(exception.reason()).isEqualTo(PointAdmissionRejectReason.USER_RATE);
+                    assertThat(exception.retryAfterMillis()).isEqualTo(100L);
+                });
+        assertThat(admissionControl.execute(2L, 1, () -> "other")).isEqualTo("other");
+
+        now.addAndGet(SECOND / 10);
+        assertThat(admissionControl.execute(1L, 1, () -> "refilled")).isEqualTo("refilled");
+    }
+
+    @Test
+    void 전체_버킷은_모든_유저가_함께_쓰고_일괄_요청은_항목_수만큼_토큰을_쓴다() {
+        // given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(0, 0, 0, 10, 3, now::get, pointMetrics);
+        admissionControl.execute(1L, 2, () -> null);
+
+        // when // then
+        assertThatThrownBy(() -> admissionControl.execute(2L, 2, () -> null))
+                .isInstanceOf(PointAdmissionException.class)
+                .extracting("reason").isEqualTo(PointAdmissionRejectReason.GLOBAL_RATE);
+        admissionControl.execute(3L, 1, () -> null);
+        assertThat(meterRegistry.get("point.admission.rejections").tag("reason", "global_rate").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 버킷보다_많은_토큰을_쓰는_일괄_요청은_버킷이_가득_차면_받고_버킷을_모두_쓴다() {
+        // given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(10, 3, 0, 0, 0, now::get, pointMetrics);
+        admissionControl.execute(1L, 1, () -> null);
+
+        // when // then
+        assertThatThrownBy(() -> admissionControl.execute(1L, 5, () -> null))
+                .isInstanceOf(PointAdmissionException.class)
+                .extracting("retryAfterMillis").isEqualTo(100L);
+
+        now.addAndGet(SECOND / 10);
+        assertThat(admissionControl.execute(1L, 5, () -> "bulk")).isEqualTo("bulk");
+        assertThatThrownBy(() -> admissionControl.execute(1L, 1, () -> null))
+                .isInstanceOf(PointAdmissionException.class)
+                .extracting("reason").isEqualTo(PointAdmissionRejectReason.USER_RATE);
+    }
+
+    @Test
+    void 전체_제한에_걸려_거절된_요청은_유저_버킷의_토큰을_돌려준다() {
+        // given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(1, 1, 0, 10, 1, now::get, pointMetrics);
+        admissionControl.execute(2L, 1, () -> null);
+
+        // when
+        assertThatThrownBy(() -> admissionControl.execute(1L, 1, () -> null))
+                .isInstanceOf(PointAdmissionException.class)
+                .extracting("reason").isEqualTo(PointAdmissionRejectReason.GLOBAL_RATE);
+        now.addAndGet(SECOND / 10);
+
+        // then
+        assertThat(admissionControl.execute(1L, 1, () -> "admitted")).isEqualTo("admitted");
+    }
+
+    @Test
+    void 두_유저가_함께_쓰는_요청은_두_유저의_버킷을_모두_쓰고_전체_버킷은_한_번만_쓴다() {
+        // given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(1, 1, 0, 10, 2, now::get, pointMetrics);
+
+        // when
+        admissionControl.execute(2L, 1L, 1, () -> null);
+
+        // then
+        assertThatThrownBy(() -> admissionControl.execute(1L, 1, () -> null))
+                .extracting("reason").isEqualTo(PointAdmissionRejectReason.USER_RATE);
+        assertThatThrownBy(() -> admissionControl.execute(2L, 1, () -> null))
+                .extracting("reason").isEqualTo(PointAdmissionRejectReason.USER_RATE);
+        assertThat(admissionControl.execute(3L, 1, () -> "admitted")).isEqualTo("admitted");
+        assertThat(admissionControl.inFlight()).isZero();
+    }
+
+    @Test
+    void 두_유저_중_한쪽이_거절되면_먼저_받은_유저의_토큰을_돌려준다() {
+        // given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(1, 1, 0, 0, 0, now::get, pointMetrics);
+        admissionControl.execute(2L, 1, () -> null);
+
+        // when
+        assertThatThrownBy(() -> admissionControl.execute(1L, 2L, 1, () -> null))
+                .isInstanceOf(PointAdmissionException.class)
+                .extracting("reason").isEqualTo(PointAdmissionRejectReason.USER_RATE);
+
+        // then
+        assertThat(admissionControl.execute(1L, 1, () -> "admitted")).isEqualTo("admitted");
+        assertThat(admissionControl.inFlight()).isZero();
+    }
+
+    @Test
+    void 같은_유저의_처리_중인_요청이_대기_한도에_이르면_바로_거절하고_끝나면_다시_받는다() throws Exception {
+        // given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(0, 0, 2, 0, 0, now::get, pointMetrics);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<?> first = null;
+        for(int i = 0; i < 2; i++) {
+            first = executorService.submit(() -> admissionControl.execute(1L, 1, () -> {
+                started.countDown();
+                await(finish);
+                return null;
+            }));
+        }
+        started.await();
+
+        // when // then
+        assertThat(admissionControl.inFlight()).isEqualTo(2);
+        assertThatThrownBy(() -> admissionControl.execute(1L, 1, () -> null))
+                .isInstanceOf(PointAdmissionException.class)
+                .extracting("reason").isEqualTo(PointAdmissionRejectReason.USER_QUEUE_FULL);
+        assertThat(meterRegistry.get("point.admission.queued").counter().count()).isEqualTo(1.0);
+
+        finish.countDown();
+        first.get();
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.SECONDS);
+        assertThat(admissionControl.inFlight()).isZero();
+        assertThat(admissionControl.execute(1L, 1, () -> "admitted")).isEqualTo("admitted");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.lock.RefCountedUserLockStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+class PointBalanceReconcilerTest {
+
+    private final UserPointTable userPointTable = new UserPointTable(false);
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+    private final PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, 100, 100, PointHistoryAckPolicy.ENQUEUE);
+    private final PointBalanceReconciler reconciler = reconciler(pointHistoryTable, pointHistoryWriter);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        reconciler.shutdown();
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    void 내역을_누적한_잔액과_테이블_잔액이_다른_유저만_보고한다() {
+        // given
+        int userCount = 1000;
+        for(long id = 1; id <= userCount; id++) {
+            pointHistoryTable.insertAll(List.of(
+                    new PointHistoryInsert(id, 500L, TransactionType.CHARGE, 10000L),
+                    new PointHistoryInsert(id, 200L, TransactionType.USE, 10001L)
+            ));
+            userPointTable.insertOrUpdate(id, 300L);
+        }
+        userPointTable.insertOrUpdate(77L, 500L);
+        userPointTable.insertOrUpdate(901L, 0L);
+
+        // when
+        PointReconcileReport report = reconciler.reconcile();
+
+        // then
+        assertThat(report.checkedUsers()).isEqualTo(userCount);
+        assertThat(report.mismatches()).containsExactlyInAnyOrder(
+                new PointBalanceMismatch(77L, 300L, 500L),
+                new PointBalanceMismatch(901L, 300L, 0L)
+        );
+        assertThat(meterRegistry.get("point.reconcile.mismatches").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 내역_없이_잔액만_있는_유저도_비교한다() {
+        // given
+        userPointTable.insertOrUpdate(1L, 300L);
+        userPointTable.insertOrUpdate(2L, 0L);
+
+        // when
+        PointReconcileReport report = reconciler.reconcile();
+
+        // then
+        assertThat(report.checkedUsers()).isEqualTo(2);
+        assertThat(report.mismatches()).containsExactly(new PointBalanceMismatch(1L, 0L, 300L));
+    }
+
+    @Test
+    void 아직_저장되지_않은_내역이_있는_유저는_저장을_기다린_뒤_다시_비교해_어긋났다고_보고하지_않는다() throws InterruptedException {
+        // given
+        PointHistoryTable slowHistoryTable = spy(new PointHistoryTable(false));
+        doAnswer(invocation -> {
+            Thread.sleep(300L);
+            return invocation.callRealMethod();
+        }).when(slowHistoryTable).insertAll(anyList());
+        PointHistoryWriter slowHistoryWriter = new PointHistoryWriter(slowHistoryTable, pointMetrics, 100, 100, PointHistoryAckPolicy.ENQUEUE);
+        PointBalanceReconciler slowReconciler = reconciler(slowHistoryTable, slowHistoryWriter);
+        userPointTable.insertOrUpdate(1L, 100L);
+        slowHistoryWriter.append(List.of(new PointHistoryInsert(1L, 100L, TransactionType.CHARGE, 10000L)));
+
+        // when
+        PointReconcileReport report = slowReconciler.reconcile();
+
+        // then
+        assertThat(report.checkedUsers()).isEqualTo(1);
+        assertThat(report.mismatches()).isEmpty();
+        assertThat(meterRegistry.get("point.reconcile.mismatches").counter().count()).isZero();
+        slowReconciler.shutdown();
+        slowHistoryWriter.shutdown();
+    }
+
+    private PointBalanceReconciler reconciler(PointHistoryTable histories, PointHistoryWriter historyWriter) {
+        return new PointBalanceReconciler(histories, userPointTable, new RefCountedUserLockStrategy(true), historyWriter, pointMetrics, 4, 0L);
+    }
+}
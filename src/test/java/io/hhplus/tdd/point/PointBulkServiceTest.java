@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class PointBulkServiceTest {
+
+    private final UserPointTable userPointTable = mock(UserPointTable.class);
+    private final PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, 100, 100, PointHistoryAckPolicy.WRITE);
+
+    private final PointService pointService = PointServiceBuilder.pointService(userPointTable, pointHistoryTable, pointHistoryWriter, pointMetrics).build();
+    private final PointBulkService pointBulkService = new PointBulkService(pointService, new SimpleAsyncTaskExecutor());
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    void 여러_유저의_요청을_유저별_순서대로_처리하고_요청_순서대로_결과를_반환한다() {
+        // given
+        long updateMillis = 100000L;
+        given(userPointTable.selectById(anyLong()))
+                .willAnswer(invocation -> new UserPoint(invocation.getArgument(0), 0L, updateMillis));
+        given(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .willAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), updateMillis));
+
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, 100L, TransactionType.CHARGE),
+                new PointOperation(2L, 50L, TransactionType.CHARGE),
+                new PointOperation(1L, 30L, TransactionType.USE),
+                new PointOperation(1L, 500L, TransactionType.USE),
+                new PointOperation(2L, 0L, TransactionType.CHARGE)
+        );
+
+        // when
+        List<PointOperationResult> results = pointBulkService.applyAll(operations);
+
+        // then
+        assertThat(results)
+                .extracting("userId", "success", "message")
+                .containsExactly(
+                        tuple(1L, true, null),
+                        tuple(2L, true, null),
+                        tuple(1L, true, null),
+                        tuple(1L, false, "사용하려는 포인트는 보유한 포인트보다 클 수 없습니다."),
+                        tuple(2L, false, "충전 요청 금액은 0원보다 커야 합니다.")
+                );
+        assertThat(results.get(0).userPoint().point()).isEqualTo(100L);
+        assertThat(results.get(2).userPoint().point()).isEqualTo(70L);
+
+        verify(userPointTable, times(1)).insertOrUpdate(1L, 70L);
+        verify(userPointTable, times(1)).insertOrUpdate(2L, 50L);
+    }
+
+    @Test
+    void 한_유저의_요청이_통째로_거절되어도_다른_유저의_결과는_그대로_반환하고_그_유저의_항목만_실패로_담는다() {
+        // given
+        long updateMillis = 100000L;
+        given(userPointTable.selectById(anyLong()))
+                .willAnswer(invocation -> new UserPoint(invocation.getArgument(0), 0L, updateMillis));
+        given(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .willAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), updateMillis));
+        PointNode pointNode = mock(PointNode.class);
+        given(pointNode.applyUserPointOperations(anyLong(), anyList()))
+                .willAnswer(invocation -> pointService.applyUserPointOperations(invocation.getArgument(0), invocation.getArgument(1)));
+        given(pointNode.applyUserPointOperations(eq(2L), anyList()))
+                .willThrow(new PointAdmissionException(PointAdmissionRejectReason.USER_RATE, 100L));
+        PointBulkService rejectingBulkService = new PointBulkService(pointNode, new SimpleAsyncTaskExecutor());
+
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, 100L, TransactionType.CHARGE),
+                new PointOperation(2L, 50L, TransactionType.CHARGE),
+                new PointOperation(2L, 10L, TransactionType.USE),
+                new PointOperation(3L, 30L, TransactionType.CHARGE)
+        );
+
+        // when
+        List<PointOperationResult> results = rejectingBulkService.applyAll(operations);
+
+        // then
+        assertThat(results)
+                .extracting("userId", "success", "message")
+                .containsExactly(
+                        tuple(1L, true, null),
+                        tuple(2L, false, PointAdmissionRejectReason.USER_RATE.message()),
+                        tuple(2L, false, PointAdmissionRejectReason.USER_RATE.message()),
+                        tuple(3L, true, null)
+                );
+        verify(userPointTable, times(1)).insertOrUpdate(1L, 100L);
+        verify(userPointTable, times(1)).insertOrUpdate(3L, 30L);
+        verify(userPointTable, never()).insertOrUpdate(eq(2L), anyLong());
+    }
+
+    @Test
+    void 일괄_처리_요청이_10000건을_초과하면_예외를_발생한다() {
+        List<PointOperation> operations = Collections.nCopies(
+                PointBulkService.MAX_BULK_SIZE + 1, new PointOperation(1L, 10L, TransactionType.CHARGE));
+
+        assertThatThrownBy(() -> pointBulkService.applyAll(operations))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("일괄 처리 요청은 최대 10000건을 초과할 수 없습니다.");
+    }
+}
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointChangeFeedTest {
+
+    @Test
+    void 버퍼에_남은_offset_이후의_이벤트를_순서대로_읽고_밀려난_offset은_거절한다() {
+        // given
+        PointChangeFeed feed = new PointChangeFeed(4);
+        feed.capture(() -> histories(1L, 2L, 3L));
+        feed.capture(() -> histories(4L, 5L, 6L));
+
+        // when
+        PointChangePage page = feed.read(3L, 2, null);
+        PointChangePage filtered = feed.read(2L, 10, 2L);
+
+        // then
+        assertThat(page.events()).extracting("id").containsExactly(4L, 5L);
+        assertThat(page.nextOffset()).isEqualTo(5L);
+        assertThat(filtered.events()).extracting("id").containsExactly(4L, 6L);
+        assertThat(filtered.nextOffset()).isEqualTo(6L);
+        assertThat(feed.read(6L, 10, null).events()).isEmpty();
+        assertThatThrownBy(() -> feed.read(1L, 10, null))
+                .isInstanceOf(PointChangeOffsetExpiredException.class);
+    }
+
+    @Test
+    void 먼저_시작한_저장이_끝나기_전에는_나중에_끝난_저장의_이벤트를_내보내지_않는다() throws InterruptedException {
+        // given
+        PointChangeFeed feed = new PointChangeFeed(16);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slowInsert = new Thread(() -> feed.capture(() -> {
+            started.countDown();
+            await(release);
+            return histories(1L);
+        }));
+        slowInsert.start();
+        started.await();
+
+        // when
+        feed.capture(() -> histories(2L));
+        PointChangePage beforeRelease = feed.read(0L, 10, null);
+        release.countDown();
+        slowInsert.join();
+
+        // then
+        assertThat(beforeRelease.events()).isEmpty();
+        assertThat(feed.read(0L, 10, null).events()).extracting("id").containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 롱_폴링은_새_이벤트가_저장되면_완료되고_없으면_대기_시간이_지난_뒤_빈_페이지를_반환한다() throws Exception {
+        // given
+        PointChangeFeed feed = new PointChangeFeed(16);
+        feed.capture(() -> histories(1L));
+        CompletableFuture<PointChangePage> waiting = feed.poll(1L, null, null, 10_000L);
+
+        // when
+        assertThat(waiting).isNotDone();
+        feed.capture(() -> histories(2L));
+        CompletableFuture<PointChangePage> timedOut = feed.poll(1L, null, 99L, 50L);
+
+        // then
+        assertThat(waiting.get(1, TimeUnit.SECONDS).events()).extracting("id").containsExactly(2L);
+        PointChangePage empty = timedOut.get(1, TimeUnit.SECONDS);
+        assertThat(empty.events()).isEmpty();
+        assertThat(empty.nextOffset()).isEqualTo(2L);
+    }
+
+    @Test
+    void 롱_폴링의_후속_처리는_내역을_저장한_스레드가_아닌_스레드에서_실행되어_저장을_막지_않는다() throws Exception {
+        // given
+        PointChangeFeed feed = new PointChangeFeed(16);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> continuedOn = new AtomicReference<>();
+        CompletableFuture<PointChangePage> waiting = feed.poll(0L, null, null, 10_000L);
+        CompletableFuture<Void> slowResponse = waiting.thenRun(() -> {
+            continuedOn.set(Thread.currentThread().getName());
+            await(release);
+        });
+
+        // when
+        Thread insert = new Thread(() -> feed.capture(() -> histories(1L)), "history-insert");
+        insert.start();
+        insert.join(1_000L);
+        boolean insertBlocked = insert.isAlive();
+        release.countDown();
+
+        // then
+        slowResponse.get(1, TimeUnit.SECONDS);
+        assertThat(insertBlocked).isFalse();
+        assertThat(continuedOn.get()).isEqualTo("point-feed-notifier");
+        feed.shutdown();
+    }
+
+    /**
+     * id 가 짝수이면 2번 유저, 홀수이면 1번 유저의 충전 내역
+     */
+    private List<PointHistory> histories(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> new PointHistory(id, id % 2 == 0 ? 2L : 1L, 100L, TransactionType.CHARGE, 10000L + id))
+                .toList();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class PointHistoryWriterTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final List<PointHistoryWriter> pointHistoryWriters = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for(PointHistoryWriter pointHistoryWriter : pointHistoryWriters) {
+            pointHistoryWriter.shutdown();
+        }
+    }
+
+    @Test
+    void 저장_후_응답_정책이면_응답_시점에_내역이_저장되어_있다() {
+        // given
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointHistoryWriter pointHistoryWriter = pointHistoryWriter(new PointHistoryWriter(pointHistoryTable, pointMetrics, 10, 100, PointHistoryAckPolicy.WRITE));
+
+        // when
+        pointHistoryWriter.append(List.of(new PointHistoryInsert(1L, 100L, TransactionType.CHARGE, 10000L))).join();
+
+        // then
+        assertThat(pointHistoryTable.selectAllByUserId(1L))
+                .extracting("userId", "amount", "type")
+                .containsExactly(tuple(1L, 100L, TransactionType.CHARGE));
+    }
+
+    @Test
+    void 종료하면_대기열에_남은_내역을_모두_저장한다() throws InterruptedException {
+        // given
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointHistoryWriter pointHistoryWriter = pointHistoryWriter(new PointHistoryWriter(pointHistoryTable, pointMetrics, 100, 3, PointHistoryAckPolicy.ENQUEUE));
+        List<Long> amounts = new ArrayList<>();
+        for(long amount = 1; amount <= 20; amount++) {
+            amounts.add(amount);
+            pointHistoryWriter.append(List.of(new PointHistoryInsert(1L, amount, TransactionType.CHARGE, 10000L)));
+        }
+
+        // when
+        pointHistoryWriter.shutdown();
+
+        // then
+        assertThat(pointHistoryTable.selectAllByUserId(1L))
+                .extracting(PointHistory::amount)
+                .containsExactlyElementsOf(amounts);
+        assertThat(pointHistoryWriter.pendingSize()).isZero();
+    }
+
+    @Test
+    void 일괄_저장에_실패한_내역은_버리지_않고_다시_시도해_저장한다() {
+        // given
+        PointHistoryTable pointHistoryTable = spy(new PointHistoryTable(false));
+        doThrow(new RuntimeException("일시적인 저장 실패")).doCallRealMethod().when(pointHistoryTable).insertAll(anyList());
+        PointHistoryWriter pointHistoryWriter = pointHistoryWriter(new PointHistoryWriter(pointHistoryTable, pointMetrics, 10, 100, PointHistoryAckPolicy.ENQUEUE));
+
+        // when
+        pointHistoryWriter.append(List.of(new PointHistoryInsert(1L, 100L, TransactionType.CHARGE, 10000L))).join();
+        pointHistoryWriter.append(List.of(new PointHistoryInsert(1L, 30L, TransactionType.USE, 10001L))).join();
+        pointHistoryWriter.barrier().orTimeout(5, TimeUnit.SECONDS).join();
+
+        // then
+        verify(pointHistoryTable, atLeast(2)).insertAll(anyList());
+        assertThat(pointHistoryTable.selectAllByUserId(1L))
+                .extracting("amount", "type")
+                .containsExactly(tuple(100L, TransactionType.CHARGE), tuple(30L, TransactionType.USE));
+    }
+
+    @Test
+    void 대기열을_거쳐_저장한_내역과_바로_저장한_내역이_모두_변경_피드에_반영된다() {
+        // given
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+        PointChangeFeed pointChangeFeed = new PointChangeFeed(16);
+        PointHistoryWriter pointHistoryWriter = pointHistoryWriter(new PointHistoryWriter(pointHistoryTable, pointMetrics, pointChangeFeed, 10, 100, PointHistoryAckPolicy.WRITE));
+
+        // when
+        pointHistoryWriter.append(List.of(new PointHistoryInsert(1L, 100L, TransactionType.CHARGE, 10000L))).join();
+        pointHistoryWriter.insertNow(List.of(new PointHistoryInsert(2L, 30L, TransactionType.USE, 10001L)));
+
+        // then
+        assertThat(pointChangeFeed.read(0L, 10, null).events())
+                .extracting("userId", "amount", "type")
+                .containsExactly(tuple(1L, 100L, TransactionType.CHARGE), tuple(2L, 30L, TransactionType.USE));
+    }
+
+    @Test
+    void 종료와_동시에_넘겨받은_내역도_유실되지_않고_저장_완료를_기다리는_호출이_모두_끝난다() throws Exception {
+        // given
+        int threadCount = 8;
+        int appendsPerThread = 200;
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(false);
+        PointHistoryWriter pointHistoryWriter = pointHistoryWriter(new PointHistoryWriter(pointHistoryTable, pointMetrics, 4, 3, PointHistoryAckPolicy.WRITE));
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch started = new CountDownLatch(threadCount);
+        List<CompletableFuture<Void>> appended = new ArrayList<>();
+        for(int i = 0; i < threadCount; i++) {
+            long userId = i;
+            appended.add(CompletableFuture.runAsync(() -> {
+                started.countDown();
+                for(int j = 0; j < appendsPerThread; j++) {
+                    pointHistoryWriter.append(List.of(new PointHistoryInsert(userId, j + 1L, TransactionType.CHARGE, 10000L))).join();
+                    pointHistoryWriter.barrier().join();
+                }
+            }, executorService));
+        }
+        started.await();
+
+        // when
+        pointHistoryWriter.shutdown();
+        CompletableFuture.allOf(appended.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        for(long userId = 0; userId < threadCount; userId++) {
+            assertThat(pointHistoryTable.selectAllByUserId(userId))
+                    .extracting(PointHistory::amount)
+                    .hasSize(appendsPerThread)
+                    .isSorted();
+        }
+    }
+
+    private PointHistoryWriter pointHistoryWriter(PointHistoryWriter pointHistoryWriter) {
+        pointHistoryWriters.add(pointHistoryWriter);
+        return pointHistoryWriter;
+    }
+}
@@ -0,0 +1,176 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointIdempotencyStoreTest {
+
+    private final AtomicLong now = new AtomicLong(0L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointIdempotencyStore store = new PointIdempotencyStore(3, 1000L, now::get, new PointMetrics(meterRegistry));
+
+    @Test
+    void 같은_키로_다시_요청하면_요청을_실행하지_않고_처음_결과를_반환한다() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        UserPoint first = store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet() * 100L, 10000L));
+
+        // when
+        UserPoint replayed = store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet() * 100L, 20000L));
+
+        // then
+        assertThat(replayed).isEqualTo(first);
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.idempotency.requests").tag("result", "replayed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 같은_키의_요청이_동시에_들어오면_한_번만_실행하고_같은_결과를_반환한다() throws Exception {
+        // given
+        int threadCount = 10;
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<UserPoint>> results = new ArrayList<>();
+        results.add(executorService.submit(() -> store.execute(1L, "key", TransactionType.USE, 50L, () -> {
+            executed.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new UserPoint(1L, 950L, 10000L);
+        })));
+        started.await();
+        for(int i = 1; i < threadCount; i++) {
+            results.add(executorService.submit(() -> store.execute(1L, "key", TransactionType.USE, 50L, () -> {
+                executed.incrementAndGet();
+                return new UserPoint(1L, 900L, 20000L);
+            })));
+        }
+        Thread.sleep(100L);
+        release.countDown();
+
+        // then
+        for(Future<UserPoint> result : results) {
+            assertThat(result.get().point()).isEqualTo(950L);
+        }
+        assertThat(executed.get()).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    void 같은_키로_다른_요청을_보내면_예외를_발생한다() {
+        // given
+        store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 100L, 10000L));
+
+        // when // then
+        assertThatThrownBy(() -> store.execute(1L, "key", TransactionType.CHARGE, 200L, () -> new UserPoint(1L, 300L, 10001L)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+    }
+
+    @Test
+    void 반영되기_전에_거절된_요청과_만료된_키는_다시_실행한다() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        assertThatThrownBy(() -> store.execute(1L, "failed", TransactionType.USE, 100L, () -> {
+            executed.incrementAndGet();
+            throw new PointRejectException(PointRejectReason.INSUFFICIENT_BALANCE, "사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.");
+        })).hasMessage("사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.");
+        store.execute(1L, "expired", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet(), 10000L));
+
+        // when
+        store.execute(1L, "failed", TransactionType.USE, 100L, () -> new UserPoint(1L, executed.incrementAndGet(), 10001L));
+        now.set(1001L);
+        store.execute(1L, "expired", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet(), 10002L));
+
+        // then
+        assertThat(executed.get()).isEqualTo(4);
+    }
+
+    @Test
+    void 반영된_뒤에_실패한_요청은_같은_키로_다시_와도_실행하지_않고_같은_실패를_반환한다() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        assertThatThrownBy(() -> store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> {
+            executed.incrementAndGet();
+            throw new RuntimeException("포인트 내역 저장에 실패했습니다.");
+        })).hasMessage("포인트 내역 저장에 실패했습니다.");
+
+        // when // then
+        assertThatThrownBy(() -> store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet(), 10000L)))
+                .hasMessage("포인트 내역 저장에 실패했습니다.");
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 최대_개수를_넘어도_실행_중인_키는_지우지_않아_같은_키의_재요청이_다시_실행되지_않는다() throws Exception {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<UserPoint> running = executorService.submit(() -> store.execute(1L, "running", TransactionType.CHARGE, 100L, () -> {
+            executed.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new UserPoint(1L, 100L, 10000L);
+        }));
+        started.await();
+        for(int i = 0; i < 5; i++) {
+            long point = i;
+            store.execute(1L, "key-" + i, TransactionType.CHARGE, 100L, () -> new UserPoint(1L, point, 10000L));
+        }
+
+        // when
+        Future<UserPoint> retried = executorService.submit(() -> store.execute(1L, "running", TransactionType.CHARGE, 100L, () -> {
+            executed.incrementAndGet();
+            return new UserPoint(1L, 200L, 20000L);
+        }));
+        Thread.sleep(100L);
+        release.countDown();
+
+        // then
+        assertThat(running.get().point()).isEqualTo(100L);
+        assertThat(retried.get().point()).isEqualTo(100L);
+        assertThat(executed.get()).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_먼저_들어온_키부터_지운다() {
+        // given
+        for(int i = 0; i < 5; i++) {
+            long point = i;
+            store.execute(1L, "key-" + i, TransactionType.CHARGE, 100L, () -> new UserPoint(1L, point, 10000L));
+        }
+
+        // when
+        UserPoint reExecuted = store.execute(1L, "key-0", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 99L, 10001L));
+
+        // then
+        assertThat(store.size()).isLessThanOrEqualTo(3);
+        assertThat(reExecuted.point()).isEqualTo(99L);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.lock.RefCountedUserLockStrategy;
+import io.hhplus.tdd.point.lock.UserLockStrategy;
+
+/**
+ * 테스트와 벤치마크에서 PointService 를 만듭니다.
+ * 기본값은 LOCKING 모드, TABLE 잔액, 처리량 제한/만료/홀드 스케줄 없음이며, 테스트마다 필요한 협력 객체만 바꿔 끼웁니다.
+ * PointService 의 생성자가 바뀌면 이 클래스만 고칩니다.
+ * 내역 저장기(PointHistoryWriter)는 테스트가 종료해야 하므로 직접 넘겨받습니다.
+ */
+public class PointServiceBuilder {
+
+    private final UserPointTable userPointTable;
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointMetrics pointMetrics;
+
+    private UserPointCache userPointCache = new UserPointCache(100);
+    private UserLockStrategy userLockStrategy = new RefCountedUserLockStrategy(true);
+    private PointJournal pointJournal = PointJournal.disabled();
+    private PointBalanceMode pointBalanceMode = PointBalanceMode.TABLE;
+    private PointConcurrencyControl pointConcurrencyControl = PointConcurrencyControl.locking();
+    private PointStatistics pointStatistics = new PointStatistics(30);
+    private PointAdmissionControl pointAdmissionControl;
+    private PointExpiration pointExpiration = PointExpiration.disabled();
+    private PointHolds pointHolds = PointHolds.unscheduled();
+
+    private PointServiceBuilder(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, PointHistoryWriter pointHistoryWriter, PointMetrics pointMetrics) {
+        this.userPointTable = userPointTable;
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointMetrics = pointMetrics;
+    }
+
+    public static PointServiceBuilder pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, PointHistoryWriter pointHistoryWriter, PointMetrics pointMetrics) {
+        return new PointServiceBuilder(userPointTable, pointHistoryTable, pointHistoryWriter, pointMetrics);
+    }
+
+    public PointServiceBuilder userPointCache(UserPointCache userPointCache) {
+        this.userPointCache = userPointCache;
+        return this;
+    }
+
+    public PointServiceBuilder userLockStrategy(UserLockStrategy userLockStrategy) {
+        this.userLockStrategy = userLockStrategy;
+        return this;
+    }
+
+    public PointServiceBuilder pointJournal(PointJournal pointJournal) {
+        this.pointJournal = pointJournal;
+        return this;
+    }
+
+    public PointServiceBuilder balanceMode(PointBalanceMode pointBalanceMode) {
+        this.pointBalanceMode = pointBalanceMode;
+        return this;
+    }
+
+    public PointServiceBuilder pointConcurrencyControl(PointConcurrencyControl pointConcurrencyControl) {
+        this.pointConcurrencyControl = pointConcurrencyControl;
+        return this;
+    }
+
+    public PointServiceBuilder pointStatistics(PointStatistics pointStatistics) {
+        this.pointStatistics = pointStatistics;
+        return this;
+    }
+
+    public PointServiceBuilder pointAdmissionControl(PointAdmissionControl pointAdmissionControl) {
+        this.pointAdmissionControl = pointAdmissionControl;
+        return this;
+    }
+
+    public PointServiceBuilder pointExpiration(PointExpiration pointExpiration) {
+        this.pointExpiration = pointExpiration;
+        return this;
+    }
+
+    public PointServiceBuilder pointHolds(PointHolds pointHolds) {
+        this.pointHolds = pointHolds;
+        return this;
+    }
+
+    public PointService build() {
+        return new PointService(
+                userPointTable,
+                pointHistoryTable,
+                userPointCache,
+                userLockStrategy,
+                pointHistoryWriter,
+                pointMetrics,
+                pointJournal,
+                new PointBalanceProjection(pointHistoryTable, pointBalanceMode),
+                pointConcurrencyControl,
+                pointStatistics,
+                pointAdmissionControl != null ? pointAdmissionControl : PointAdmissionControl.unlimited(pointMetrics),
+                pointExpiration,
+                pointHolds
+        );
+    }
+}
@@ -2,9 +2,18 @@ package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
@@ -15,7 +24,18 @@ class PointServiceUnitTest {
     private final UserPointTable userPointTable = mock(UserPointTable.class);
     private final PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
 
-    private final PointService pointService = new PointService(userPointTable, pointHistoryTable);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+    private final List<PointHistoryWriter> pointHistoryWriters = new ArrayList<>();
+
+    private final PointService pointService = pointService(userPointTable, pointHistoryTable).build();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for(PointHistoryWriter pointHistoryWriter : pointHistoryWriters) {
+            pointHistoryWriter.shutdown();
+        }
+    }
 
     @Test
     void id로_특정_유저의_포인트_정보를_조회한다() {
@@ -35,6 +55,50 @@ class PointServiceUnitTest {
         verify(userPointTable, times(1)).selectById(id);
     }
 
+    @Test
+    void 한_번_조회한_유저의_포인트는_캐시에서_조회한다() {
+        // given
+        long id = 1L;
+        long point = 1000L;
+        long updateMillis = 100000L;
+
+        given(userPointTable.selectById(id))
+                .willReturn(new UserPoint(id, point, updateMillis));
+
+        // when
+        pointService.selectUserPointById(id);
+
+        // then
+        assertThat(pointService.selectUserPointById(id))
+                .extracting("id", "point", "updateMillis")
+                .containsExactly(id, point, updateMillis);
+
+        verify(userPointTable, times(1)).selectById(id);
+    }
+
+    @Test
+    void 포인트를_충전하면_저장된_포인트가_캐시에_반영된다() {
+        // given
+        long id = 1L;
+        long originPoint = 1000L;
+        long updateMillis = 100000L;
+
+        given(userPointTable.selectById(id))
+                .willReturn(new UserPoint(id, originPoint, updateMillis));
+        given(userPointTable.insertOrUpdate(id, originPoint + 500L))
+                .willReturn(new UserPoint(id, originPoint + 500L, updateMillis + 1));
+
+        // when
+        pointService.chargeUserPoint(id, 500L);
+
+        // then
+        assertThat(pointService.selectUserPointById(id))
+                .extracting("id", "point", "updateMillis")
+                .containsExactly(id, originPoint + 500L, updateMillis + 1);
+
+        verify(userPointTable, times(1)).selectById(id);
+    }
+
     @Test
     void 유저의_초기_포인트는_0원이다() {
         // given
@@ -93,6 +157,25 @@ class PointServiceUnitTest {
         verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
     }
 
+    @Test
+    void 충전과_사용이_거절되면_거절_사유별_횟수가_기록된다() {
+        // given
+        long id = 1L;
+        given(userPointTable.selectById(id))
+                .willReturn(new UserPoint(id, 100L, 100000L));
+
+        // when
+        assertThatThrownBy(() -> pointService.chargeUserPoint(id, 0L));
+        assertThatThrownBy(() -> pointService.useUserPoint(id, 1_000_001L));
+        assertThatThrownBy(() -> pointService.useUserPoint(id, 101L));
+
+        // then
+        assertThat(meterRegistry.get("point.rejection").tag("reason", "non_positive_amount").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.rejection").tag("reason", "exceeds_max_amount").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.rejection").tag("reason", "insufficient_balance").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.operation").tag("operation", "use").timer().count()).isEqualTo(2L);
+    }
+
     @Test
     void 포인트_충전_시에_충전_요청값이_1원보다_커야_포인트를_저장한다() {
         // given
@@ -332,14 +415,17 @@ class PointServiceUnitTest {
         given(userPointTable.insertOrUpdate(id, chargeResultPoint))
                 .willReturn(new UserPoint(id, chargeResultPoint, updateMillis));
 
-        given(pointHistoryTable.insert(id, willChargePoint, type, updateMillis))
-                .willReturn(new PointHistory(1L, id, willChargePoint, type, updateMillis));
+        given(pointHistoryTable.insertAll(anyList()))
+                .willReturn(List.of(new PointHistory(1L, id, willChargePoint, type, updateMillis)));
 
         pointService.chargeUserPoint(id, willChargePoint);
 
         verify(userPointTable, times(1)).selectById(id);
         verify(userPointTable, times(1)).insertOrUpdate(id, chargeResultPoint);
-        verify(pointHistoryTable, times(1)).insert(eq(id), eq(willChargePoint), eq(type), anyLong());
+        verify(pointHistoryTable, times(1)).insertAll(argThat(histories -> histories.size() == 1
+                && histories.get(0).userId() == id
+                && histories.get(0).amount() == willChargePoint
+                && histories.get(0).type() == type));
     }
 
     @Test
@@ -358,13 +444,665 @@ class PointServiceUnitTest {
         given(userPointTable.insertOrUpdate(id, useResultPoint))
                 .willReturn(new UserPoint(id, useResultPoint, updateMillis));
 
-        given(pointHistoryTable.insert(id, willUsePoint, type, updateMillis))
-                .willReturn(new PointHistory(1L, id, willUsePoint, type, updateMillis));
+        given(pointHistoryTable.insertAll(anyList()))
+                .willReturn(List.of(new PointHistory(1L, id, willUsePoint, type, updateMillis)));
 
         pointService.useUserPoint(id, willUsePoint);
 
         verify(userPointTable, times(1)).selectById(id);
         verify(userPointTable, times(1)).insertOrUpdate(id, useResultPoint);
-        verify(pointHistoryTable, times(1)).insert(eq(id), eq(willUsePoint), eq(type), anyLong());
+        verify(pointHistoryTable, times(1)).insertAll(argThat(histories -> histories.size() == 1
+                && histories.get(0).userId() == id
+                && histories.get(0).amount() == willUsePoint
+                && histories.get(0).type() == type));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 같은_유저의_요청이_대기_중에_쌓이면_한_번의_잔액_저장과_내역_일괄_저장으로_처리된다() throws InterruptedException {
+        // given
+        long id = 1L;
+        int requestCount = 5;
+        long updateMillis = 100000L;
+        CountDownLatch firstSelect = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(userPointTable.selectById(id))
+                .willAnswer(invocation -> {
+                    firstSelect.countDown();
+                    release.await();
+                    return new UserPoint(id, 0L, updateMillis);
+                })
+                .willReturn(new UserPoint(id, 100L, updateMillis));
+        given(userPointTable.insertOrUpdate(eq(id), anyLong()))
+                .willAnswer(invocation -> new UserPoint(id, invocation.getArgument(1), updateMillis));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        List<Future<UserPoint>> results = new ArrayList<>();
+
+        // when
+        results.add(executorService.submit(() -> pointService.chargeUserPoint(id, 100L)));
+        firstSelect.await();
+        for(int i = 1; i < requestCount; i++) {
+            results.add(executorService.submit(() -> pointService.chargeUserPoint(id, 100L)));
+        }
+        Thread.sleep(200L);
+        release.countDown();
+
+        List<Long> points = new ArrayList<>();
+        for(Future<UserPoint> result : results) {
+            points.add(getQuietly(result).point());
+        }
+
+        // then
+        assertThat(points).containsExactlyInAnyOrder(100L, 200L, 300L, 400L, 500L);
+        verify(userPointTable, times(2)).insertOrUpdate(eq(id), anyLong());
+        verify(userPointTable, times(1)).insertOrUpdate(id, 500L);
+        ArgumentCaptor<List<PointHistoryInsert>> histories = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryTable, atMost(2)).insertAll(histories.capture());
+        assertThat(histories.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(requestCount);
+    }
+
+    @Test
+    void 일괄_처리_중_잔액이_부족한_요청만_예외를_발생하고_나머지는_저장된다() throws InterruptedException {
+        // given
+        long id = 1L;
+        long updateMillis = 100000L;
+        CountDownLatch firstSelect = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(userPointTable.selectById(id))
+                .willAnswer(invocation -> {
+                    firstSelect.countDown();
+                    release.await();
+                    return new UserPoint(id, 0L, updateMillis);
+                })
+                .willReturn(new UserPoint(id, 100L, updateMillis));
+        given(userPointTable.insertOrUpdate(eq(id), anyLong()))
+                .willAnswer(invocation -> new UserPoint(id, invocation.getArgument(1), updateMillis));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+        // when
+        Future<UserPoint> first = executorService.submit(() -> pointService.chargeUserPoint(id, 100L));
+        firstSelect.await();
+        Future<UserPoint> overUse = executorService.submit(() -> pointService.useUserPoint(id, 300L));
+        Thread.sleep(100L);
+        Future<UserPoint> use = executorService.submit(() -> pointService.useUserPoint(id, 30L));
+        Thread.sleep(200L);
+        release.countDown();
+
+        // then
+        assertThat(getQuietly(first).point()).isEqualTo(100L);
+        assertThat(getQuietly(use).point()).isEqualTo(70L);
+        assertThatThrownBy(overUse::get)
+                .hasCauseInstanceOf(RuntimeException.class)
+                .hasRootCauseMessage("사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.");
+        verify(userPointTable, times(1)).insertOrUpdate(id, 70L);
+    }
+
+    @Test
+    void 같은_유저의_내역을_동시에_조회하면_테이블을_한_번만_조회한다() throws Exception {
+        // given
+        long id = 1L;
+        int threadCount = 5;
+        CountDownLatch selecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointHistoryTable.selectAllByUserId(id))
+                .willAnswer(invocation -> {
+                    selecting.countDown();
+                    release.await();
+                    return List.of(new PointHistory(1L, id, 100L, TransactionType.CHARGE, 10000L));
+                });
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<List<PointHistory>>> results = new ArrayList<>();
+        results.add(executorService.submit(() -> pointService.selectPointHistoriesByUserId(id)));
+        selecting.await();
+        for(int i = 1; i < threadCount; i++) {
+            results.add(executorService.submit(() -> pointService.selectPointHistoriesByUserId(id)));
+        }
+        Thread.sleep(100L);
+        release.countDown();
+
+        // then
+        for(Future<List<PointHistory>> result : results) {
+            assertThat(result.get()).hasSize(1);
+        }
+        verify(pointHistoryTable, times(1)).selectAllByUserId(id);
+        assertThat(meterRegistry.get("point.read.coalesced").tag("operation", "history").counter().count()).isEqualTo(threadCount - 1);
+    }
+
+    @Test
+    void 쓰기가_완료된_뒤_시작한_조회는_진행_중인_이전_조회에_합류하지_않는다() throws Exception {
+        // given
+        long id = 1L;
+        CountDownLatch selecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointHistoryTable.selectAllByUserId(id))
+                .willAnswer(invocation -> {
+                    selecting.countDown();
+                    release.await();
+                    return List.of();
+                })
+                .willReturn(List.of(new PointHistory(1L, id, 100L, TransactionType.CHARGE, 10000L)));
+        given(userPointTable.selectById(id))
+                .willReturn(new UserPoint(id, 0L, 10000L));
+        given(userPointTable.insertOrUpdate(id, 100L))
+                .willReturn(new UserPoint(id, 100L, 10000L));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<List<PointHistory>> before = executorService.submit(() -> pointService.selectPointHistoriesByUserId(id));
+        selecting.await();
+        pointService.chargeUserPoint(id, 100L);
+        Future<List<PointHistory>> after = executorService.submit(() -> pointService.selectPointHistoriesByUserId(id));
+        Thread.sleep(100L);
+        release.countDown();
+
+        // then
+        assertThat(before.get()).isEmpty();
+        assertThat(after.get()).hasSize(1);
+        verify(pointHistoryTable, times(2)).selectAllByUserId(id);
+    }
+
+    @Test
+    void 이벤트_소싱_모드에서는_내역을_먼저_저장하고_내역을_누적한_잔액을_반영한다() {
+        // given
+        long id = 1L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointService eventSourcedPointService = eventSourcedPointService(userPoints, histories);
+
+        // when
+        eventSourcedPointService.chargeUserPoint(id, 1000L);
+        UserPoint userPoint = eventSourcedPointService.useUserPoint(id, 300L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(700L);
+        assertThat(userPoints.selectById(id).point()).isEqualTo(700L);
+        assertThat(histories.selectAllByUserId(id))
+                .extracting("amount", "type")
+                .containsExactly(tuple(1000L, TransactionType.CHARGE), tuple(300L, TransactionType.USE));
+    }
+
+    @Test
+    void 이벤트_소싱_모드에서_내역_저장이_실패하면_잔액은_바뀌지_않는다() {
+        // given
+        long id = 1L;
+        given(pointHistoryTable.selectPageByUserId(eq(id), any()))
+                .willReturn(new PointHistoryPage(List.of(), null));
+        given(pointHistoryTable.insertAll(anyList()))
+                .willThrow(new RuntimeException("내역 저장 실패"));
+        PointService eventSourcedPointService = eventSourcedPointService(userPointTable, pointHistoryTable);
+
+        // when // then
+        assertThatThrownBy(() -> eventSourcedPointService.chargeUserPoint(id, 1000L))
+                .hasMessage("내역 저장 실패");
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    void 낙관적_모드에서_읽은_뒤_다른_요청이_먼저_저장했으면_다시_읽어_저장한다() {
+        // given
+        long id = 1L;
+        given(userPointTable.selectVersionedById(id))
+                .willReturn(new VersionedUserPoint(new UserPoint(id, 1000L, 100000L), 1L))
+                .willReturn(new VersionedUserPoint(new UserPoint(id, 1500L, 100001L), 2L));
+        given(userPointTable.compareAndSet(id, 1L, 1300L))
+                .willReturn(null);
+        given(userPointTable.compareAndSet(id, 2L, 1800L))
+                .willReturn(new UserPoint(id, 1800L, 100002L));
+        PointService optimisticPointService = optimisticPointService(userPointTable, pointHistoryTable, 3);
+
+        // when
+        UserPoint userPoint = optimisticPointService.chargeUserPoint(id, 300L);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(1800L);
+        assertThat(meterRegistry.get("point.optimistic.conflicts").counter().count()).isEqualTo(1.0);
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryTable, times(1)).insertAll(List.of(new PointHistoryInsert(id, 300L, TransactionType.CHARGE, 100002L)));
+    }
+
+    @Test
+    void 낙관적_모드에서_최대_시도_횟수까지_충돌하면_예외를_발생한다() {
+        // given
+        long id = 1L;
+        given(userPointTable.selectVersionedById(id))
+                .willReturn(new VersionedUserPoint(new UserPoint(id, 1000L, 100000L), 1L));
+        given(userPointTable.compareAndSet(id, 1L, 700L))
+                .willReturn(null);
+        PointService optimisticPointService = optimisticPointService(userPointTable, pointHistoryTable, 3);
+
+        // when // then
+        assertThatThrownBy(() -> optimisticPointService.useUserPoint(id, 300L))
+                .hasMessage("같은 유저의 요청이 몰려 포인트를 변경하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        verify(userPointTable, times(3)).compareAndSet(id, 1L, 700L);
+        verify(pointHistoryTable, never()).insertAll(anyList());
+    }
+
+    @Test
+    void 낙관적_모드에서_같은_유저에게_동시에_충전해도_모든_충전이_반영된다() throws InterruptedException {
+        // given
+        long id = 1L;
+        int threadCount = 16;
+        int chargesPerThread = 50;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointService optimisticPointService = optimisticPointService(userPoints, histories, 1000);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for(int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for(int j = 0; j < chargesPerThread; j++) {
+                        optimisticPointService.chargeUserPoint(id, 10L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        long expected = 10L * threadCount * chargesPerThread;
+        assertThat(userPoints.selectById(id).point()).isEqualTo(expected);
+        assertThat(optimisticPointService.selectUserPointById(id).point()).isEqualTo(expected);
+        assertThat(histories.selectAllByUserId(id)).hasSize(threadCount * chargesPerThread);
+    }
+
+    @Test
+    void 충전과_사용이_확정되면_유저_통계에_반영되고_조회할_때_내역을_읽지_않는다() {
+        // given
+        long id = 1L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = spy(new PointHistoryTable(false));
+        PointService statsPointService = eventSourcedPointService(userPoints, histories);
+        statsPointService.chargeUserPoint(id, 1000L);
+        statsPointService.useUserPoint(id, 300L);
+        assertThatThrownBy(() -> statsPointService.useUserPoint(id, 5000L))
+                .hasMessage("사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.");
+        clearInvocations(histories);
+
+        // when
+        PointStats stats = statsPointService.selectPointStatsByUserId(id);
+
+        // then
+        assertThat(stats.totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(1000L, 1L));
+        assertThat(stats.totals().get(TransactionType.USE)).isEqualTo(new PointStatsTotal(300L, 1L));
+        verifyNoInteractions(histories);
+    }
+
+    @Test
+    void 통계를_다시_계산하면_저장된_내역으로_바꿔_넣는다() {
+        // given
+        long id = 1L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointService statsPointService = eventSourcedPointService(userPoints, histories);
+        statsPointService.chargeUserPoint(id, 1000L);
+        histories.insert(id, 200L, TransactionType.USE, System.currentTimeMillis());
+
+        // when
+        statsPointService.rebuildStatistics();
+
+        // then
+        PointStats stats = statsPointService.selectPointStatsByUserId(id);
+        assertThat(stats.totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(1000L, 1L));
+        assertThat(stats.totals().get(TransactionType.USE)).isEqualTo(new PointStatsTotal(200L, 1L));
+    }
+
+    @Test
+    void 유저별_처리량을_넘은_충전_요청은_락을_기다리지_않고_바로_거절된다() {
+        // given
+        long id = 1L;
+        UserPointTable userPoints = spy(new UserPointTable(false));
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointAdmissionControl pointAdmissionControl = new PointAdmissionControl(1, 1, 0, 0, 0, () -> 0L, pointMetrics);
+        PointService admissionPointService = admissionPointService(userPoints, histories, pointAdmissionControl);
+        admissionPointService.chargeUserPoint(id, 1000L);
+
+        // when // then
+        assertThatThrownBy(() -> admissionPointService.chargeUserPoint(id, 500L))
+                .isInstanceOf(PointAdmissionException.class)
+                .hasMessage("같은 유저의 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+
+        verify(userPoints, times(1)).insertOrUpdate(eq(id), anyLong());
+        assertThat(userPoints.selectById(id).point()).isEqualTo(1000L);
+        assertThat(meterRegistry.get("point.admission.rejections").tag("reason", "user_rate").counter().count()).isEqualTo(1.0);
+        assertThat(pointAdmissionControl.inFlight()).isZero();
+    }
+
+    @Test
+    void 받는_유저의_처리량을_넘은_송금_요청은_바로_거절되고_보내는_유저의_몫은_돌려준다() {
+        // given
+        long fromId = 1L;
+        long toId = 2L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        userPoints.insertOrUpdate(fromId, 1000L);
+        PointAdmissionControl pointAdmissionControl = new PointAdmissionControl(1, 1, 0, 0, 0, () -> 0L, pointMetrics);
+        PointService admissionPointService = admissionPointService(userPoints, histories, pointAdmissionControl);
+        admissionPointService.chargeUserPoint(toId, 100L);
+
+        // when // then
+        assertThatThrownBy(() -> admissionPointService.transferUserPoint(fromId, toId, 500L))
+                .isInstanceOf(PointAdmissionException.class)
+                .extracting("reason").isEqualTo(PointAdmissionRejectReason.USER_RATE);
+
+        assertThat(userPoints.selectById(fromId).point()).isEqualTo(1000L);
+        assertThat(userPoints.selectById(toId).point()).isEqualTo(100L);
+        assertThat(admissionPointService.useUserPoint(fromId, 300L).point()).isEqualTo(700L);
+        assertThat(pointAdmissionControl.inFlight()).isZero();
+    }
+
+    @Test
+    void 유효_기간이_지난_충전분은_만료_내역을_남기고_잔액에서_차감된다() {
+        // given
+        long id = 1L;
+        long validityMillis = 60_000L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointExpiration pointExpiration = new PointExpiration(true, validityMillis, 100L, System.currentTimeMillis());
+        PointService expiringPointService = expiringPointService(userPoints, histories, pointExpiration);
+        UserPoint charged = expiringPointService.chargeUserPoint(id, 1000L);
+        expiringPointService.useUserPoint(id, 300L);
+
+        // when
+        int beforeExpiry = expiringPointService.expirePoints(charged.updateMillis() + validityMillis - 1_000L);
+        int afterExpiry = expiringPointService.expirePoints(charged.updateMillis() + validityMillis + 1_000L);
+
+        // then
+        assertThat(beforeExpiry).isZero();
+        assertThat(afterExpiry).isEqualTo(1);
+        assertThat(expiringPointService.selectUserPointById(id).point()).isZero();
+        assertThat(histories.selectAllByUserId(id))
+                .extracting("amount", "type")
+                .containsExactly(
+                        tuple(1000L, TransactionType.CHARGE),
+                        tuple(300L, TransactionType.USE),
+                        tuple(700L, TransactionType.EXPIRE));
+        assertThat(expiringPointService.selectPointStatsByUserId(id).totals().get(TransactionType.EXPIRE))
+                .isEqualTo(new PointStatsTotal(700L, 1L));
+    }
+
+    @Test
+    void 사용은_먼저_만료되는_충전분부터_차감하고_만료는_기한이_지난_충전분만_차감한다() throws InterruptedException {
+        // given
+        long id = 1L;
+        long validityMillis = 60_000L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointExpiration pointExpiration = new PointExpiration(true, validityMillis, 1L, System.currentTimeMillis());
+        PointService expiringPointService = expiringPointService(userPoints, histories, pointExpiration);
+        UserPoint first = expiringPointService.chargeUserPoint(id, 500L);
+        Thread.sleep(5L);
+        UserPoint second = expiringPointService.chargeUserPoint(id, 400L);
+        expiringPointService.useUserPoint(id, 600L);
+
+        // when
+        expiringPointService.expirePoints(first.updateMillis() + validityMillis);
+        long afterFirstExpiry = expiringPointService.selectUserPointById(id).point();
+        expiringPointService.expirePoints(second.updateMillis() + validityMillis);
+
+        // then
+        assertThat(afterFirstExpiry).isEqualTo(300L);
+        assertThat(expiringPointService.selectUserPointById(id).point()).isZero();
+        assertThat(histories.selectAllByUserId(id))
+                .filteredOn(history -> history.type() == TransactionType.EXPIRE)
+                .extracting("amount")
+                .containsExactly(300L);
+    }
+
+    @Test
+    void 홀드된_포인트는_만료를_미루고_홀드를_확정하면_그_사용으로_차감하고_취소하면_다음_틱에_만료한다() {
+        // given
+        long confirmedId = 1L;
+        long cancelledId = 2L;
+        long validityMillis = 60_000L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointExpiration pointExpiration = new PointExpiration(true, validityMillis, 100L, System.currentTimeMillis());
+        PointService expiringPointService = expiringPointService(userPoints, histories, pointExpiration);
+        UserPoint charged = expiringPointService.chargeUserPoint(confirmedId, 1000L);
+        expiringPointService.chargeUserPoint(cancelledId, 1000L);
+        PointHold confirmed = expiringPointService.holdUserPoint(confirmedId, 600L, null);
+        PointHold cancelled = expiringPointService.holdUserPoint(cancelledId, 600L, null);
+        long expiredAtMillis = charged.updateMillis() + validityMillis + 1_000L;
+
+        // when
+        expiringPointService.expirePoints(expiredAtMillis);
+        long confirmedAfterExpiry = expiringPointService.selectUserPointById(confirmedId).point();
+        long cancelledAfterExpiry = expiringPointService.selectUserPointById(cancelledId).point();
+        expiringPointService.confirmHold(confirmedId, confirmed.holdId());
+        expiringPointService.cancelHold(cancelledId, cancelled.holdId());
+        expiringPointService.expirePoints(expiredAtMillis + 1_000L);
+
+        // then
+        assertThat(confirmedAfterExpiry).isEqualTo(600L);
+        assertThat(cancelledAfterExpiry).isEqualTo(600L);
+        assertThat(histories.selectAllByUserId(confirmedId))
+                .extracting("amount", "type")
+                .containsExactly(
+                        tuple(1000L, TransactionType.CHARGE),
+                        tuple(400L, TransactionType.EXPIRE),
+                        tuple(600L, TransactionType.USE));
+        assertThat(histories.selectAllByUserId(cancelledId))
+                .extracting("amount", "type")
+                .containsExactly(
+                        tuple(1000L, TransactionType.CHARGE),
+                        tuple(400L, TransactionType.EXPIRE),
+                        tuple(600L, TransactionType.EXPIRE));
+        assertThat(expiringPointService.selectUserPointById(confirmedId).point()).isZero();
+        assertThat(expiringPointService.selectUserPointById(cancelledId).point()).isZero();
+    }
+
+    @Test
+    void 홀드된_포인트는_다른_사용에_쓰이지_않고_확정하면_사용_내역이_저장된다() {
+        // given
+        long id = 1L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointHolds pointHolds = PointHolds.unscheduled();
+        PointService holdingPointService = holdingPointService(userPoints, histories, pointHolds);
+        holdingPointService.chargeUserPoint(id, 1000L);
+        PointHold hold = holdingPointService.holdUserPoint(id, 700L, null);
+
+        // when // then
+        assertThatThrownBy(() -> holdingPointService.useUserPoint(id, 500L))
+                .hasMessage("사용하려는 포인트는 홀드된 포인트를 제외한 사용 가능한 포인트보다 클 수 없습니다.");
+        assertThatThrownBy(() -> holdingPointService.holdUserPoint(id, 400L, null))
+                .hasMessage("홀드하려는 포인트는 사용 가능한 포인트보다 클 수 없습니다.");
+
+        assertThat(holdingPointService.confirmHold(id, hold.holdId()).point()).isEqualTo(300L);
+        assertThat(pointHolds.heldAmount(id)).isZero();
+        assertThat(histories.selectAllByUserId(id))
+                .extracting("amount", "type")
+                .containsExactly(tuple(1000L, TransactionType.CHARGE), tuple(700L, TransactionType.USE));
+        assertThatThrownBy(() -> holdingPointService.confirmHold(id, hold.holdId()))
+                .hasMessage("존재하지 않거나 만료된 홀드입니다.");
+    }
+
+    @Test
+    void 홀드를_취소하거나_유효_시간이_지나면_테이블을_바꾸지_않고_사용_가능한_포인트가_돌아온다() {
+        // given
+        long id = 1L;
+        UserPointTable userPoints = spy(new UserPointTable(false));
+        PointHistoryTable histories = spy(new PointHistoryTable(false));
+        long startMillis = System.currentTimeMillis();
+        PointHolds pointHolds = new PointHolds(60_000L, 60_000L, 100L, startMillis);
+        PointService holdingPointService = holdingPointService(userPoints, histories, pointHolds);
+        holdingPointService.chargeUserPoint(id, 1000L);
+        PointHold cancelled = holdingPointService.holdUserPoint(id, 600L, null);
+        PointHold expired = holdingPointService.holdUserPoint(id, 400L, 1L);
+        clearInvocations(userPoints, histories);
+
+        // when
+        holdingPointService.cancelHold(id, cancelled.holdId());
+        int expiredHolds = pointHolds.expire(expired.expiresAtMillis() + 100L);
+
+        // then
+        assertThat(expiredHolds).isEqualTo(1);
+        assertThat(pointHolds.heldAmount(id)).isZero();
+        assertThat(pointHolds.active()).isZero();
+        verifyNoInteractions(userPoints, histories);
+        assertThat(holdingPointService.useUserPoint(id, 1000L).point()).isZero();
+    }
+
+    @Test
+    void 확정하지_못해_되돌린_홀드는_그사이_타이밍_휠_항목이_꺼내졌어도_유효_시간이_지나면_풀린다() {
+        // given
+        long id = 1L;
+        long startMillis = System.currentTimeMillis();
+        PointHolds pointHolds = new PointHolds(60_000L, 60_000L, 100L, startMillis);
+        PointHold hold = pointHolds.hold(id, 500L, startMillis + 1_000L);
+        pointHolds.release(id, hold.holdId());
+        pointHolds.expire(startMillis + 2_000L);
+
+        // when
+        pointHolds.restore(hold);
+        int expiredHolds = pointHolds.expire(startMillis + 2_100L);
+
+        // then
+        assertThat(expiredHolds).isEqualTo(1);
+        assertThat(pointHolds.heldAmount(id)).isZero();
+        assertThat(pointHolds.active()).isZero();
+    }
+
+    @Test
+    void 유저를_다른_노드로_옮기면_홀드도_함께_옮겨져_옮긴_노드에서_사용을_막고_확정할_수_있다() {
+        // given
+        long id = 1L;
+        PointHolds sourceHolds = PointHolds.unscheduled();
+        PointHolds targetHolds = PointHolds.unscheduled();
+        PointService source = holdingPointService(new UserPointTable(false), new PointHistoryTable(false), sourceHolds);
+        PointHistoryTable targetHistories = new PointHistoryTable(false);
+        PointService target = holdingPointService(new UserPointTable(false), targetHistories, targetHolds);
+        source.chargeUserPoint(id, 1000L);
+        PointHold hold = source.holdUserPoint(id, 700L, null);
+
+        // when
+        PointUserState state = source.detachUser(id);
+        target.attachUser(state);
+
+        // then
+        assertThat(state.holds()).containsExactly(hold);
+        assertThat(sourceHolds.active()).isZero();
+        assertThat(targetHolds.heldAmount(id)).isEqualTo(700L);
+        assertThatThrownBy(() -> target.useUserPoint(id, 500L))
+                .hasMessage("사용하려는 포인트는 홀드된 포인트를 제외한 사용 가능한 포인트보다 클 수 없습니다.");
+        assertThat(target.holdUserPoint(id, 100L, null).holdId()).isGreaterThan(hold.holdId());
+        assertThat(target.confirmHold(id, hold.holdId()).point()).isEqualTo(300L);
+        assertThat(targetHistories.selectAllByUserId(id))
+                .extracting("amount", "type")
+                .containsExactly(tuple(1000L, TransactionType.CHARGE), tuple(700L, TransactionType.USE));
+    }
+
+    @Test
+    void 송금하면_두_유저의_잔액이_함께_바뀌고_USE와_CHARGE_내역이_함께_저장된다() {
+        // given
+        long fromId = 1L;
+        long toId = 2L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = spy(new PointHistoryTable(false));
+        PointService transferPointService = holdingPointService(userPoints, histories, PointHolds.unscheduled());
+        transferPointService.chargeUserPoint(fromId, 1000L);
+        transferPointService.chargeUserPoint(toId, 200L);
+        clearInvocations(histories);
+
+        // when
+        PointTransfer transfer = transferPointService.transferUserPoint(fromId, toId, 300L);
+
+        // then
+        assertThat(transfer.from().point()).isEqualTo(700L);
+        assertThat(transfer.to().point()).isEqualTo(500L);
+        assertThat(userPoints.selectById(fromId).point()).isEqualTo(700L);
+        assertThat(userPoints.selectById(toId).point()).isEqualTo(500L);
+        verify(histories, times(1)).insertAll(List.of(
+                new PointHistoryInsert(fromId, 300L, TransactionType.USE, transfer.from().updateMillis()),
+                new PointHistoryInsert(toId, 300L, TransactionType.CHARGE, transfer.to().updateMillis())));
+        assertThat(histories.selectAllByUserId(toId))
+                .extracting("amount", "type")
+                .containsExactly(tuple(200L, TransactionType.CHARGE), tuple(300L, TransactionType.CHARGE));
+    }
+
+    @Test
+    void 보내는_유저의_사용_가능한_포인트가_부족하거나_받는_유저가_최대_보유_포인트를_넘으면_두_유저_모두_바뀌지_않는다() {
+        // given
+        long fromId = 1L;
+        long toId = 2L;
+        UserPointTable userPoints = new UserPointTable(false);
+        PointHistoryTable histories = new PointHistoryTable(false);
+        PointService transferPointService = holdingPointService(userPoints, histories, PointHolds.unscheduled());
+        transferPointService.chargeUserPoint(fromId, 1000L);
+        transferPointService.chargeUserPoint(toId, 999_500L);
+        transferPointService.holdUserPoint(fromId, 800L, null);
+
+        // when // then
+        assertThatThrownBy(() -> transferPointService.transferUserPoint(fromId, toId, 300L))
+                .hasMessage("송금하려는 포인트는 사용 가능한 포인트보다 클 수 없습니다.");
+        assertThatThrownBy(() -> transferPointService.transferUserPoint(toId, fromId, 999_500L))
+                .hasMessage("송금 받은 후 보유 포인트는 최대 100만원을 초과할 수 없습니다.");
+        assertThatThrownBy(() -> transferPointService.transferUserPoint(fromId, fromId, 100L))
+                .hasMessage("자기 자신에게 송금할 수 없습니다.");
+
+        assertThat(userPoints.selectById(fromId).point()).isEqualTo(1000L);
+        assertThat(userPoints.selectById(toId).point()).isEqualTo(999_500L);
+        assertThat(histories.selectAllByUserId(fromId)).hasSize(1);
+        assertThat(histories.selectAllByUserId(toId)).hasSize(1);
+    }
+
+    private PointHistoryWriter pointHistoryWriter(PointHistoryTable histories) {
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(histories, pointMetrics, 100, 100, PointHistoryAckPolicy.WRITE);
+        pointHistoryWriters.add(pointHistoryWriter);
+        return pointHistoryWriter;
+    }
+
+    private PointServiceBuilder pointService(UserPointTable userPoints, PointHistoryTable histories) {
+        return PointServiceBuilder.pointService(userPoints, histories, pointHistoryWriter(histories), pointMetrics);
+    }
+
+    private PointService eventSourcedPointService(UserPointTable userPoints, PointHistoryTable histories) {
+        return pointService(userPoints, histories)
+                .balanceMode(PointBalanceMode.EVENT_SOURCED)
+                .build();
+    }
+
+    private PointService optimisticPointService(UserPointTable userPoints, PointHistoryTable histories, int maxAttempts) {
+        return pointService(userPoints, histories)
+                .pointConcurrencyControl(PointConcurrencyControl.optimistic(maxAttempts, 0L, 0L))
+                .build();
+    }
+
+    private PointService admissionPointService(UserPointTable userPoints, PointHistoryTable histories, PointAdmissionControl pointAdmissionControl) {
+        return pointService(userPoints, histories)
+                .pointAdmissionControl(pointAdmissionControl)
+                .build();
+    }
+
+    private PointService expiringPointService(UserPointTable userPoints, PointHistoryTable histories, PointExpiration pointExpiration) {
+        return pointService(userPoints, histories)
+                .pointExpiration(pointExpiration)
+                .build();
+    }
+
+    private PointService holdingPointService(UserPointTable userPoints, PointHistoryTable histories, PointHolds pointHolds) {
+        return pointService(userPoints, histories)
+                .pointHolds(pointHolds)
+                .build();
+    }
+
+    private UserPoint getQuietly(Future<UserPoint> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointStatisticsTest {
+
+    private static final long DAY = 86_400_000L;
+
+    private final PointStatistics pointStatistics = new PointStatistics(2);
+
+    @Test
+    void 유저별_전체_통계를_종류별_누적값과_일별_구간으로_집계한다() {
+        // when
+        pointStatistics.record(1L, TransactionType.CHARGE, 1000L, 0L);
+        pointStatistics.record(1L, TransactionType.USE, 300L, DAY + 1L);
+        pointStatistics.record(2L, TransactionType.CHARGE, 500L, DAY + 2L);
+
+        // then
+        PointStats user = pointStatistics.userStats(1L);
+        assertThat(user.totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(1000L, 1L));
+        assertThat(user.totals().get(TransactionType.USE)).isEqualTo(new PointStatsTotal(300L, 1L));
+        assertThat(user.daily()).extracting(PointDailyStats::date)
+                .containsExactly(LocalDate.ofEpochDay(0L), LocalDate.ofEpochDay(1L));
+
+        PointStats global = pointStatistics.globalStats();
+        assertThat(global.userId()).isNull();
+        assertThat(global.totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(1500L, 2L));
+        assertThat(global.daily().get(1).totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(500L, 1L));
+    }
+
+    @Test
+    void 보관_일수를_넘긴_일별_구간은_버리고_누적값은_유지한다() {
+        // when
+        pointStatistics.record(1L, TransactionType.CHARGE, 100L, 0L);
+        pointStatistics.record(1L, TransactionType.CHARGE, 100L, DAY);
+        pointStatistics.record(1L, TransactionType.CHARGE, 100L, 2 * DAY);
+        pointStatistics.record(1L, TransactionType.CHARGE, 100L, 0L);
+
+        // then
+        PointStats stats = pointStatistics.userStats(1L);
+        assertThat(stats.daily()).extracting(PointDailyStats::date)
+                .containsExactly(LocalDate.ofEpochDay(1L), LocalDate.ofEpochDay(2L));
+        assertThat(stats.totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(400L, 4L));
+    }
+
+    @Test
+    void 유저_통계를_다시_계산하거나_지우면_전체_통계도_그만큼_바뀐다() {
+        // given
+        pointStatistics.record(1L, TransactionType.CHARGE, 1000L, 0L);
+        pointStatistics.record(1L, TransactionType.CHARGE, 1000L, 0L);
+        pointStatistics.record(2L, TransactionType.CHARGE, 500L, 0L);
+
+        // when
+        pointStatistics.rebuild(1L, visitor -> visitor.visit(1L, 1L, 700L, TransactionType.CHARGE, 0L));
+
+        // then
+        assertThat(pointStatistics.userStats(1L).totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(700L, 1L));
+        assertThat(pointStatistics.globalStats().totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(1200L, 2L));
+
+        pointStatistics.remove(1L);
+        assertThat(pointStatistics.globalStats().totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(500L, 1L));
+        assertThat(pointStatistics.globalStats().daily().get(0).totals().get(TransactionType.CHARGE)).isEqualTo(new PointStatsTotal(500L, 1L));
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPointCacheTest {
+
+    @Test
+    void 캐시_크기를_초과하면_가장_오래_사용되지_않은_항목이_제거된다() {
+        // given
+        UserPointCache userPointCache = new UserPointCache(2);
+        userPointCache.put(new UserPoint(1L, 100L, 10000L));
+        userPointCache.put(new UserPoint(2L, 200L, 10000L));
+        userPointCache.get(1L);
+
+        // when
+        userPointCache.put(new UserPoint(3L, 300L, 10000L));
+
+        // then
+        assertThat(userPointCache.size()).isEqualTo(2);
+        assertThat(userPointCache.get(1L)).isNotNull();
+        assertThat(userPointCache.get(2L)).isNull();
+        assertThat(userPointCache.get(3L)).isNotNull();
+    }
+
+    @Test
+    void 기존_항목보다_오래된_포인트는_캐시에_반영하지_않는다() {
+        // given
+        UserPointCache userPointCache = new UserPointCache(10);
+        userPointCache.put(new UserPoint(1L, 500L, 20000L));
+
+        // when
+        userPointCache.put(new UserPoint(1L, 100L, 10000L));
+
+        // then
+        assertThat(userPointCache.get(1L))
+                .extracting("point", "updateMillis")
+                .containsExactly(500L, 20000L);
+    }
+
+    @Test
+    void 캐시_적중과_미적중_횟수를_집계한다() {
+        // given
+        UserPointCache userPointCache = new UserPointCache(10);
+        userPointCache.put(new UserPoint(1L, 100L, 10000L));
+
+        // when
+        userPointCache.get(1L);
+        userPointCache.get(1L);
+        userPointCache.get(2L);
+        userPointCache.peek(2L);
+
+        // then
+        assertThat(userPointCache.hitCount()).isEqualTo(2L);
+        assertThat(userPointCache.missCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.binary;
+
+import io.hhplus.tdd.point.PointAdmissionException;
+import io.hhplus.tdd.point.PointAdmissionRejectReason;
+import io.hhplus.tdd.point.PointNode;
+import io.hhplus.tdd.point.PointRejectException;
+import io.hhplus.tdd.point.PointRejectReason;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static io.hhplus.tdd.point.binary.PointBinaryProtocol.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PointBinaryServerTest {
+
+    private final PointNode pointNode = mock(PointNode.class);
+    private final PointBinaryServer server = new PointBinaryServer(pointNode, 0, 2);
+
+    @AfterEach
+    void tearDown() {
+        server.shutdown();
+    }
+
+    @Test
+    void 응답을_기다리지_않고_이어_보낸_요청의_응답이_요청_순서대로_돌아온다() throws IOException {
+        // given
+        given(pointNode.chargeUserPoint(1L, 500L)).willReturn(new UserPoint(1L, 1500L, 10000L));
+        given(pointNode.useUserPoint(1L, 3000L)).willThrow(new PointRejectException(PointRejectReason.INSUFFICIENT_BALANCE, "사용하려는 포인트는 보유한 포인트보다 클 수 없습니다."));
+        given(pointNode.selectUserPointById(2L)).willThrow(new PointAdmissionException(PointAdmissionRejectReason.USER_RATE, 250L));
+        given(pointNode.selectUserPointById(3L)).willReturn(new UserPoint(3L, 700L, 20000L));
+
+        ByteBuffer requests = ByteBuffer.allocate(REQUEST_SIZE * 5);
+        request(requests, 11L, OP_CHARGE, 1L, 500L);
+        request(requests, 12L, OP_USE, 1L, 3000L);
+        request(requests, 13L, OP_SELECT, 2L, 0L);
+        request(requests, 14L, (byte) 99, 3L, 0L);
+        request(requests, 15L, OP_SELECT, 3L, 0L);
+        requests.flip();
+
+        // when
+        ByteBuffer responses = ByteBuffer.allocate(RESPONSE_SIZE * 5);
+        try(SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", server.port()))) {
+            while(requests.hasRemaining()) {
+                channel.write(requests);
+            }
+            while(responses.hasRemaining()) {
+                if(channel.read(responses) < 0) {
+                    break;
+                }
+            }
+        }
+        responses.flip();
+
+        // then
+        assertResponse(responses, 11L, STATUS_OK, 0, 1L, 1500L, 10000L);
+        assertResponse(responses, 12L, STATUS_REJECTED, PointRejectReason.INSUFFICIENT_BALANCE.ordinal() + 1, 1L, 0L, 0L);
+        assertResponse(responses, 13L, STATUS_THROTTLED, PointAdmissionRejectReason.USER_RATE.ordinal() + 1, 2L, 0L, 250L);
+        assertResponse(responses, 14L, STATUS_BAD_REQUEST, 0, 3L, 0L, 0L);
+        assertResponse(responses, 15L, STATUS_OK, 0, 3L, 700L, 20000L);
+    }
+
+    private void request(ByteBuffer buffer, long correlationId, byte op, long userId, long amount) {
+        buffer.putLong(correlationId).put(op).put(new byte[7]).putLong(userId).putLong(amount);
+    }
+
+    private void assertResponse(ByteBuffer buffer, long correlationId, byte status, int reason, long userId, long point, long millis) {
+        assertThat(buffer.getLong()).isEqualTo(correlationId);
+        assertThat(buffer.get()).isEqualTo(status);
+        assertThat(buffer.get()).isEqualTo((byte) reason);
+        buffer.position(buffer.position() + 6);
+        assertThat(buffer.getLong()).isEqualTo(userId);
+        assertThat(buffer.getLong()).isEqualTo(point);
+        assertThat(buffer.getLong()).isEqualTo(millis);
+    }
+}
@@ -0,0 +1,169 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryAckPolicy;
+import io.hhplus.tdd.point.PointHistoryInsert;
+import io.hhplus.tdd.point.PointHistoryWriter;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointServiceBuilder;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.UserPointCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시성 제어 전략별로 경합이 있는 충전/사용, 송금이 잔액을 잃지 않는지 확인합니다.
+ * 처리량 비교는 UserLockContentionBenchmark(jmh)에서 측정합니다.
+ */
+class UserLockStrategyContentionTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int OPERATIONS_PER_THREAD = 200;
+
+    private PointHistoryWriter pointHistoryWriter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if(pointHistoryWriter != null) {
+            pointHistoryWriter.shutdown();
+        }
+    }
+
+    static Stream<Arguments> strategies() {
+        return Stream.of(UserLockType.values())
+                .flatMap(type -> Stream.of(Arguments.of(type, 4), Arguments.of(type, 1_000)));
+    }
+
+    @ParameterizedTest(name = "{0} users={1}")
+    @MethodSource("strategies")
+    void 동시성_제어_전략별로_같은_유저에_몰린_충전과_사용이_모두_반영된다(UserLockType type, int userCount) throws InterruptedException {
+        // given
+        InMemoryUserPointTable userPointTable = new InMemoryUserPointTable();
+        PointService pointService = pointService(type, userPointTable);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        // when
+        for(int i = 0; i < THREAD_COUNT; i++) {
+            int threadIndex = i;
+            executorService.submit(() -> {
+                try {
+                    for(int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        long userId = (threadIndex + (long) j * THREAD_COUNT) % userCount;
+                        pointService.chargeUserPoint(userId, 10L);
+                        pointService.useUserPoint(userId, 10L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        boolean completed = latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdownNow();
+
+        // then
+        assertThat(completed).isTrue();
+        for(long userId = 0; userId < userCount; userId++) {
+            assertThat(userPointTable.selectById(userId).point()).isZero();
+        }
+    }
+
+    static Stream<Arguments> hotTransferStrategies() {
+        return Stream.of(UserLockType.values())
+                .flatMap(type -> Stream.of(Arguments.of(type, 2), Arguments.of(type, 8)));
+    }
+
+    /**
+     * 인기 유저 몇 명끼리 양방향으로 송금하므로, 두 락을 서로 반대 순서로 요청하는 경우가 계속 생깁니다.
+     * 교착 상태 없이 끝나야 하며, 모든 송금이 두 유저에게 함께 반영되므로 잔액의 합은 그대로입니다.
+     */
+    @ParameterizedTest(name = "{0} users={1}")
+    @MethodSource("hotTransferStrategies")
+    void 동시성_제어_전략별로_인기_유저끼리_서로_송금해도_교착_상태_없이_잔액의_합이_유지된다(UserLockType type, int userCount) throws InterruptedException {
+        // given
+        long initialPoint = 100_000L;
+        InMemoryUserPointTable userPointTable = new InMemoryUserPointTable();
+        PointService pointService = pointService(type, userPointTable);
+        for(long userId = 0; userId < userCount; userId++) {
+            pointService.chargeUserPoint(userId, initialPoint);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        // when
+        for(int i = 0; i < THREAD_COUNT; i++) {
+            int threadIndex = i;
+            executorService.submit(() -> {
+                try {
+                    for(int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        long fromId = (threadIndex + j) % userCount;
+                        long toId = (fromId + 1 + j % (userCount - 1)) % userCount;
+                        pointService.transferUserPoint(fromId, toId, 10L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        boolean completed = latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdownNow();
+
+        // then
+        assertThat(completed).isTrue();
+
+        long total = 0L;
+        for(long userId = 0; userId < userCount; userId++) {
+            total += userPointTable.selectById(userId).point();
+        }
+        assertThat(total).isEqualTo(initialPoint * userCount);
+    }
+
+    private PointService pointService(UserLockType type, UserPointTable userPointTable) {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        NoOpPointHistoryTable pointHistoryTable = new NoOpPointHistoryTable();
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryTable, pointMetrics, 10_000, 500, PointHistoryAckPolicy.ENQUEUE);
+        return PointServiceBuilder.pointService(userPointTable, pointHistoryTable, pointHistoryWriter, pointMetrics)
+                .userPointCache(new UserPointCache(10_000))
+                .userLockStrategy(new UserLockConfig().userLockStrategy(type, 1024, false))
+                .build();
+    }
+
+    private static class InMemoryUserPointTable extends UserPointTable {
+        private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    private static class NoOpPointHistoryTable extends PointHistoryTable {
+        @Override
+        public List<PointHistory> insertAll(List<PointHistoryInsert> inserts) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.hhplus.tdd.point.lock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserLockStrategyTest {
+
+    @ParameterizedTest
+    @EnumSource(UserLockType.class)
+    void 같은_유저의_작업은_한_번에_하나만_실행된다(UserLockType type) throws InterruptedException {
+        // given
+        UserLockStrategy userLockStrategy = create(type);
+        int threadCount = 16;
+        int repeat = 500;
+        long[] counter = new long[1];
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for(int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for(int j = 0; j < repeat; j++) {
+                        userLockStrategy.executeWithLock(1L, () -> counter[0]++);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        // then
+        assertThat(counter[0]).isEqualTo((long) threadCount * repeat);
+    }
+
+    @ParameterizedTest
+    @EnumSource(UserLockType.class)
+    void 작업에서_발생한_예외는_호출한_스레드로_전달된다(UserLockType type) {
+        UserLockStrategy userLockStrategy = create(type);
+
+        assertThatThrownBy(() -> userLockStrategy.executeWithLock(1L, () -> {
+            throw new RuntimeException("사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.");
+        }))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.");
+    }
+
+    @ParameterizedTest
+    @EnumSource(UserLockType.class)
+    void 두_유저의_락을_서로_반대_순서로_요청해도_교착_상태_없이_실행된다(UserLockType type) throws InterruptedException {
+        // given
+        UserLockStrategy userLockStrategy = create(type);
+        int threadCount = 16;
+        int repeat = 500;
+        long[] counters = new long[8];
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for(int i = 0; i < threadCount; i++) {
+            int threadIndex = i;
+            executorService.submit(() -> {
+                try {
+                    for(int j = 0; j < repeat; j++) {
+                        int first = (threadIndex + j) % counters.length;
+                        int second = (threadIndex * 3 + j * 5 + 1) % counters.length;
+                        userLockStrategy.executeWithLocks(first, second, () -> {
+                            counters[first]++;
+                            if(first != second) {
+                                counters[second]++;
+                            }
+                            return null;
+                        });
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        boolean completed = latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdownNow();
+
+        // then
+        assertThat(completed).isTrue();
+        long expected = 0L;
+        for(int i = 0; i < threadCount; i++) {
+            for(int j = 0; j < repeat; j++) {
+                int first = (i + j) % counters.length;
+                int second = (i * 3 + j * 5 + 1) % counters.length;
+                expected += first == second ? 1 : 2;
+            }
+        }
+        assertThat(Arrays.stream(counters).sum()).isEqualTo(expected);
+    }
+
+    @Test
+    void 사용이_끝난_유저별_락은_제거된다() throws InterruptedException {
+        // given
+        RefCountedUserLockStrategy refCounted = new RefCountedUserLockStrategy(false);
+        SerialUserLockStrategy serial = new SerialUserLockStrategy();
+        int userCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(userCount);
+
+        // when
+        for(int i = 0; i < userCount; i++) {
+            long userId = i;
+            executorService.submit(() -> {
+                try {
+                    refCounted.executeWithLock(userId, () -> userId);
+                    serial.executeWithLock(userId, () -> userId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        // then
+        assertThat(refCounted.size()).isZero();
+        assertThat(serial.size()).isZero();
+    }
+
+    @Test
+    void 작업_큐의_실행권을_얻은_스레드는_자신의_작업까지만_실행하고_뒤의_작업은_그_작업을_넣은_스레드가_실행한다() throws Exception {
+        // given
+        SerialUserLockStrategy serial = new SerialUserLockStrategy();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        String[] executedOn = new String[2];
+        Thread first = new Thread(() -> serial.executeWithLock(1L, () -> {
+            started.countDown();
+            await(release);
+            executedOn[0] = Thread.currentThread().getName();
+            return null;
+        }), "first");
+        Thread second = new Thread(() -> serial.executeWithLock(1L, () -> {
+            executedOn[1] = Thread.currentThread().getName();
+            return null;
+        }), "second");
+        first.start();
+        started.await();
+        second.start();
+        while(second.getState() != Thread.State.WAITING) {
+            Thread.sleep(1L);
+        }
+
+        // when
+        release.countDown();
+        first.join(1_000L);
+        second.join(1_000L);
+
+        // then
+        assertThat(executedOn).containsExactly("first", "second");
+        assertThat(serial.size()).isZero();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private UserLockStrategy create(UserLockType type) {
+        return new UserLockConfig().userLockStrategy(type, 16, false);
+    }
+}
@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.PointBulkService;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCondition;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointIdempotencyStore;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointNode;
+import io.hhplus.tdd.point.PointStatistics;
+import io.hhplus.tdd.point.PointTransfer;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReactivePointServiceTest {
+
+    private final PointNode pointNode = mock(PointNode.class);
+    private final Scheduler tableScheduler = Schedulers.newBoundedElastic(8, 1000, "point-table-test");
+    private final ReactivePointService reactivePointService = new ReactivePointService(
+            pointNode,
+            mock(PointBulkService.class),
+            new PointIdempotencyStore(100, 60L, new PointMetrics(new SimpleMeterRegistry())),
+            new PointStatistics(30),
+            tableScheduler
+    );
+
+    @AfterEach
+    void tearDown() {
+        tableScheduler.dispose();
+    }
+
+    @Test
+    void 같은_유저의_충전_요청은_동시에_구독해도_하나씩_순서대로_실행된다() {
+        // given
+        long id = 1L;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger balance = new AtomicInteger();
+        given(pointNode.chargeUserPoint(eq(id), any(Long.class))).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(20L);
+            long amount = invocation.getArgument(1);
+            UserPoint userPoint = new UserPoint(id, balance.addAndGet((int) amount), System.currentTimeMillis());
+            running.decrementAndGet();
+            return userPoint;
+        });
+
+        // when
+        List<UserPoint> results = Flux.range(1, 5)
+                .flatMapSequential(i -> reactivePointService.chargeUserPoint(id, i * 100L, null))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(results).extracting(UserPoint::point).containsExactly(100L, 300L, 600L, 1000L, 1500L);
+    }
+
+    @Test
+    void 서로_다른_유저의_충전_요청은_동시에_실행된다() {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(pointNode.chargeUserPoint(any(Long.class), any(Long.class))).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(100L);
+            running.decrementAndGet();
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis());
+        });
+
+        // when
+        Flux.range(1, 4)
+                .flatMap(i -> reactivePointService.chargeUserPoint(i, 100L, null))
+                .blockLast(Duration.ofSeconds(5));
+
+        // then
+        assertThat(maxRunning.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void 송금은_두_유저의_차례를_모두_받은_뒤_실행되고_반대_방향_송금이_겹쳐도_모두_끝난다() {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(pointNode.chargeUserPoint(eq(2L), any(Long.class))).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(50L);
+            running.decrementAndGet();
+            return new UserPoint(2L, invocation.getArgument(1), System.currentTimeMillis());
+        });
+        given(pointNode.transferUserPoint(any(Long.class), any(Long.class), any(Long.class))).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(10L);
+            running.decrementAndGet();
+            long fromId = invocation.getArgument(0);
+            long toId = invocation.getArgument(1);
+            return new PointTransfer(UserPoint.empty(fromId), UserPoint.empty(toId));
+        });
+
+        // when
+        List<Record> results = Flux.merge(
+                        reactivePointService.chargeUserPoint(2L, 100L, null),
+                        reactivePointService.transferUserPoint(1L, 2L, 10L),
+                        reactivePointService.transferUserPoint(2L, 1L, 10L),
+                        reactivePointService.transferUserPoint(1L, 2L, 10L)
+                )
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(results).hasSize(4);
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 내역_스트림은_다음_커서로_마지막_페이지까지_이어서_읽는다() {
+        // given
+        long id = 1L;
+        PointHistoryCondition condition = PointHistoryCondition.of(null, 2, null, null, null);
+        given(pointNode.selectPointHistoryPageByUserId(id, condition))
+                .willReturn(new PointHistoryPage(List.of(history(1L), history(2L)), 2L));
+        given(pointNode.selectPointHistoryPageByUserId(id, PointHistoryCondition.of(2L, 2, null, null, null)))
+                .willReturn(new PointHistoryPage(List.of(history(3L), history(4L)), 4L));
+        given(pointNode.selectPointHistoryPageByUserId(id, PointHistoryCondition.of(4L, 2, null, null, null)))
+                .willReturn(new PointHistoryPage(List.of(history(5L)), null));
+
+        // when
+        List<PointHistory> histories = reactivePointService.streamPointHistoriesByUserId(id, condition)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(histories).extracting(PointHistory::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    private PointHistory history(long historyId) {
+        return new PointHistory(historyId, 1L, 100L, TransactionType.CHARGE, 10000L + historyId);
+    }
+}
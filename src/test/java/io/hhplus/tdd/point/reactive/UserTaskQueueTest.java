@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.reactive;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTaskQueueTest {
+
+    private final UserTaskQueue userTaskQueue = new UserTaskQueue();
+
+    @Test
+    void 차례를_기다리던_작업이_취소되어도_앞_작업이_끝나기_전에는_다음_작업이_시작되지_않는다() {
+        // given
+        Sinks.One<String> first = Sinks.one();
+        AtomicBoolean thirdStarted = new AtomicBoolean();
+        userTaskQueue.enqueue(1L, first::asMono).subscribe();
+        Disposable second = userTaskQueue.enqueue(1L, () -> Mono.just("second")).subscribe();
+        Mono<String> third = userTaskQueue.enqueue(1L, () -> {
+            thirdStarted.set(true);
+            return Mono.just("third");
+        }).cache();
+        third.subscribe();
+
+        // when
+        second.dispose();
+
+        // then
+        assertThat(thirdStarted.get()).isFalse();
+        first.tryEmitValue("first");
+        assertThat(third.block(Duration.ofSeconds(1))).isEqualTo("third");
+    }
+
+    @Test
+    void 마지막_작업이_끝나면_유저의_대기열을_제거한다() {
+        // when
+        userTaskQueue.enqueue(1L, () -> Mono.just("first")).block(Duration.ofSeconds(1));
+        userTaskQueue.enqueue(2L, () -> Mono.error(new RuntimeException("실패")))
+                .onErrorResume(e -> Mono.empty())
+                .block(Duration.ofSeconds(1));
+
+        // then
+        assertThat(userTaskQueue.activeUsers()).isZero();
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void 노드를_추가하면_새_노드로_옮겨지는_키만_담당_노드가_바뀐다() {
+        // given
+        int keyCount = 100_000;
+        ConsistentHashRing before = new ConsistentHashRing(128).with("a").with("b").with("c");
+        ConsistentHashRing after = before.with("d");
+
+        // when
+        int moved = 0;
+        Map<String, Integer> owned = new HashMap<>();
+        for(long key = 0; key < keyCount; key++) {
+            String owner = after.nodeFor(key);
+            owned.merge(owner, 1, Integer::sum);
+            if(!before.nodeFor(key).equals(owner)) {
+                assertThat(owner).isEqualTo("d");
+                moved++;
+            }
+        }
+
+        // then
+        assertThat(moved).isBetween(keyCount / 8, keyCount * 3 / 8);
+        assertThat(owned.values()).allSatisfy(count -> assertThat(count).isBetween(keyCount / 8, keyCount * 3 / 8));
+    }
+
+    @Test
+    void 노드를_제거하면_제거된_노드의_키만_다른_노드로_옮겨진다() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(128).with("a").with("b").with("c");
+        ConsistentHashRing after = before.without("b");
+
+        // when // then
+        for(long key = 0; key < 10_000; key++) {
+            if(!before.nodeFor(key).equals("b")) {
+                assertThat(after.nodeFor(key)).isEqualTo(before.nodeFor(key));
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point.shard;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.PointAdmissionException;
+import io.hhplus.tdd.point.PointAdmissionRejectReason;
+import io.hhplus.tdd.point.PointRejectException;
+import io.hhplus.tdd.point.PointRejectReason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 피어 대신 정해진 응답을 돌려주는 HTTP 서버로 피어 호출을 검증합니다.
+ */
+class HttpPointNodeTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+    private HttpPointNode node;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/point/1/use", exchange -> respond(exchange, 400, PointRejectReason.INSUFFICIENT_BALANCE.name(), null,
+                "{\"code\":\"400\",\"message\":\"사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.\"}"));
+        server.createContext("/point/2/charge", exchange -> respond(exchange, 429, PointAdmissionRejectReason.USER_RATE.name(), "2",
+                "{\"code\":\"429\",\"message\":\"같은 유저의 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\"}"));
+        server.createContext("/point/3", exchange -> {
+            await(release);
+            respond(exchange, 200, null, null, "{\"id\":3,\"point\":0,\"updateMillis\":0}");
+        });
+        server.start();
+        node = new HttpPointNode(baseUrl(), Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void 피어가_정책에_맞지_않아_거절하면_같은_사유와_메시지의_PointRejectException_으로_되돌린다() {
+        assertThatThrownBy(() -> node.useUserPoint(1L, 100L))
+                .isInstanceOf(PointRejectException.class)
+                .hasMessage("사용하려는 포인트는 보유한 포인트보다 클 수 없습니다.")
+                .extracting("reason").isEqualTo(PointRejectReason.INSUFFICIENT_BALANCE);
+    }
+
+    @Test
+    void 피어가_처리량_제한으로_거절하면_같은_사유와_대기_시간의_PointAdmissionException_으로_되돌린다() {
+        assertThatThrownBy(() -> node.chargeUserPoint(2L, 100L))
+                .isInstanceOf(PointAdmissionException.class)
+                .satisfies(e -> {
+                    PointAdmissionException exception = (PointAdmissionException) e;
+                    assertThat(exception.reason()).isEqualTo(PointAdmissionRejectReason.USER_RATE);
+                    assertThat(exception.retryAfterMillis()).isEqualTo(2000L);
+                });
+    }
+
+    @Test
+    void 피어가_응답하지_않으면_응답_대기_시간이_지난_뒤_실패한다() {
+        HttpPointNode impatientNode = new HttpPointNode(baseUrl(), Duration.ofSeconds(5), Duration.ofMillis(300));
+        long startNanos = System.nanoTime();
+
+        assertThatThrownBy(() -> impatientNode.selectUserPointById(3L))
+                .hasMessageStartingWith("포인트 노드 요청에 실패했습니다.");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(3_000L);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void respond(HttpExchange exchange, int status, String reason, String retryAfter, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if(reason != null) {
+            exchange.getResponseHeaders().set(ErrorResponse.REJECT_REASON_HEADER, reason);
+        }
+        if(retryAfter != null) {
+            exchange.getResponseHeaders().set("Retry-After", retryAfter);
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.point.PointAdmissionControl;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHolds;
+import io.hhplus.tdd.point.PointMetrics;
+import io.hhplus.tdd.point.PointStatistics;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 같은 JVM 안의 PointShards 여러 개를 서버 여러 대 대신 링에 올려 검증합니다.
+ */
+class PointRingRouterTest {
+
+    private static final long MAX_AVAILABLE_POINT = 1_000_000L;
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final List<PointShards> instances = new ArrayList<>();
+    private final PointRingRouter router = new PointRingRouter(64);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for(PointShards instance : instances) {
+            instance.close();
+        }
+    }
+
+    @Test
+    void 노드를_추가하면_옮겨진_유저의_잔액과_내역이_유지된다() {
+        // given
+        router.addNode("node-1", newInstance("node-1"));
+        router.addNode("node-2", newInstance("node-2"));
+        int userCount = 200;
+        for(long id = 1; id <= userCount; id++) {
+            router.chargeUserPoint(id, 1000L);
+            router.useUserPoint(id, id);
+        }
+
+        // when
+        PointShards added = newInstance("node-3");
+        router.addNode("node-3", added);
+
+        // then
+        assertThat(added.userIds()).isNotEmpty();
+        for(long id = 1; id <= userCount; id++) {
+            assertThat(router.selectUserPointById(id).point()).isEqualTo(1000L - id);
+            assertThat(router.selectPointHistoriesByUserId(id))
+                    .extracting("amount", "type")
+                    .containsExactly(
+                            tuple(1000L, TransactionType.CHARGE),
+                            tuple(id, TransactionType.USE)
+                    );
+        }
+    }
+
+    @Test
+    void 요청_처리_중에_노드를_추가하고_제거해도_잔액은_내역과_일치하고_0원_이상_최대치_이하를_유지한다() throws Exception {
+        // given
+        router.addNode("node-1", newInstance("node-1"));
+        router.addNode("node-2", newInstance("node-2"));
+        int userCount = 50;
+        int workerCount = 8;
+        int requestsPerWorker = 300;
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(workerCount);
+
+        // when
+        List<Future<?>> workers = new ArrayList<>();
+        for(int i = 0; i < workerCount; i++) {
+            workers.add(executorService.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for(int j = 0; j < requestsPerWorker; j++) {
+                    long id = random.nextLong(1, userCount + 1);
+                    try {
+                        if(random.nextBoolean()) {
+                            router.chargeUserPoint(id, random.nextLong(1, 400_000L));
+                        } else {
+                            router.useUserPoint(id, random.nextLong(1, 400_000L));
+                        }
+                        succeeded.incrementAndGet();
+                    } catch (RuntimeException ignored) {
+                        // 잔액 부족, 최대 잔액 초과로 거절된 요청
+                    }
+                }
+            }));
+        }
+        router.addNode("node-3", newInstance("node-3"));
+        router.removeNode("node-1");
+        router.addNode("node-4", newInstance("node-4"));
+        for(Future<?> worker : workers) {
+            worker.get();
+        }
+        executorService.shutdown();
+
+        // then
+        int historyCount = 0;
+        for(long id = 1; id <= userCount; id++) {
+            UserPoint userPoint = router.selectUserPointById(id);
+            List<PointHistory> histories = router.selectPointHistoriesByUserId(id);
+            long balance = 0L;
+            for(PointHistory pointHistory : histories) {
+                balance += pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+                assertThat(balance).isBetween(0L, MAX_AVAILABLE_POINT);
+            }
+            assertThat(userPoint.point()).isEqualTo(balance);
+            historyCount += histories.size();
+        }
+        assertThat(historyCount).isEqualTo(succeeded.get());
+    }
+
+    private PointShards newInstance(String name) {
+        PointShards instance = new PointShards(name, 2, 4, false, pointMetrics, new PointStatistics(30), PointAdmissionControl.unlimited(pointMetrics), PointHolds.unscheduled());
+        instances.add(instance);
+        return instance;
+    }
+}